@@ -0,0 +1,104 @@
+package com.project.electricitymanagement.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+/**
+ * Filter that writes one access log line per request, as key-value pairs:
+ * {@code method=GET path=/api/customers/1 status=200 durationMs=4}.
+ * For streamed responses the line is written when the response is complete.
+ * Enabled with the {@code access-log.enabled} property.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "access-log.enabled", havingValue = "true")
+public class AccessLogFilter extends OncePerRequestFilter {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccessLogFilter.class);
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /**
+     * Passes the request down the chain and logs it once the response is complete.
+     *
+     * @param request     the current request.
+     * @param response    the current response.
+     * @param filterChain the rest of the chain.
+     * @throws ServletException if the chain fails.
+     * @throws IOException      if the chain fails.
+     */
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        if (!LOGGER.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, startedAt));
+            } else {
+                log(request, failed ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus(), startedAt);
+            }
+        }
+    }
+
+    private static void log(final HttpServletRequest request, final int status, final long startedAt) {
+        LOGGER.info("method={} path={} status={} durationMs={}", request.getMethod(), request.getRequestURI(), status,
+                (System.nanoTime() - startedAt) / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Logs an asynchronous request when its response is complete.
+     */
+    private static final class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startedAt;
+
+        private CompletionListener(final HttpServletRequest asyncRequest, final HttpServletResponse asyncResponse, final long start) {
+            this.request = asyncRequest;
+            this.response = asyncResponse;
+            this.startedAt = start;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            log(request, response.getStatus(), startedAt);
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            // logged by onComplete once the container has written the error response
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            // logged by onComplete once the container has written the error response
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
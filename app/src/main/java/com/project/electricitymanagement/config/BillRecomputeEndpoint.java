@@ -0,0 +1,30 @@
+package com.project.electricitymanagement.config;
+
+import com.project.electricitymanagement.dto.BillRecomputeStatus;
+import com.project.electricitymanagement.service.BillRecomputeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+/**
+ * Actuator endpoint, at {@code /actuator/billrecompute}, reporting the progress of the bill recomputes queued
+ * by changes to the tariff and to the meters.
+ */
+@Component
+@Endpoint(id = "billrecompute")
+public class BillRecomputeEndpoint {
+    @Autowired
+    private BillRecomputeService billRecomputeService;
+
+    /**
+     * Lists the most recent bill recomputes.
+     *
+     * @return the statuses of the recomputes, newest first.
+     */
+    @ReadOperation
+    public List<BillRecomputeStatus> recomputes() {
+        return billRecomputeService.getRecentStatuses();
+    }
+}
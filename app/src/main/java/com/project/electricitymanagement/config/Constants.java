@@ -0,0 +1,34 @@
+package com.project.electricitymanagement.config;
+
+/**
+ * Application constants.
+ */
+public final class Constants {
+
+    public static final String CUSTOMER = "Customer";
+    public static final String METER = "Meter";
+    public static final String ID = "id";
+    public static final String SUPPLIER = "Supplier";
+    public static final String PRICE_PER_UNIT = "PricePerUnit";
+    public static final String BILL_RUN = "Bill run";
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String DEFAULT_PAGE_SIZE = "100";
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_READINGS_PER_REQUEST = 1000;
+    public static final String CSV = "text/csv";
+    public static final String CUSTOMER_SEQUENCE = "customer";
+    public static final String BILLING_DATA_VERSION = "billing";
+    public static final String METER_DATA_VERSION = "meter";
+    public static final String SUPPLIER_DATA_VERSION = "supplier";
+    public static final String PRICE_PER_UNIT_DATA_VERSION = "price_per_unit";
+    public static final String METER_CACHE_REGION = "meter";
+    public static final String SUPPLIER_CACHE_REGION = "supplier";
+    public static final String PRICE_PER_UNIT_CACHE_REGION = "price-per-unit";
+
+    /**
+     * Private constructor to prevent the instantiation of the Constant class.
+     */
+
+    private Constants() {
+    }
+}
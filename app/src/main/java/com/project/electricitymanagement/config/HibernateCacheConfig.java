@@ -0,0 +1,80 @@
+package com.project.electricitymanagement.config;
+
+import org.ehcache.config.Configuration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Configuration class for the Hibernate second-level cache of the reference data: meters, suppliers and price per unit
+ * slabs, plus the results of the queries marked cacheable on their repositories.
+ * Every region is an Ehcache heap cache bounded by a number of entries, evicting the least recently used ones when full.
+ * The entities use the read-write strategy, so a change made through Hibernate replaces the cached entry when the
+ * transaction commits and the cached query results of the changed table are invalidated. Rows changed with plain SQL
+ * are not seen by the cache.
+ */
+@org.springframework.context.annotation.Configuration
+public class HibernateCacheConfig {
+    /**
+     * Entries of the update timestamps region, which holds one timestamp per table and must never evict one,
+     * or a stale query result could be served.
+     */
+    private static final long TIMESTAMP_ENTRIES = 100;
+
+    @Value("${hibernate-cache.meter.max-entries:10000}")
+    private long meterEntries;
+    @Value("${hibernate-cache.supplier.max-entries:1000}")
+    private long supplierEntries;
+    @Value("${hibernate-cache.price-per-unit.max-entries:1000}")
+    private long pricePerUnitEntries;
+    @Value("${hibernate-cache.query.max-entries:1000}")
+    private long queryEntries;
+
+    /**
+     * Creates the cache manager holding the cache regions. Each application context gets a cache manager of its own.
+     *
+     * @return the cache manager, closed with the application context.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        Configuration configuration = ConfigurationBuilder.newConfigurationBuilder()
+                .withCache(Constants.METER_CACHE_REGION, region(meterEntries))
+                .withCache(Constants.SUPPLIER_CACHE_REGION, region(supplierEntries))
+                .withCache(Constants.PRICE_PER_UNIT_CACHE_REGION, region(pricePerUnitEntries))
+                .withCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryEntries))
+                .withCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(TIMESTAMP_ENTRIES))
+                .build();
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        return provider.getCacheManager(URI.create("urn:electricitymanagement:hibernate:" + UUID.randomUUID()), configuration);
+    }
+
+    /**
+     * Hands the cache manager to Hibernate. A region without a configured cache fails the start up instead of
+     * being created unbounded.
+     *
+     * @param hibernateCacheManager the cache manager holding the regions.
+     * @return the customizer of the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(final CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private static CacheConfigurationBuilder<Object, Object> region(final long maxEntries) {
+        return CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries));
+    }
+}
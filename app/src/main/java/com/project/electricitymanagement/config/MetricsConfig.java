@@ -0,0 +1,144 @@
+package com.project.electricitymanagement.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.MeterReadingService;
+import com.project.electricitymanagement.service.TariffIndex;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.function.Supplier;
+
+/**
+ * Configuration class for the application metrics.
+ * Service methods annotated with {@code @Timed} are timed by the {@link TimedAspect}; the caches on the billing path
+ * keep their own counters, which are read by the registry when it is scraped so that a lookup costs no more than
+ * an increment.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Creates the aspect that records a timer for every method of the classes annotated with {@code @Timed}.
+     *
+     * @param registry the meter registry.
+     * @return the timed aspect.
+     */
+    @Bean
+    public TimedAspect timedAspect(final MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Publishes the counters of the meter cache.
+     *
+     * @param meterCache the meter cache.
+     * @return the binder registering the meter cache metrics.
+     */
+    @Bean
+    public MeterBinder meterCacheMetrics(final MeterCache meterCache) {
+        return registry -> {
+            FunctionCounter.builder("billing.meter.cache.requests", meterCache, MeterCache::getHitCount)
+                    .tag("result", "hit")
+                    .description("Meter lookups on the billing path")
+                    .register(registry);
+            FunctionCounter.builder("billing.meter.cache.requests", meterCache, MeterCache::getMissCount)
+                    .tag("result", "miss")
+                    .description("Meter lookups on the billing path")
+                    .register(registry);
+            FunctionCounter.builder("billing.meter.cache.evictions", meterCache, MeterCache::getEvictionCount)
+                    .description("Meters evicted because the cache was full")
+                    .register(registry);
+            Gauge.builder("billing.meter.cache.size", meterCache, MeterCache::size)
+                    .description("Meters currently cached")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Publishes the counters of the customer and bill caches, tagged with the cache name.
+     *
+     * @param customerCache the customer cache.
+     * @return the binder registering the customer cache metrics.
+     */
+    @Bean
+    public MeterBinder customerCacheMetrics(final CustomerCache customerCache) {
+        return registry -> {
+            bindCacheStats(registry, "customer", customerCache::getCustomerStats);
+            bindCacheStats(registry, "bill", customerCache::getBillStats);
+            Gauge.builder("billing.customer.cache.size", customerCache, CustomerCache::customerCount)
+                    .tag("cache", "customer")
+                    .description("Entries currently cached")
+                    .register(registry);
+            Gauge.builder("billing.customer.cache.size", customerCache, CustomerCache::billCount)
+                    .tag("cache", "bill")
+                    .description("Entries currently cached")
+                    .register(registry);
+        };
+    }
+
+    private static void bindCacheStats(final MeterRegistry registry, final String cache, final Supplier<CacheStats> stats) {
+        FunctionCounter.builder("billing.customer.cache.requests", stats, s -> s.get().hitCount())
+                .tags("cache", cache, "result", "hit")
+                .description("Customer and bill lookups by id")
+                .register(registry);
+        FunctionCounter.builder("billing.customer.cache.requests", stats, s -> s.get().missCount())
+                .tags("cache", cache, "result", "miss")
+                .description("Customer and bill lookups by id")
+                .register(registry);
+        FunctionCounter.builder("billing.customer.cache.evictions", stats, s -> s.get().evictionCount())
+                .tag("cache", cache)
+                .description("Entries evicted because the cache was full or the entry expired")
+                .register(registry);
+        Gauge.builder("billing.customer.cache.hit.ratio", stats, s -> s.get().hitRate())
+                .tag("cache", cache)
+                .description("Share of the lookups answered from the cache since the start")
+                .register(registry);
+    }
+
+    /**
+     * Publishes the counters of the group commit of meter readings. Readings per group is the ratio of the two counters.
+     *
+     * @param meterReadingService the meter reading service.
+     * @return the binder registering the meter reading metrics.
+     */
+    @Bean
+    public MeterBinder meterReadingMetrics(final MeterReadingService meterReadingService) {
+        return registry -> {
+            FunctionCounter.builder("billing.meter.readings", meterReadingService, MeterReadingService::getReadingCount)
+                    .description("Meter readings committed")
+                    .register(registry);
+            FunctionCounter.builder("billing.meter.reading.groups", meterReadingService, MeterReadingService::getGroupCount)
+                    .description("Transactions committing meter readings, each shared by the requests queued at the time")
+                    .register(registry);
+            Gauge.builder("billing.meter.reading.queue.size", meterReadingService, MeterReadingService::queueSize)
+                    .description("Meter reading requests waiting for the next commit")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Publishes the counters of the tariff index.
+     *
+     * @param tariffIndex the tariff index.
+     * @return the binder registering the tariff metrics.
+     */
+    @Bean
+    public MeterBinder tariffIndexMetrics(final TariffIndex tariffIndex) {
+        return registry -> {
+            FunctionCounter.builder("billing.tariff.lookups", tariffIndex, TariffIndex::getHitCount)
+                    .tag("result", "found")
+                    .description("Price per unit lookups")
+                    .register(registry);
+            FunctionCounter.builder("billing.tariff.lookups", tariffIndex, TariffIndex::getMissCount)
+                    .tag("result", "not_found")
+                    .description("Price per unit lookups")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.electricitymanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class for reading from replicas, enabled with {@code read-replica.enabled=true}.
+ * The primary pool is configured by the usual {@code spring.datasource.*} properties and the replicas by
+ * {@code read-replica.*}. Read-only service methods use a replica; writes, and reads outside a transaction, use the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "read-replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    /**
+     * Creates the connection pool of the primary database.
+     *
+     * @param dataSourceProperties the {@code spring.datasource.*} properties.
+     * @return the primary pool.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates the data source routing between the primary and the replica pools, and starts the replica health checks.
+     *
+     * @param primaryDataSource    the primary pool.
+     * @param dataSourceProperties the {@code spring.datasource.*} properties, for the default replica credentials.
+     * @param replicaProperties    the {@code read-replica.*} properties.
+     * @return the routing data source.
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(final HikariDataSource primaryDataSource,
+            final DataSourceProperties dataSourceProperties, final ReadReplicaProperties replicaProperties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(replicaProperties.getUsername() != null ? replicaProperties.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(replicaProperties.getPassword() != null ? replicaProperties.getPassword() : dataSourceProperties.determinePassword());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas);
+        routingDataSource.startHealthChecks(replicaProperties.getHealthCheckInterval());
+        return routingDataSource;
+    }
+
+    /**
+     * Exposes the routing data source to JPA, JDBC and Flyway. The proxy only takes a connection on the first statement,
+     * once the transaction has been marked read-only or not.
+     *
+     * @param replicaRoutingDataSource the routing data source.
+     * @return the application data source.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Creates the filter that keeps the reads of a client on the primary right after it has written.
+     *
+     * @param replicaProperties the {@code read-replica.*} properties.
+     * @return the read-your-writes filter.
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(final ReadReplicaProperties replicaProperties) {
+        return new ReadYourWritesFilter(replicaProperties.getReadYourWritesWindow());
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.electricitymanagement.config;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the read replicas, bound from the {@code read-replica.*} properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "read-replica")
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class ReadReplicaProperties {
+    /**
+     * Whether read-only transactions are sent to the replicas.
+     */
+    private boolean enabled;
+    /**
+     * JDBC URLs of the replicas.
+     */
+    private List<String> urls = new ArrayList<>();
+    /**
+     * User name of the replicas, the primary one when not set.
+     */
+    private String username;
+    /**
+     * Password of the replicas, the primary one when not set.
+     */
+    private String password;
+    /**
+     * Maximum number of connections in each replica pool.
+     */
+    private int maximumPoolSize = 10;
+    /**
+     * How long a request waits for a replica connection before it is sent to the primary.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+    /**
+     * How often the replicas are checked.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    /**
+     * How long the reads of a client stay on the primary after it has written, so that it sees its own changes
+     * while the replicas catch up.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+}
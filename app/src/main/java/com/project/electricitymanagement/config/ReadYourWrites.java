@@ -0,0 +1,66 @@
+package com.project.electricitymanagement.config;
+
+/**
+ * Per-thread state that keeps the reads of a request on the primary database when its client has just written.
+ * A request that carries a recent write from an earlier request, or that writes itself, reads from the primary
+ * until it ends.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Starts the scope of a request on the current thread.
+     *
+     * @param primaryUntil epoch milliseconds until which the client must read from the primary, 0 if it hasn't written.
+     * @param onWrite      called once, on the first write of the request.
+     */
+    public static void begin(final long primaryUntil, final Runnable onWrite) {
+        CURRENT.set(new Scope(primaryUntil, onWrite));
+    }
+
+    /**
+     * Ends the scope of the request on the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Tells whether reads on the current thread must go to the primary.
+     *
+     * @return true when the current request wrote, or its client wrote within the read-your-writes window.
+     */
+    public static boolean isPrimaryRequired() {
+        Scope scope = CURRENT.get();
+        return scope != null && (scope.wrote || System.currentTimeMillis() < scope.primaryUntil);
+    }
+
+    /**
+     * Records that the current request writes to the primary.
+     */
+    public static void recordWrite() {
+        Scope scope = CURRENT.get();
+        if (scope != null && !scope.wrote) {
+            scope.wrote = true;
+            scope.onWrite.run();
+        }
+    }
+
+    /**
+     * Read-your-writes state of one request.
+     */
+    private static final class Scope {
+        private final long primaryUntil;
+        private final Runnable onWrite;
+        private boolean wrote;
+
+        private Scope(final long primaryUntilMillis, final Runnable writeCallback) {
+            this.primaryUntil = primaryUntilMillis;
+            this.onWrite = writeCallback;
+        }
+    }
+}
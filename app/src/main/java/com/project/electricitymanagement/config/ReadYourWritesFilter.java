@@ -0,0 +1,86 @@
+package com.project.electricitymanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Filter that keeps the reads of a client on the primary database for a while after it has written.
+ * The first write of a request sets a cookie holding the time until which the client must read from the primary,
+ * and the requests that send it back within that time skip the replicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    /**
+     * Name of the cookie holding the epoch milliseconds until which the client reads from the primary.
+     */
+    public static final String COOKIE = "primary-until";
+
+    private final Duration window;
+
+    /**
+     * Creates the filter.
+     *
+     * @param readYourWritesWindow how long the reads of a client stay on the primary after it has written.
+     */
+    public ReadYourWritesFilter(final Duration readYourWritesWindow) {
+        this.window = readYourWritesWindow;
+    }
+
+    /**
+     * Opens the read-your-writes scope of the request around the rest of the chain.
+     *
+     * @param request     the current request.
+     * @param response    the current response.
+     * @param filterChain the rest of the chain.
+     * @throws ServletException if the chain fails.
+     * @throws IOException      if the chain fails.
+     */
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWrites.begin(primaryUntil(request), () -> {
+            Cookie cookie = new Cookie(COOKIE, Long.toString(System.currentTimeMillis() + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    /**
+     * Reads the time until which the client must read from the primary. The cookie comes from the client, so it is
+     * never trusted beyond the window: a value a little ahead of it, as set by an instance whose clock runs ahead, is
+     * cut down to it, and a malformed value or one further ahead than twice the window is ignored.
+     */
+    private long primaryUntil(final HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    long primaryUntil;
+                    try {
+                        primaryUntil = Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                    long latest = System.currentTimeMillis() + window.toMillis();
+                    if (primaryUntil <= 0 || primaryUntil - latest > window.toMillis()) {
+                        return 0;
+                    }
+                    return Math.min(primaryUntil, latest);
+                }
+            }
+        }
+        return 0;
+    }
+}
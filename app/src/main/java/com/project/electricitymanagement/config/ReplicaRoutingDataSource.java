@@ -0,0 +1,186 @@
+package com.project.electricitymanagement.config;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source that sends read-only transactions to the read replicas, in turn, and everything else to the primary.
+ * Replicas are checked in the background; reads go to the primary while no replica is healthy, or when a replica
+ * fails to hand out a connection. It must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the connection is only
+ * taken once the transaction has been marked read-only.
+ */
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    /**
+     * Lookup key of the primary database.
+     */
+    public static final String PRIMARY = "primary";
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+    /**
+     * Keys of the replicas that passed the last check, replaced as a whole by each check.
+     */
+    private volatile List<String> healthyReplicas;
+
+    /**
+     * Creates a data source routing between the primary and the given replicas, all assumed healthy until checked.
+     *
+     * @param primaryDataSource the primary database.
+     * @param replicaDataSources the replicas by name.
+     */
+    public ReplicaRoutingDataSource(final DataSource primaryDataSource, final Map<String, DataSource> replicaDataSources) {
+        this.primary = primaryDataSource;
+        this.replicas = new LinkedHashMap<>(replicaDataSources);
+        this.healthyReplicas = List.copyOf(replicas.keySet());
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Starts checking the replicas in the background.
+     *
+     * @param interval the time between two checks.
+     */
+    public void startHealthChecks(final Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks every replica with a fresh connection and publishes the ones that answered.
+     */
+    public void checkReplicas() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((name, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    healthy.add(name);
+                }
+            } catch (SQLException e) {
+                LOGGER.debug("Replica {} failed its health check", name, e);
+            }
+        });
+        if (!healthy.equals(healthyReplicas)) {
+            LOGGER.warn("Healthy read replicas changed from {} to {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    /**
+     * Returns the replicas that reads are currently sent to.
+     *
+     * @return the names of the healthy replicas.
+     */
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    /**
+     * Chooses the primary for writes, for reads outside a transaction and for clients that have just written,
+     * and the next healthy replica for the other read-only transactions.
+     *
+     * @return the key of the database to use.
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.recordWrite();
+            }
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty() || ReadYourWrites.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * Takes a connection from the chosen database, falling back to the primary if a replica can't give one.
+     *
+     * @return the connection.
+     * @throws SQLException if the primary can't give a connection either.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Takes a connection for the given user, always from the primary.
+     *
+     * @param username the database user.
+     * @param password the password of the user.
+     * @return the connection.
+     * @throws SQLException if the primary can't give a connection.
+     */
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private void markUnhealthy(final Object key, final SQLException cause) {
+        LOGGER.warn("Read replica {} is unavailable, reading from the primary until it passes a health check", key, cause);
+        List<String> healthy = new ArrayList<>(healthyReplicas);
+        healthy.remove(key);
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    /**
+     * Stops the health checks and closes the replica pools.
+     *
+     * @throws Exception if a pool fails to close.
+     */
+    @Override
+    public void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.electricitymanagement.controller;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.BillRunStatus;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.service.BillRunService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller class for handling HTTP requests related to bill runs.
+ */
+@RestController
+@RequestMapping("/api/bill-runs")
+@Tag(name = "Bill Run Controller", description = "Endpoints for recalculating the bills of all customers")
+public class BillRunController {
+    @Autowired
+    private BillRunService billRunService;
+
+    /**
+     * Starts a bill run that recalculates the bill of every customer.
+     *
+     * @return The Response entity with the status of the bill run that was started.
+     */
+    @PostMapping
+    @Operation(summary = "Start a bill run for all customers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Bill run started"),
+            @ApiResponse(responseCode = "409", description = "A bill run is already running"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BillRunStatus> startBillRun() {
+        BillRunStatus status = billRunService.start();
+        return new ResponseEntity<>(status, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Retrieves the progress of the latest bill run.
+     *
+     * @return The Response entity with the status of the latest bill run.
+     */
+    @GetMapping("/latest")
+    @Operation(summary = "Retrieve the progress of the latest bill run")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved bill run status"),
+            @ApiResponse(responseCode = "404", description = "No bill run was started"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BillRunStatus> getLatestBillRun() {
+        BillRunStatus status = billRunService.getLatestStatus()
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.BILL_RUN, Constants.ID, "latest"));
+        return new ResponseEntity<>(status, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,281 @@
+package com.project.electricitymanagement.controller;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.dto.CustomerImportReport;
+import com.project.electricitymanagement.dto.KeysetPage;
+import com.project.electricitymanagement.dto.MeterReadingDto;
+import com.project.electricitymanagement.dto.MeterReadingResult;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.service.CustomerImportService;
+import com.project.electricitymanagement.service.CustomerService;
+import com.project.electricitymanagement.service.MeterReadingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Controller class for handling HTTP requests related to customers.
+ */
+@RestController
+@RequestMapping("/api/customers")
+@Tag(name = "Customer Controller", description = "Endpoints for managing customers")
+public class CustomerController {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerController.class);
+    @Autowired
+    private CustomerService customerService;
+    @Autowired
+    private CustomerImportService customerImportService;
+    @Autowired
+    private MeterReadingService meterReadingService;
+    @Autowired
+    private NdjsonResponseWriter ndjsonResponseWriter;
+
+    /**
+     * Retrieves all customers.
+     *
+     * @return The Response entity with the list of all customers.
+     */
+
+    @GetMapping
+    @Operation(summary = "Retrieve all customers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of customers"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<Customer>> getAllCustomers() {
+        List<Customer> customers = customerService.getAllCustomers();
+        return new ResponseEntity<>(customers, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves one page of customers ordered by id.
+     *
+     * @param after The id of the last customer of the previous page, omitted for the first page.
+     * @param size  The maximum number of customers in the page, capped at {@value Constants#MAX_PAGE_SIZE}.
+     * @return The Response entity with the page of customers and the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Retrieve one page of customers ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of customers"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<KeysetPage<Customer>> getCustomersPage(@RequestParam(value = "after", required = false) final Long after,
+            @RequestParam(value = "size", defaultValue = Constants.DEFAULT_PAGE_SIZE) final int size) {
+        KeysetPage<Customer> page = customerService.getCustomersPage(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Streams all customers as newline delimited JSON, one customer per line.
+     *
+     * @return The Response entity that writes the customers while they are read from the database.
+     */
+    @GetMapping(value = "/stream", produces = Constants.NDJSON)
+    @Operation(summary = "Stream all customers as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming customers"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllCustomers() {
+        StreamingResponseBody body = ndjsonResponseWriter.write(customerService::streamAllCustomers);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(Constants.NDJSON)).body(body);
+    }
+    /**
+     * Retrieves a customer by its id.
+     *
+     * @param id The id of the customer to retrieve.
+     * @return The Response entity with the customer with the specified id.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Retrieve a customer by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved customer"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<Customer> getCustomerById(@PathVariable(value = "id") final Long id) {
+        Customer customer = customerService.getCustomerById(id);
+        return new ResponseEntity<>(customer, HttpStatus.OK);
+    }
+    /**
+     * Creates a new customer.
+     *
+     * @param customerDto The customerDto containing information about the new customer.
+     * @return The Response entity with the newly created customer.
+     */
+    @PostMapping
+    @Operation(summary = "Create a new customer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Customer created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<Customer> createCustomer(@Valid @RequestBody final CustomerDto customerDto) {
+        Customer createdCustomer = customerService.createCustomer(customerDto);
+        LOGGER.info("New customer created with id {}", createdCustomer.getId());
+        return new ResponseEntity<>(createdCustomer, HttpStatus.CREATED);
+    }
+    /**
+     * Updates an existing customer.
+     *
+     * @param id          The id of the customer to update
+     * @param customerDetails The customerDto that contains the updated information of the customer.
+     * @return The Response entity with the updated customer.
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Update an existing customer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+    })
+    public ResponseEntity<Customer> updateCustomer(@PathVariable(value = "id") final Long id,
+                                                   @Valid @RequestBody final CustomerDto customerDetails) {
+        Customer updatedCustomer = customerService.updateCustomer(id, customerDetails);
+
+        LOGGER.info("Updated customer with id {}", id);
+        return new ResponseEntity<>(updatedCustomer, HttpStatus.OK);
+    }
+    /**
+     * Retrieves the bill of the customer by its id.
+     *
+     * @param id The id of the customer
+     * @return The Response entity with the bill amount of the given customer id.
+     */
+    @GetMapping("/{id}/bill")
+    @Operation(summary = "Retrieve the bill amount of a customer by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved bill amount"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BigDecimal> getBillById(@PathVariable(value = "id") final Long id) {
+
+        BigDecimal billAmount = customerService.getCustomerBillById(id);
+
+        return new ResponseEntity<>(billAmount, HttpStatus.OK);
+    }
+    /**
+     * Deletes a customer by its id.
+     *
+     * @param id The id of the customer to be deleted.
+     * @return Status of operation: 200 if successful, or 404 if customer is not found.
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a customer by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer deleted successfully"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    public ResponseEntity<Object> deleteCustomerById(@PathVariable(value = "id") final Long id) {
+
+        customerService.deleteCustomerById(id);
+        LOGGER.info("Customer deleted with id {}", id);
+
+        return ResponseEntity.ok().build();
+    }
+    /**
+     * Creates customers in bulk from a JSON array of customers.
+     *
+     * @param body The request body holding the JSON array.
+     * @return The Response entity with the outcome of every row.
+     * @throws IOException if the request body can't be read.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import customers from a JSON array")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see the report for the rejected rows"),
+            @ApiResponse(responseCode = "400", description = "The body is not a JSON array"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CustomerImportReport> importCustomers(final InputStream body) throws IOException {
+        return new ResponseEntity<>(customerImportService.importJson(body), HttpStatus.OK);
+    }
+
+    /**
+     * Creates customers in bulk from a CSV document with a header line.
+     *
+     * @param body The request body holding the CSV document.
+     * @return The Response entity with the outcome of every row.
+     * @throws IOException if the request body can't be read.
+     */
+    @PostMapping(value = "/import", consumes = Constants.CSV)
+    @Operation(summary = "Import customers from a CSV document")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see the report for the rejected rows"),
+            @ApiResponse(responseCode = "400", description = "The CSV header is missing or incomplete"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<CustomerImportReport> importCustomersCsv(final InputStream body) throws IOException {
+        return new ResponseEntity<>(customerImportService.importCsv(body), HttpStatus.OK);
+    }
+
+    /**
+     * Records a new meter reading of a customer: the current reading becomes the last reading and the bill is recalculated.
+     *
+     * @param id      The id of the customer.
+     * @param reading The new reading.
+     * @return The Response entity with the readings and bill of the customer.
+     */
+    @PostMapping("/{id}/readings")
+    @Operation(summary = "Record a meter reading of a customer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reading recorded"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, or the reading is lower than the current reading"),
+            @ApiResponse(responseCode = "404", description = "Customer not found, or no price per unit for the consumption"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<MeterReadingResult> recordReading(@PathVariable(value = "id") final Long id,
+                                                            @Valid @RequestBody final MeterReadingDto reading) {
+        reading.setCustomerId(id);
+        return new ResponseEntity<>(meterReadingService.recordReading(reading), HttpStatus.OK);
+    }
+
+    /**
+     * Records meter readings of several customers, all or none of them.
+     *
+     * @param readings The readings, each with the id of its customer, validated by the service.
+     * @return The Response entity with the readings and bill of the customer after each reading.
+     */
+    @PostMapping("/readings")
+    @Operation(summary = "Record a batch of meter readings, all or none of them")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Readings recorded"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, or a reading is lower than the current reading"),
+            @ApiResponse(responseCode = "404", description = "A customer was not found, or no price per unit for a consumption"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<MeterReadingResult>> recordReadings(@RequestBody final List<MeterReadingDto> readings) {
+        List<MeterReadingResult> results = meterReadingService.recordReadings(readings);
+        LOGGER.debug("Recorded {} meter readings", results.size());
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+}
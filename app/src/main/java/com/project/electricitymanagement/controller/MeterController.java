@@ -1,5 +1,7 @@
 package com.project.electricitymanagement.controller;
 
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.KeysetPage;
 import com.project.electricitymanagement.dto.MeterDto;
 import com.project.electricitymanagement.service.MeterService;
 import com.project.electricitymanagement.entity.Meter;
@@ -12,6 +14,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,7 +23,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -37,25 +43,61 @@ public class MeterController {
     private static final Logger LOGGER = LoggerFactory.getLogger(MeterController.class);
     @Autowired
     private MeterService meterService;
+    @Autowired
+    private NdjsonResponseWriter ndjsonResponseWriter;
+    @Autowired
+    private VersionedResponses versionedResponses;
 
     /**
-     * Retrieves all meters.
+     * Retrieves all meters, unless the client's copy is current.
      *
-     * @return The Response entity with the list of meters.
+     * @param request The request, whose If-None-Match header is checked against the meter table version.
+     * @return The Response entity with the list of meters, or null once answered as not modified.
      */
     @GetMapping
     @Operation(summary = "Retrieve all meters")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of meters"),
+            @ApiResponse(responseCode = "304", description = "The meters have not changed since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<Meter>> getAllMeters() {
-        LOGGER.info("Request for fetching all meters");
+    public ResponseEntity<List<Meter>> getAllMeters(final ServletWebRequest request) {
+        return versionedResponses.get(Constants.METER_DATA_VERSION, request, meterService::getAllMeters);
+    }
 
-        List<Meter> meters = meterService.getAllMeters();
-        LOGGER.info(String.format("Fetched %d meters", meters.size()));
+    /**
+     * Retrieves one page of meters ordered by id.
+     *
+     * @param after The id of the last meter of the previous page, omitted for the first page.
+     * @param size  The maximum number of meters in the page, capped at {@value Constants#MAX_PAGE_SIZE}.
+     * @return The Response entity with the page of meters and the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Retrieve one page of meters ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of meters"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<KeysetPage<Meter>> getMetersPage(@RequestParam(value = "after", required = false) final Long after,
+            @RequestParam(value = "size", defaultValue = Constants.DEFAULT_PAGE_SIZE) final int size) {
+        KeysetPage<Meter> page = meterService.getMetersPage(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
 
-        return new ResponseEntity<>(meters, HttpStatus.OK);
+    /**
+     * Streams all meters as newline delimited JSON, one meter per line.
+     *
+     * @return The Response entity that writes the meters while they are read from the database.
+     */
+    @GetMapping(value = "/stream", produces = Constants.NDJSON)
+    @Operation(summary = "Stream all meters as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming meters"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllMeters() {
+        StreamingResponseBody body = ndjsonResponseWriter.write(meterService::streamAllMeters);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(Constants.NDJSON)).body(body);
     }
 
     /**
@@ -72,10 +114,8 @@ public class MeterController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Meter> getMeterById(@PathVariable(value = "id")final Long id) {
-        LOGGER.info(String.format("Request for meter with id %d", id));
 
         Meter meter = meterService.getMeterById(id);
-        LOGGER.info(String.format("Fetched meter with id %d", id));
 
         return new ResponseEntity<>(meter, HttpStatus.OK);
     }
@@ -93,10 +133,9 @@ public class MeterController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Meter> createMeter(@Valid @RequestBody final MeterDto meterDto) {
-        LOGGER.info(("Request for creating a new meter"));
 
         Meter createdMeter = meterService.createMeter(meterDto);
-        LOGGER.info(String.format("New meter created with id %d", createdMeter.getId()));
+        LOGGER.info("New meter created with id {}", createdMeter.getId());
 
         return new ResponseEntity<>(createdMeter, HttpStatus.CREATED);
     }
@@ -117,10 +156,9 @@ public class MeterController {
     })
     public ResponseEntity<Meter> updateMeter(@PathVariable(value = "id")final  Long id,
                                              @Valid @RequestBody final MeterDto meterDetails) {
-        LOGGER.info(String.format("Request for updating meter with id %d", id));
 
         Meter updatedMeter = meterService.updateMeter(id, meterDetails);
-        LOGGER.info(String.format("Updated meter with id %d", id));
+        LOGGER.info("Updated meter with id {}", id);
 
         return new ResponseEntity<>(updatedMeter, HttpStatus.OK);
     }
@@ -138,10 +176,9 @@ public class MeterController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Object> deleteMeter(@PathVariable(value = "id") final Long id) {
-        LOGGER.info(String.format("Request to delete meter with id %d", id));
 
         meterService.deleteMeter(id);
-        LOGGER.info(String.format("Meter deleted with id %d", id));
+        LOGGER.info("Meter deleted with id {}", id);
 
         return ResponseEntity.ok().build();
     }
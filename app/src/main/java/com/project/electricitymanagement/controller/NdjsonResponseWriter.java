@@ -0,0 +1,46 @@
+package com.project.electricitymanagement.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes rows to the response as newline delimited JSON while they are being read,
+ * so that the memory used by a list endpoint doesn't depend on the size of the table.
+ */
+@Component
+public class NdjsonResponseWriter {
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Creates a response body that writes every row produced by the source as one JSON document per line.
+     *
+     * @param source the source of the rows, which passes every row to the consumer it is given.
+     * @param <T>    the type of the rows.
+     * @return the streaming response body.
+     */
+    public <T> StreamingResponseBody write(final Consumer<Consumer<T>> source) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                source.accept(row -> {
+                    try {
+                        writer.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.project.electricitymanagement.controller;
 
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.KeysetPage;
 import com.project.electricitymanagement.dto.PricePerUnitDto;
 import com.project.electricitymanagement.service.PricePerUnitService;
 import com.project.electricitymanagement.entity.PricePerUnit;
@@ -12,6 +14,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,7 +23,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 
 /**
@@ -36,24 +42,61 @@ public class PricePerUnitController {
     private static final Logger LOGGER = LoggerFactory.getLogger(PricePerUnitController.class);
     @Autowired
     private PricePerUnitService pricePerUnitService;
+    @Autowired
+    private NdjsonResponseWriter ndjsonResponseWriter;
+    @Autowired
+    private VersionedResponses versionedResponses;
 
     /**
-     * Retrieves all Prices per unit.
+     * Retrieves all Prices per unit, unless the client's copy is current.
      *
-     * @return The Response entity with the list of all price per unit.
+     * @param request The request, whose If-None-Match header is checked against the price per unit table version.
+     * @return The Response entity with the list of all price per unit, or null once answered as not modified.
      */
     @GetMapping
     @Operation(summary = "Retrieve all prices per unit")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of prices per unit"),
+            @ApiResponse(responseCode = "304", description = "The prices per unit have not changed since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<PricePerUnit>> getAllPricePerUnit() {
-        LOGGER.info("Request for fetching all prices per unit");
-        List<PricePerUnit> pricePerUnits = pricePerUnitService.getAllPricePerUnit();
-        LOGGER.info(String.format("Fetched %d prices per unit", pricePerUnits.size()));
-        return new ResponseEntity<>(pricePerUnits, HttpStatus.OK);
+    public ResponseEntity<List<PricePerUnit>> getAllPricePerUnit(final ServletWebRequest request) {
+        return versionedResponses.get(Constants.PRICE_PER_UNIT_DATA_VERSION, request, pricePerUnitService::getAllPricePerUnit);
+    }
 
+    /**
+     * Retrieves one page of prices per unit ordered by id.
+     *
+     * @param after The id of the last price per unit of the previous page, omitted for the first page.
+     * @param size  The maximum number of prices per unit in the page, capped at {@value Constants#MAX_PAGE_SIZE}.
+     * @return The Response entity with the page of prices per unit and the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Retrieve one page of prices per unit ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of prices per unit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<KeysetPage<PricePerUnit>> getPricePerUnitPage(@RequestParam(value = "after", required = false) final Long after,
+            @RequestParam(value = "size", defaultValue = Constants.DEFAULT_PAGE_SIZE) final int size) {
+        KeysetPage<PricePerUnit> page = pricePerUnitService.getPricePerUnitPage(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Streams all prices per unit as newline delimited JSON, one price per unit per line.
+     *
+     * @return The Response entity that writes the prices per unit while they are read from the database.
+     */
+    @GetMapping(value = "/stream", produces = Constants.NDJSON)
+    @Operation(summary = "Stream all prices per unit as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming prices per unit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllPricePerUnit() {
+        StreamingResponseBody body = ndjsonResponseWriter.write(pricePerUnitService::streamAllPricePerUnit);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(Constants.NDJSON)).body(body);
     }
     /**
      * Retrieves a price per unit by its id.
@@ -69,9 +112,7 @@ public class PricePerUnitController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<PricePerUnit> getPricePerUnitById(@PathVariable(value = "id") final Long id) {
-        LOGGER.info(String.format("Request for price per unit with id %d", id));
         PricePerUnit pricePerUnit = pricePerUnitService.getPricePerUnitById(id);
-        LOGGER.info(String.format("Fetched price per unit with id: %d", id));
         return new ResponseEntity<>(pricePerUnit, HttpStatus.OK);
 
     }
@@ -89,10 +130,9 @@ public class PricePerUnitController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<PricePerUnit> createPricePerUnit(@Valid @RequestBody final PricePerUnitDto pricePerUnitDto) {
-        LOGGER.info(("Request for creating a new price per unit."));
 
         PricePerUnit createdPricePerUnit = pricePerUnitService.createPricePerUnit(pricePerUnitDto);
-        LOGGER.info(String.format("New price per unit created with id %d", createdPricePerUnit.getId()));
+        LOGGER.info("New price per unit created with id {}", createdPricePerUnit.getId());
 
         return new ResponseEntity<>(createdPricePerUnit, HttpStatus.CREATED);
     }
@@ -114,10 +154,9 @@ public class PricePerUnitController {
     })
     public ResponseEntity<PricePerUnit> updatePricePerUnit(@PathVariable(value = "id")final  Long id,
                                              @Valid @RequestBody final PricePerUnitDto pricePerUnitDetails) {
-        LOGGER.info(String.format("Request for updating price per unit with id %d", id));
 
         PricePerUnit updatedPricePerUnit  = pricePerUnitService.updatePricePerUnit(id, pricePerUnitDetails);
-        LOGGER.info(String.format("Updated price per unit with id %d", id));
+        LOGGER.info("Updated price per unit with id {}", id);
 
         return new ResponseEntity<>(updatedPricePerUnit, HttpStatus.OK);
     }
@@ -136,10 +175,9 @@ public class PricePerUnitController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Object> deletePricePerUnit(@PathVariable(value = "id") final Long id) {
-        LOGGER.info(String.format("Request to delete price per unit with id %d", id));
 
         pricePerUnitService.deletePricePerUnit(id);
-        LOGGER.info(String.format("Price per unit deleted with id %d", id));
+        LOGGER.info("Price per unit deleted with id {}", id);
 
         return ResponseEntity.ok().build();
     }
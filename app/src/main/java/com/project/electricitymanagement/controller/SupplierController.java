@@ -1,5 +1,7 @@
 package com.project.electricitymanagement.controller;
 
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.KeysetPage;
 import com.project.electricitymanagement.dto.SupplierDto;
 import com.project.electricitymanagement.entity.Supplier;
 import com.project.electricitymanagement.service.SupplierService;
@@ -12,6 +14,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,7 +23,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -38,24 +44,61 @@ public class SupplierController {
     private static final Logger LOGGER = LoggerFactory.getLogger(SupplierController.class);
     @Autowired
     private SupplierService supplierService;
+    @Autowired
+    private NdjsonResponseWriter ndjsonResponseWriter;
+    @Autowired
+    private VersionedResponses versionedResponses;
 
     /**
-     * Retrieves all suppliers.
+     * Retrieves all suppliers, unless the client's copy is current.
      *
-     * @return The Response entity with the list of suppliers.
+     * @param request The request, whose If-None-Match header is checked against the supplier table version.
+     * @return The Response entity with the list of suppliers, or null once answered as not modified.
      */
     @GetMapping
     @Operation(summary = "Retrieve all suppliers")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved list of suppliers"),
+            @ApiResponse(responseCode = "304", description = "The suppliers have not changed since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<Supplier>> getAllSuppliers() {
-        LOGGER.info("Request for fetching all suppliers");
-        List<Supplier> suppliers = supplierService.getAllSuppliers();
-        LOGGER.info(String.format("Fetched %d suppliers", suppliers.size()));
+    public ResponseEntity<List<Supplier>> getAllSuppliers(final ServletWebRequest request) {
+        return versionedResponses.get(Constants.SUPPLIER_DATA_VERSION, request, supplierService::getAllSuppliers);
+    }
 
-        return new ResponseEntity<>(suppliers, HttpStatus.OK);
+    /**
+     * Retrieves one page of suppliers ordered by id.
+     *
+     * @param after The id of the last supplier of the previous page, omitted for the first page.
+     * @param size  The maximum number of suppliers in the page, capped at {@value Constants#MAX_PAGE_SIZE}.
+     * @return The Response entity with the page of suppliers and the cursor of the next page.
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Retrieve one page of suppliers ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of suppliers"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<KeysetPage<Supplier>> getSuppliersPage(@RequestParam(value = "after", required = false) final Long after,
+            @RequestParam(value = "size", defaultValue = Constants.DEFAULT_PAGE_SIZE) final int size) {
+        KeysetPage<Supplier> page = supplierService.getSuppliersPage(after, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    /**
+     * Streams all suppliers as newline delimited JSON, one supplier per line.
+     *
+     * @return The Response entity that writes the suppliers while they are read from the database.
+     */
+    @GetMapping(value = "/stream", produces = Constants.NDJSON)
+    @Operation(summary = "Stream all suppliers as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streaming suppliers"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllSuppliers() {
+        StreamingResponseBody body = ndjsonResponseWriter.write(supplierService::streamAllSuppliers);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(Constants.NDJSON)).body(body);
     }
 
     /**
@@ -72,10 +115,8 @@ public class SupplierController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Supplier> getSupplierById(@PathVariable(value = "id") final Long id) {
-        LOGGER.info(String.format("Request for supplier with id %d", id));
 
         Supplier supplier = supplierService.getSupplierById(id);
-        LOGGER.info(String.format("Fetched supplier with id %d", id));
         return new ResponseEntity<>(supplier, HttpStatus.OK);
     }
 
@@ -93,10 +134,9 @@ public class SupplierController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Supplier> createSupplier(@Valid @RequestBody final SupplierDto supplierDto) {
-        LOGGER.info("Request for creating a new supplier");
 
         Supplier createdSupplier = supplierService.createSupplier(supplierDto);
-        LOGGER.info(String.format("New supplier created with id %d", createdSupplier.getId()));
+        LOGGER.info("New supplier created with id {}", createdSupplier.getId());
 
         return new ResponseEntity<>(createdSupplier, HttpStatus.CREATED);
     }
@@ -118,10 +158,9 @@ public class SupplierController {
     })
     public ResponseEntity<Supplier> updateSupplier(@PathVariable(value = "id")final  Long id,
                                                    @Valid @RequestBody final SupplierDto supplierDetails) {
-        LOGGER.info(String.format("Request for updating supplier with id %d", id));
 
         Supplier updatedSupplier = supplierService.updateSupplier(id, supplierDetails);
-        LOGGER.info(String.format("Updated supplier with id %d ", id));
+        LOGGER.info("Updated supplier with id {}", id);
 
         return new ResponseEntity<>(updatedSupplier, HttpStatus.OK);
     }
@@ -140,10 +179,9 @@ public class SupplierController {
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Object> deleteSupplier(@PathVariable(value = "id")final Long id) {
-        LOGGER.info(String.format("Request to delete supplier with id %d", id));
 
         supplierService.deleteSupplier(id);
-        LOGGER.info(String.format("Supplier deleted with id %d", id));
+        LOGGER.info("Supplier deleted with id {}", id);
 
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,51 @@
+package com.project.electricitymanagement.controller;
+
+import com.project.electricitymanagement.service.ReferenceDataVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Answers conditional GET requests for the lists of reference data, with an ETag derived from the version of the table
+ * the list is read from. A request whose {@code If-None-Match} matches the current version gets a 304 without a query.
+ * The ETags are weak: Tomcat doesn't compress a response with a strong ETag, and the compressed and plain bodies of a
+ * list aren't byte for byte the same.
+ */
+@Component
+public class VersionedResponses {
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+    @Value("${reference-data.cache-control.max-age:0s}")
+    private Duration maxAge;
+
+    /**
+     * Returns 304 Not Modified when the client holds the current version of the table, or else the body read by the
+     * given supplier. Both carry the ETag and the {@code Cache-Control} header.
+     *
+     * @param versionName the name of the version of the table the body is read from.
+     * @param request     the request, with its response for the headers.
+     * @param body        reads the body, only called when the client's copy is out of date.
+     * @param <T>         the type of the body.
+     * @return the response entity with the body, or null when the response has been answered as not modified.
+     */
+    public <T> ResponseEntity<T> get(final String versionName, final ServletWebRequest request, final Supplier<T> body) {
+        String etag = "W/\"" + versionName + "-" + referenceDataVersion.current(versionName) + "\"";
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(maxAge).mustRevalidate().getHeaderValue());
+        }
+        //Sets the ETag on the response, and its status to 304 when it matches.
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return new ResponseEntity<>(body.get(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.electricitymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.Instant;
+
+/**
+ * Progress report of a bill recompute, which bills again the customers affected by a change to the tariff or to a meter.
+ */
+@Getter
+@AllArgsConstructor
+public class BillRecomputeStatus {
+    /**
+     * State of a bill recompute.
+     */
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Sequence number of the recompute since the application started.
+     */
+    private long id;
+    /**
+     * The change that affected the customers, for example {@code meter 3 updated}.
+     */
+    private String reason;
+    /**
+     * Current state of the recompute.
+     */
+    private State state;
+    /**
+     * Number of affected customers read so far.
+     */
+    private long customersMatched;
+    /**
+     * Number of customers whose bill was recalculated.
+     */
+    private long customersBilled;
+    /**
+     * Number of customers skipped because no price slab or meter matched them, or because they changed meanwhile.
+     */
+    private long customersSkipped;
+    /**
+     * Time at which the recompute was queued.
+     */
+    private Instant queuedAt;
+    /**
+     * Time at which the recompute finished, null until it has.
+     */
+    private Instant finishedAt;
+    /**
+     * Reason of the failure, null unless the recompute failed.
+     */
+    private String failureMessage;
+}
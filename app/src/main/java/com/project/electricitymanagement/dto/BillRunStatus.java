@@ -0,0 +1,65 @@
+package com.project.electricitymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Progress report of a bill run.
+ */
+@Getter
+@AllArgsConstructor
+public class BillRunStatus {
+    /**
+     * State of a bill run.
+     */
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Sequence number of the bill run since the application started.
+     */
+    private long id;
+    /**
+     * Current state of the bill run.
+     */
+    private State state;
+    /**
+     * Number of customer pages written back so far.
+     */
+    private long pagesProcessed;
+    /**
+     * Number of customers whose bill was recalculated.
+     */
+    private long customersBilled;
+    /**
+     * Number of customers skipped because no price slab or meter matched them.
+     */
+    private long customersSkipped;
+    /**
+     * Sum of the bills calculated so far, added up exactly in minor units.
+     */
+    private BigDecimal totalBilled;
+    /**
+     * Time at which the bill run started.
+     */
+    private Instant startedAt;
+    /**
+     * Time at which the bill run finished, null while it is running.
+     */
+    private Instant finishedAt;
+    /**
+     * Time spent so far, in milliseconds.
+     */
+    private long elapsedMillis;
+    /**
+     * Average throughput of the bill run.
+     */
+    private double customersPerSecond;
+    /**
+     * Reason of the failure, null unless the bill run failed.
+     */
+    private String failureMessage;
+}
@@ -0,0 +1,35 @@
+package com.project.electricitymanagement.dto;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+/**
+ * Report of a customer import, with the outcome of every row.
+ */
+@Getter
+@AllArgsConstructor
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class CustomerImportReport {
+    /**
+     * Number of rows read from the uploaded document.
+     */
+    private int rowsReceived;
+    /**
+     * Number of customers created.
+     */
+    private int rowsImported;
+    /**
+     * Number of rows that were not inserted.
+     */
+    private int rowsRejected;
+    /**
+     * Time spent on the import, in milliseconds.
+     */
+    private long elapsedMillis;
+    /**
+     * Outcome of every row, in the order of the document.
+     */
+    private List<CustomerImportResult> results;
+}
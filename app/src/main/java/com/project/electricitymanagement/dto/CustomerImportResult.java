@@ -0,0 +1,65 @@
+package com.project.electricitymanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.math.BigDecimal;
+
+/**
+ * Outcome of one row of a customer import.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerImportResult {
+    /**
+     * Outcome of an imported row.
+     */
+    public enum Status {
+        IMPORTED, REJECTED
+    }
+
+    /**
+     * Position of the row in the uploaded document, starting at 1 for the first customer.
+     */
+    private int row;
+    /**
+     * Whether the customer was created.
+     */
+    private Status status;
+    /**
+     * Id of the created customer, null if the row was rejected.
+     */
+    private Long id;
+    /**
+     * Bill amount stored for the created customer, null if the row was rejected.
+     */
+    private BigDecimal billAmount;
+    /**
+     * Reason why the row was rejected, null if the customer was created.
+     */
+    private String error;
+
+    /**
+     * Creates the result of a row that was inserted.
+     *
+     * @param row        the position of the row.
+     * @param id         the id of the created customer.
+     * @param billAmount the bill amount of the created customer.
+     * @return the result.
+     */
+    public static CustomerImportResult imported(final int row, final Long id, final BigDecimal billAmount) {
+        return new CustomerImportResult(row, Status.IMPORTED, id, billAmount, null);
+    }
+
+    /**
+     * Creates the result of a row that was not inserted.
+     *
+     * @param row   the position of the row.
+     * @param error the reason of the rejection.
+     * @return the result.
+     */
+    public static CustomerImportResult rejected(final int row, final String error) {
+        return new CustomerImportResult(row, Status.REJECTED, null, null, error);
+    }
+}
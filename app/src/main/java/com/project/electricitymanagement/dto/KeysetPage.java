@@ -0,0 +1,55 @@
+package com.project.electricitymanagement.dto;
+
+import com.project.electricitymanagement.config.Constants;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * One page of a list read in primary key order.
+ *
+ * @param <T> the type of the items in the page.
+ */
+@Getter
+@AllArgsConstructor
+@SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public class KeysetPage<T> {
+    /**
+     * Items of the page, in ascending id order.
+     */
+    private List<T> items;
+    /**
+     * Id to pass as the cursor of the next page, null if this is the last page.
+     */
+    private Long nextCursor;
+
+    /**
+     * Restricts a requested page size to the range accepted by the list endpoints.
+     *
+     * @param requestedSize the page size asked for by the client.
+     * @return the page size to use.
+     */
+    public static int pageSize(final int requestedSize) {
+        return Math.min(Math.max(requestedSize, 1), Constants.MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Builds a page from rows read with a limit of one more than the page size,
+     * so that the presence of a next page is known without an extra query.
+     *
+     * @param rows  rows read from the database, at most {@code size + 1}.
+     * @param size  the page size.
+     * @param idOf  function returning the id of a row.
+     * @param <T>   the type of the rows.
+     * @return the page.
+     */
+    public static <T> KeysetPage<T> of(final List<T> rows, final int size, final ToLongFunction<T> idOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(items, idOf.applyAsLong(items.get(size - 1)));
+    }
+}
@@ -1,10 +1,12 @@
 package com.project.electricitymanagement.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.math.BigDecimal;
 
 /**
  * The Meter DTO class for data transfer.
@@ -23,5 +25,6 @@ public class MeterDto {
      * Minimum bill amount corresponding to the load amount.
      */
     @NotNull(message = "Minimum Bill Amount is NULL")
-    private Double minBillAmount;
+    @Digits(integer = 13, fraction = 2, message = "Minimum Bill Amount must have at most 2 decimal places")
+    private BigDecimal minBillAmount;
 }
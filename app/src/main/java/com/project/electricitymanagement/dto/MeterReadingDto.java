@@ -0,0 +1,28 @@
+package com.project.electricitymanagement.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A new reading of the meter of a customer.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeterReadingDto {
+    /**
+     * Id of the customer, taken from the path when a single reading is submitted.
+     */
+    private Long customerId;
+    /**
+     * The new reading of the meter, which becomes the current reading of the customer.
+     */
+    @NotNull
+    @PositiveOrZero
+    private Double reading;
+}
@@ -0,0 +1,30 @@
+package com.project.electricitymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * The readings and bill of a customer once a meter reading has been recorded.
+ */
+@Getter
+@AllArgsConstructor
+public class MeterReadingResult {
+    /**
+     * Id of the customer.
+     */
+    private long customerId;
+    /**
+     * The previous current reading, rolled into the last reading.
+     */
+    private double lastReading;
+    /**
+     * The reading that was recorded.
+     */
+    private double currentReading;
+    /**
+     * The bill for the units consumed between the two readings.
+     */
+    private BigDecimal billAmount;
+}
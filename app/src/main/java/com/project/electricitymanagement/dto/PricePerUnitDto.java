@@ -1,9 +1,11 @@
 package com.project.electricitymanagement.dto;
 
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import java.math.BigDecimal;
 
 /**
  * The PricePerUni DTO class for data transfer.
@@ -25,6 +27,7 @@ public class PricePerUnitDto {
      * Price per unit corresponding to the range.
      */
     @NotNull
-    private Double price;
+    @Digits(integer = 11, fraction = 4)
+    private BigDecimal price;
 
 }
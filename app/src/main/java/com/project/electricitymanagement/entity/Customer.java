@@ -1,16 +1,20 @@
 package com.project.electricitymanagement.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 
@@ -29,7 +33,9 @@ public class Customer {
      * Primary key for the Customer entity.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "customer_id")
+    @TableGenerator(name = "customer_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "customer", allocationSize = 50)
     private Long id;
     /**
      * Name of the customer.
@@ -59,19 +65,24 @@ public class Customer {
     /**
      * The total bill of the customer based on units consumed and the meter ID.
      */
-    private Double billAmount;
+    private BigDecimal billAmount;
+    /**
+     * The version of the tariff and meter data the bill was computed against.
+     */
+    @JsonIgnore
+    private Long billVersion;
 
     /**
-     * The meter associated with the customer.
+     * The meter associated with the customer, loaded with the customer only by the finders that ask for it.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Meter meter = new Meter();
     /**
-     * The supplier associated with the customer.
+     * The supplier associated with the customer, loaded with the customer only by the finders that ask for it.
      */
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Supplier supplier = new Supplier();
 
 
@@ -0,0 +1,51 @@
+package com.project.electricitymanagement.entity;
+
+
+import com.project.electricitymanagement.config.Constants;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.math.BigDecimal;
+
+/**
+ * Represents a Meter entity, kept in the second-level cache.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.METER_CACHE_REGION)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+public class Meter {
+    /**
+     * Primary key for the Meter entity
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "meter_id")
+    @TableGenerator(name = "meter_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "meter", allocationSize = 50)
+    private Long id;
+    /**
+     * Load amount of the meter.
+     */
+    @NotNull
+    private Integer loadAmount;
+    /**
+     * Minimum bill amount associated with the load.
+     */
+    @NotNull
+    private BigDecimal minBillAmount;
+
+}
@@ -1,19 +1,27 @@
 package com.project.electricitymanagement.entity;
 
+import com.project.electricitymanagement.config.Constants;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.math.BigDecimal;
 
 /**
- * Represents a PricePerUnit entity.
+ * Represents a PricePerUnit entity, kept in the second-level cache.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.PRICE_PER_UNIT_CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,7 +32,9 @@ public class PricePerUnit {
      * Primary key for the PricePerUnit entity.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "price_per_unit_id")
+    @TableGenerator(name = "price_per_unit_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "price_per_unit", allocationSize = 50)
     private Long id;
     /**
      * Lower bound of the unit range.
@@ -40,7 +50,7 @@ public class PricePerUnit {
      * Price per unit associated with the unit range.
      */
     @NotNull
-    private Double price;
+    private BigDecimal price;
 
 }
 
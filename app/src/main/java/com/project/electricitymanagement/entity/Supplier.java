@@ -1,19 +1,26 @@
 package com.project.electricitymanagement.entity;
 
+import com.project.electricitymanagement.config.Constants;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
- * Represents a Supplier entity.
+ * Represents a Supplier entity, kept in the second-level cache.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.SUPPLIER_CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +30,9 @@ public class Supplier {
      * Primary key for the Supplier entity.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "supplier_id")
+    @TableGenerator(name = "supplier_id", table = "id_sequence", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "supplier", allocationSize = 50)
     private Long id;
     /**
      * Name of the supplier.
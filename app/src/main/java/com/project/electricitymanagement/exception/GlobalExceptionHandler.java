@@ -28,10 +28,38 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<Object> handleResourceNotFoundException(final ResourceNotFoundException ex, final WebRequest request) {
         ErrorMessage errorMessage = new ErrorMessage(HttpStatus.NOT_FOUND, ex.getMessage(), request.getDescription(false));
-        LOGGER.debug(String.format("Resource not found exception %s", errorMessage));
+        LOGGER.debug("Resource not found exception {}", errorMessage);
         return new ResponseEntity<>(errorMessage, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles the ResourceConflictException and returns appropriate response.
+     *
+     * @param ex      The ResourceConflictException that occurred.
+     * @param request The current Web request.
+     * @return a Response entity with error message and 409 status code.
+     */
+    @ExceptionHandler(ResourceConflictException.class)
+    public ResponseEntity<Object> handleResourceConflictException(final ResourceConflictException ex, final WebRequest request) {
+        ErrorMessage errorMessage = new ErrorMessage(HttpStatus.CONFLICT, ex.getMessage(), request.getDescription(false));
+        LOGGER.debug("Resource conflict exception {}", errorMessage);
+        return new ResponseEntity<>(errorMessage, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles the InvalidRequestException and returns appropriate response.
+     *
+     * @param ex      The InvalidRequestException that occurred.
+     * @param request The current Web request.
+     * @return a Response entity with error message and 400 status code.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Object> handleInvalidRequestException(final InvalidRequestException ex, final WebRequest request) {
+        ErrorMessage errorMessage = new ErrorMessage(HttpStatus.BAD_REQUEST, ex.getMessage(), request.getDescription(false));
+        LOGGER.debug("Invalid request exception {}", errorMessage);
+        return new ResponseEntity<>(errorMessage, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles all exceptions and returns appropriate response.
      *
@@ -42,7 +70,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleGlobalException(final Exception ex, final WebRequest request) {
         ErrorMessage errorMessage = new ErrorMessage(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), request.getDescription(false));
-        LOGGER.error(String.format("An Exception occurred %s ", errorMessage));
+        LOGGER.error("An Exception occurred {}", errorMessage);
         return new ResponseEntity<>(errorMessage, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -58,7 +86,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     protected ResponseEntity<Object> handleMethodArgumentNotValid(final MethodArgumentNotValidException ex, final WebRequest request) {
         ErrorMessage errorMessage = new ErrorMessage(HttpStatus.BAD_REQUEST, "Validation error", request.getDescription(false));
-        LOGGER.debug(String.format("MethodArgumentNotValidException %s", errorMessage));
+        LOGGER.debug("MethodArgumentNotValidException {}", errorMessage);
 
         return new ResponseEntity<>(errorMessage, HttpStatus.BAD_REQUEST);
     }
@@ -0,0 +1,18 @@
+package com.project.electricitymanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when the body of a request can't be processed.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+    /**
+     * Constructs a new InvalidRequestException with the specified detail message.
+     * @param message The description of what is wrong with the request.
+     */
+    public InvalidRequestException(final String message) {
+        super(message);
+    }
+}
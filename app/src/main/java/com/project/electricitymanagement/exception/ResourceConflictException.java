@@ -0,0 +1,18 @@
+package com.project.electricitymanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a request conflicts with the current state of a resource.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ResourceConflictException extends RuntimeException {
+    /**
+     * Constructs a new ResourceConflictException with the specified detail message.
+     * @param message The description of the conflict.
+     */
+    public ResourceConflictException(final String message) {
+        super(message);
+    }
+}
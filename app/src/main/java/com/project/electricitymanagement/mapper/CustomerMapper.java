@@ -0,0 +1,53 @@
+package com.project.electricitymanagement.mapper;
+
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.entity.Supplier;
+
+/**
+ * Maps customer DTOs to customer entities.
+ */
+public final class CustomerMapper {
+
+    /**
+     * Private constructor to prevent the instantiation of the mapper.
+     */
+    private CustomerMapper() {
+    }
+
+    /**
+     * Creates a new customer from the request of the create customer endpoint.
+     * The meter and the supplier are set as references holding only their id.
+     *
+     * @param customerDto The customer DTO.
+     * @return The new customer, without id and bill amount.
+     */
+    public static Customer toEntity(final CustomerDto customerDto) {
+        Customer customer = new Customer();
+        customer.setConnectionDate(customerDto.getConnectionDate());
+        updateEntity(customerDto, customer);
+        return customer;
+    }
+
+    /**
+     * Copies the request of the update customer endpoint to an existing customer.
+     * The connection date is only set when a customer is created, so it is left unchanged.
+     * The meter and the supplier are replaced by references instead of changing the id of the current ones.
+     *
+     * @param customerDto The customer DTO.
+     * @param customer    The customer to update.
+     */
+    public static void updateEntity(final CustomerDto customerDto, final Customer customer) {
+        customer.setName(customerDto.getName());
+        customer.setAddress(customerDto.getAddress());
+        customer.setLastReading(customerDto.getLastReading());
+        customer.setCurrentReading(customerDto.getCurrentReading());
+        Meter meter = new Meter();
+        meter.setId(customerDto.getMeterId());
+        customer.setMeter(meter);
+        Supplier supplier = new Supplier();
+        supplier.setId(customerDto.getSupplierId());
+        customer.setSupplier(supplier);
+    }
+}
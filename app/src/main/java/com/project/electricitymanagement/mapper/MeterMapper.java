@@ -0,0 +1,39 @@
+package com.project.electricitymanagement.mapper;
+
+import com.project.electricitymanagement.dto.MeterDto;
+import com.project.electricitymanagement.entity.Meter;
+
+/**
+ * Maps meter DTOs to meter entities.
+ */
+public final class MeterMapper {
+
+    /**
+     * Private constructor to prevent the instantiation of the mapper.
+     */
+    private MeterMapper() {
+    }
+
+    /**
+     * Creates a new meter from a meter DTO.
+     *
+     * @param meterDto The meter DTO.
+     * @return The new meter, without id.
+     */
+    public static Meter toEntity(final MeterDto meterDto) {
+        Meter meter = new Meter();
+        updateEntity(meterDto, meter);
+        return meter;
+    }
+
+    /**
+     * Copies a meter DTO to an existing meter.
+     *
+     * @param meterDto The meter DTO.
+     * @param meter    The meter to update.
+     */
+    public static void updateEntity(final MeterDto meterDto, final Meter meter) {
+        meter.setLoadAmount(meterDto.getLoadAmount());
+        meter.setMinBillAmount(meterDto.getMinBillAmount());
+    }
+}
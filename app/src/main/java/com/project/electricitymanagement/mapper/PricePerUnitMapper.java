@@ -0,0 +1,40 @@
+package com.project.electricitymanagement.mapper;
+
+import com.project.electricitymanagement.dto.PricePerUnitDto;
+import com.project.electricitymanagement.entity.PricePerUnit;
+
+/**
+ * Maps price per unit DTOs to price per unit entities.
+ */
+public final class PricePerUnitMapper {
+
+    /**
+     * Private constructor to prevent the instantiation of the mapper.
+     */
+    private PricePerUnitMapper() {
+    }
+
+    /**
+     * Creates a new price per unit from a price per unit DTO.
+     *
+     * @param pricePerUnitDto The price per unit DTO.
+     * @return The new price per unit, without id.
+     */
+    public static PricePerUnit toEntity(final PricePerUnitDto pricePerUnitDto) {
+        PricePerUnit pricePerUnit = new PricePerUnit();
+        updateEntity(pricePerUnitDto, pricePerUnit);
+        return pricePerUnit;
+    }
+
+    /**
+     * Copies a price per unit DTO to an existing price per unit.
+     *
+     * @param pricePerUnitDto The price per unit DTO.
+     * @param pricePerUnit    The price per unit to update.
+     */
+    public static void updateEntity(final PricePerUnitDto pricePerUnitDto, final PricePerUnit pricePerUnit) {
+        pricePerUnit.setUnitRangeLower(pricePerUnitDto.getUnitRangeLower());
+        pricePerUnit.setUnitRangeUpper(pricePerUnitDto.getUnitRangeUpper());
+        pricePerUnit.setPrice(pricePerUnitDto.getPrice());
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.electricitymanagement.mapper;
+
+import com.project.electricitymanagement.dto.SupplierDto;
+import com.project.electricitymanagement.entity.Supplier;
+
+/**
+ * Maps supplier DTOs to supplier entities.
+ */
+public final class SupplierMapper {
+
+    /**
+     * Private constructor to prevent the instantiation of the mapper.
+     */
+    private SupplierMapper() {
+    }
+
+    /**
+     * Creates a new supplier from a supplier DTO.
+     *
+     * @param supplierDto The supplier DTO.
+     * @return The new supplier, without id.
+     */
+    public static Supplier toEntity(final SupplierDto supplierDto) {
+        Supplier supplier = new Supplier();
+        updateEntity(supplierDto, supplier);
+        return supplier;
+    }
+
+    /**
+     * Copies a supplier DTO to an existing supplier.
+     *
+     * @param supplierDto The supplier DTO.
+     * @param supplier    The supplier to update.
+     */
+    public static void updateEntity(final SupplierDto supplierDto, final Supplier supplier) {
+        supplier.setName(supplierDto.getName());
+        supplier.setSupplierType(supplierDto.getSupplierType());
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.electricitymanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Repository for the {@code customer_change} table, the log of customer changes that the application instances sharing
+ * the database poll to drop the customers changed by the others from their caches.
+ */
+@Repository
+public class CustomerChangeRepository {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Logs changes to customers in the current transaction.
+     *
+     * @param instanceId  the instance that made the changes.
+     * @param customerIds the changed customers.
+     */
+    public void insert(final String instanceId, final Collection<Long> customerIds) {
+        List<Object[]> rows = new ArrayList<>(customerIds.size());
+        customerIds.forEach(id -> rows.add(new Object[] {id, instanceId}));
+        jdbcTemplate.batchUpdate("insert into customer_change (customer_id, instance_id) values (?, ?)", rows);
+    }
+
+    /**
+     * Logs a change that may have affected every customer.
+     *
+     * @param instanceId the instance that made the change.
+     */
+    public void insertAll(final String instanceId) {
+        jdbcTemplate.update("insert into customer_change (customer_id, instance_id) values (?, ?)",
+                ps -> {
+                    ps.setNull(1, Types.BIGINT);
+                    ps.setString(2, instanceId);
+                });
+    }
+
+    /**
+     * Reads the changes logged after an id, in id order.
+     *
+     * @param afterId the id of the last change already read.
+     * @return the changes.
+     */
+    public List<CustomerChange> findAfter(final long afterId) {
+        return jdbcTemplate.query("select id, customer_id, instance_id from customer_change where id > ? order by id",
+                (rs, rowNum) -> new CustomerChange(rs.getLong(1), rs.getObject(2, Long.class), rs.getString(3)), afterId);
+    }
+
+    /**
+     * Reads the id of the latest change.
+     *
+     * @return the id of the latest change, or 0 if none was logged.
+     */
+    public long findLastId() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject("select coalesce(max(id), 0) from customer_change", Long.class));
+    }
+
+    /**
+     * Deletes the changes logged longer ago than the given age, measured by the database clock.
+     *
+     * @param age the age of the changes to delete.
+     * @return the number of changes deleted.
+     */
+    public int deleteOlderThan(final Duration age) {
+        return jdbcTemplate.update("delete from customer_change where changed_at < timestampadd(second, ?, current_timestamp)", -age.toSeconds());
+    }
+
+    /**
+     * A logged customer change.
+     *
+     * @param id         the id of the change, in insert order.
+     * @param customerId the changed customer, or null if the change may have affected every customer.
+     * @param instanceId the instance that made the change.
+     */
+    public record CustomerChange(long id, Long customerId, String instanceId) {
+    }
+}
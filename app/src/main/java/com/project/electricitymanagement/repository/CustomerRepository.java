@@ -0,0 +1,69 @@
+package com.project.electricitymanagement.repository;
+
+import com.project.electricitymanagement.entity.Customer;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing Customer entities.
+ * The meter and supplier of a customer are lazy; the finders that return customers to the API
+ * load them in the same query with an entity graph.
+ */
+@Repository
+public interface CustomerRepository extends JpaRepository<Customer, Long> {
+    /**
+     * Reads all customers with their meter and supplier in a single joined query.
+     * @return all customers.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"meter", "supplier"})
+    List<Customer> findAll();
+
+    /**
+     * Reads a customer with its meter and supplier in a single joined query.
+     * @param id the id of the customer.
+     * @return the customer, or empty if there is no customer with the given id.
+     */
+    @EntityGraph(attributePaths = {"meter", "supplier"})
+    Optional<Customer> findWithMeterAndSupplierById(Long id);
+
+    /**
+     * Reads the next customers after the given id in ascending id order, for keyset pagination,
+     * with their meter and supplier.
+     * @param id    the id of the last row of the previous page.
+     * @param limit the maximum number of rows to read.
+     * @return the customers with an id greater than the given id.
+     */
+    @EntityGraph(attributePaths = {"meter", "supplier"})
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Stores a bill recomputed on read, in a transaction of its own so that it can be called from a read-only one.
+     * The bill is only stored if the readings and meter it was computed from are still those of the customer
+     * and no bill computed against a newer version was stored in the meantime.
+     * @param id             the id of the customer.
+     * @param lastReading    the last reading the bill was computed from.
+     * @param currentReading the current reading the bill was computed from.
+     * @param meterId        the meter the bill was computed from.
+     * @param billAmount     the bill.
+     * @param billVersion    the version of the tariff and meter data the bill was computed against.
+     * @return the number of customers updated, 0 or 1.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("update Customer c set c.billAmount = :billAmount, c.billVersion = :billVersion"
+            + " where c.id = :id and c.lastReading = :lastReading and c.currentReading = :currentReading and c.meter.id = :meterId"
+            + " and (c.billVersion is null or c.billVersion < :billVersion)")
+    int updateBill(@Param("id") Long id, @Param("lastReading") Double lastReading, @Param("currentReading") Double currentReading,
+                   @Param("meterId") Long meterId, @Param("billAmount") BigDecimal billAmount, @Param("billVersion") long billVersion);
+}
@@ -0,0 +1,53 @@
+package com.project.electricitymanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Repository for the {@code data_version} table, which holds a counter per kind of reference data that is
+ * incremented whenever that data changes.
+ */
+@Repository
+public class DataVersionRepository {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads the current version.
+     *
+     * @param name the name of the version.
+     * @return the current version.
+     */
+    public long find(final String name) {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject("select version from data_version where name = ?", Long.class, name));
+    }
+
+    /**
+     * Reads every version in one query.
+     *
+     * @return the current versions by name.
+     */
+    public Map<String, Long> findAll() {
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query("select name, version from data_version", rs -> {
+            versions.put(rs.getString(1), rs.getLong(2));
+        });
+        return versions;
+    }
+
+    /**
+     * Increments the version in the current transaction. The row stays locked until the transaction ends,
+     * so concurrent changes are given distinct versions in commit order.
+     *
+     * @param name the name of the version.
+     * @return the new version.
+     */
+    public long increment(final String name) {
+        jdbcTemplate.update("update data_version set version = version + 1 where name = ?", name);
+        return find(name);
+    }
+}
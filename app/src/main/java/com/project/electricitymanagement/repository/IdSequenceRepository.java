@@ -0,0 +1,40 @@
+package com.project.electricitymanagement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.Objects;
+
+/**
+ * Repository that hands out blocks of ids from the {@code id_sequence} table, the same way Hibernate's pooled-lo
+ * table generator does, for rows inserted with plain JDBC.
+ */
+@Repository
+public class IdSequenceRepository {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Reserves a block of consecutive ids in a transaction of its own, so that the row of the sequence is only
+     * locked for the time of the update.
+     *
+     * @param sequenceName the sequence, named after the table.
+     * @param count        the number of ids to reserve.
+     * @return the first id of the block.
+     */
+    public long allocate(final String sequenceName, final int count) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return Objects.requireNonNull(transaction.execute(status -> {
+            long first = jdbcTemplate.queryForObject("select next_val from id_sequence where sequence_name = ? for update",
+                    Long.class, sequenceName);
+            jdbcTemplate.update("update id_sequence set next_val = ? where sequence_name = ?", first + count, sequenceName);
+            return first;
+        }));
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.electricitymanagement.repository;
+
+import com.project.electricitymanagement.entity.Meter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+/**
+ * Repository interface for managing Meter entities.
+ */
+@Repository
+public interface MeterRepository extends JpaRepository<Meter, Long> {
+    /**
+     * Reads the next meters after the given id in ascending id order, for keyset pagination.
+     * @param id    the id of the last row of the previous page.
+     * @param limit the maximum number of rows to read.
+     * @return the meters with an id greater than the given id.
+     */
+    List<Meter> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Reads all the meters; the result is kept in the query cache until a meter is changed.
+     * @return all the meters.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Meter> findAll();
+}
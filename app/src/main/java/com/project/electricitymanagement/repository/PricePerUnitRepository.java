@@ -0,0 +1,45 @@
+package com.project.electricitymanagement.repository;
+
+import com.project.electricitymanagement.entity.PricePerUnit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing PricePerUnit entity.
+ */
+
+@Repository
+public interface PricePerUnitRepository extends JpaRepository<PricePerUnit, Long> {
+    /**
+     * This method uses sql query to fetch the price per unit based on the units consumed by the customer.
+     * @param unitConsumed  Unit consumed by the customer
+     * @return fetches the Price based on the unit consumed
+     */
+    @Query(value = "Select price from price_per_unit where :unitConsumed between unit_range_lower and unit_range_upper;", nativeQuery = true)
+     Optional<BigDecimal> findByUnitConsumed(@Param("unitConsumed") double unitConsumed);
+
+    /**
+     * Reads the next prices per unit after the given id in ascending id order, for keyset pagination.
+     * @param id    the id of the last row of the previous page.
+     * @param limit the maximum number of rows to read.
+     * @return the prices per unit with an id greater than the given id.
+     */
+    List<PricePerUnit> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Reads all the prices per unit; the result is kept in the query cache until a price per unit is changed.
+     * @return all the prices per unit.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<PricePerUnit> findAll();
+}
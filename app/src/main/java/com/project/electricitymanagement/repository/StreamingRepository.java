@@ -0,0 +1,90 @@
+package com.project.electricitymanagement.repository;
+
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.entity.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Repository that reads whole tables row by row over a forward-only JDBC cursor,
+ * so that a table can be written out without holding it in memory.
+ */
+@Repository
+public class StreamingRepository {
+    private static final String SELECT_CUSTOMERS = "select c.id, c.name, c.address, c.connection_date, c.last_reading, c.current_reading,"
+            + " c.bill_amount, m.id, m.load_amount, m.min_bill_amount, s.id, s.name, s.supplier_type"
+            + " from customer c join meter m on m.id = c.meter_id join supplier s on s.id = c.supplier_id order by c.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    /**
+     * Rows fetched per round trip. MySQL only streams rows when the fetch size is Integer.MIN_VALUE.
+     */
+    @Value("${streaming.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Passes every customer, with its meter and supplier, to the given action in ascending id order.
+     *
+     * @param action the action to perform on each customer.
+     */
+    public void forEachCustomer(final Consumer<Customer> action) {
+        stream(SELECT_CUSTOMERS, rs -> action.accept(new Customer(rs.getLong(1), rs.getString(2), rs.getString(3),
+                rs.getObject(4, LocalDate.class), rs.getDouble(5), rs.getDouble(6), rs.getBigDecimal(7), null,
+                new Meter(rs.getLong(8), rs.getInt(9), rs.getBigDecimal(10)),
+                new Supplier(rs.getLong(11), rs.getString(12), rs.getString(13)))));
+    }
+
+    /**
+     * Passes every meter to the given action in ascending id order.
+     *
+     * @param action the action to perform on each meter.
+     */
+    public void forEachMeter(final Consumer<Meter> action) {
+        stream("select id, load_amount, min_bill_amount from meter order by id",
+                rs -> action.accept(new Meter(rs.getLong(1), rs.getInt(2), rs.getBigDecimal(3))));
+    }
+
+    /**
+     * Passes every supplier to the given action in ascending id order.
+     *
+     * @param action the action to perform on each supplier.
+     */
+    public void forEachSupplier(final Consumer<Supplier> action) {
+        stream("select id, name, supplier_type from supplier order by id",
+                rs -> action.accept(new Supplier(rs.getLong(1), rs.getString(2), rs.getString(3))));
+    }
+
+    /**
+     * Passes every price per unit to the given action in ascending id order.
+     *
+     * @param action the action to perform on each price per unit.
+     */
+    public void forEachPricePerUnit(final Consumer<PricePerUnit> action) {
+        stream("select id, unit_range_lower, unit_range_upper, price from price_per_unit order by id",
+                rs -> action.accept(new PricePerUnit(rs.getLong(1), rs.getInt(2), rs.getInt(3), rs.getBigDecimal(4))));
+    }
+
+    private void stream(final String sql, final RowCallbackHandler rowHandler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            try {
+                ps.setFetchSize(fetchSize);
+            } catch (SQLException e) {
+                ps.close();
+                throw e;
+            }
+            return ps;
+        }, rowHandler);
+    }
+}
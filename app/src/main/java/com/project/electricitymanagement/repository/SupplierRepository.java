@@ -0,0 +1,32 @@
+package com.project.electricitymanagement.repository;
+
+import com.project.electricitymanagement.entity.Supplier;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * Repository interface for managing Supplier entities.
+ */
+@Repository
+public interface SupplierRepository extends JpaRepository<Supplier, Long> {
+    /**
+     * Reads the next suppliers after the given id in ascending id order, for keyset pagination.
+     * @param id    the id of the last row of the previous page.
+     * @param limit the maximum number of rows to read.
+     * @return the suppliers with an id greater than the given id.
+     */
+    List<Supplier> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Reads all the suppliers; the result is kept in the query cache until a supplier is changed.
+     * @return all the suppliers.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<Supplier> findAll();
+}
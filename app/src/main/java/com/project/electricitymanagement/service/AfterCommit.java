@@ -0,0 +1,33 @@
+package com.project.electricitymanagement.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work on the in-memory caches until the surrounding transaction has committed, so that other threads
+ * never see a change that is later rolled back and never reload a row before the change is visible to them.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the action once the current transaction commits, or straight away when there is no transaction.
+     * The action is dropped if the transaction rolls back.
+     *
+     * @param action the action to run.
+     */
+    static void run(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
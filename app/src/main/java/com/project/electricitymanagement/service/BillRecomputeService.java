@@ -0,0 +1,230 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.billing.CustomerPage;
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.dto.BillRecomputeStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service class that bills again, in the background, only the customers affected by a change to the tariff or to a meter:
+ * the customers whose consumption falls in a changed price per unit range, read through the index on the generated
+ * {@code units_consumed} column, or the customers of a changed meter, read through the index on {@code meter_id}.
+ * Recomputes run one at a time in the order they were queued; the affected customers are read in pages in index order
+ * and their bills are written back with JDBC batch updates.
+ */
+@Service
+public class BillRecomputeService {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BillRecomputeService.class);
+    /**
+     * Reads a page of the customers whose consumption is in a range, in consumption and id order, after a consumption and id.
+     * The range starts at the consumption of the previous page, so each page is an index range scan from where the previous
+     * one stopped; the ties on that consumption are broken by id.
+     */
+    public static final String SELECT_BY_UNITS = "select " + CustomerPage.COLUMNS + " from customer"
+            + " where units_consumed between ? and ? and (units_consumed > ? or (units_consumed = ? and id > ?))"
+            + " order by units_consumed, id limit ?";
+    /**
+     * Reads a page of the customers of a meter after an id, in id order.
+     */
+    public static final String SELECT_BY_METER = "select " + CustomerPage.COLUMNS + " from customer"
+            + " where meter_id = ? and id > ? order by id limit ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TariffIndex tariffIndex;
+    @Autowired
+    private MeterCache meterCache;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private CustomerCache customerCache;
+    @Autowired
+    private CustomerChangeLog customerChangeLog;
+    @Value("${bill-recompute.page-size:1000}")
+    private int pageSize;
+    @Value("${bill-recompute.history-size:20}")
+    private int historySize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bill-recompute");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * The most recent recomputes, newest first.
+     */
+    private final Deque<Job> history = new ConcurrentLinkedDeque<>();
+
+    /**
+     * Queues the recompute of the customers whose units consumed fall in the given price per unit range.
+     *
+     * @param lower  The lower bound of the range.
+     * @param upper  The upper bound of the range.
+     * @param reason The change that affected the range.
+     * @return The status of the queued recompute.
+     */
+    public BillRecomputeStatus recomputeUnitRange(final int lower, final int upper, final String reason) {
+        return submit(reason, previous -> {
+            double afterUnits = previous == null ? lower : previous.lastUnitsConsumed();
+            long afterId = previous == null ? Long.MIN_VALUE : previous.lastId();
+            return readPage(SELECT_BY_UNITS, afterUnits, upper, afterUnits, afterUnits, afterId);
+        });
+    }
+
+    /**
+     * Queues the recompute of the customers of the given meter.
+     *
+     * @param meterId The id of the meter.
+     * @param reason  The change that affected the meter.
+     * @return The status of the queued recompute.
+     */
+    public BillRecomputeStatus recomputeMeter(final Long meterId, final String reason) {
+        return submit(reason, previous -> readPage(SELECT_BY_METER, meterId,
+                previous == null ? Long.MIN_VALUE : previous.lastId()));
+    }
+
+    /**
+     * Retrieves the status of the most recent recomputes.
+     *
+     * @return The statuses, newest first.
+     */
+    public List<BillRecomputeStatus> getRecentStatuses() {
+        return history.stream().map(Job::toStatus).toList();
+    }
+
+    /**
+     * Stops the recompute thread when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private BillRecomputeStatus submit(final String reason, final AffectedCustomers affectedCustomers) {
+        Job job = new Job(sequence.incrementAndGet(), reason);
+        history.addFirst(job);
+        while (history.size() > historySize) {
+            history.pollLast();
+        }
+        executor.execute(() -> execute(job, affectedCustomers));
+        return job.toStatus();
+    }
+
+    private void execute(final Job job, final AffectedCustomers affectedCustomers) {
+        job.state = BillRecomputeStatus.State.RUNNING;
+        try {
+            long billVersion = billingDataVersion.current();
+            TariffSlabs tariff = tariffIndex.snapshot();
+            CustomerPage page = affectedCustomers.next(null);
+            while (page.size() > 0) {
+                billPage(page, tariff, billVersion, job);
+                page = page.size() < pageSize ? new CustomerPage(0) : affectedCustomers.next(page);
+            }
+            job.state = BillRecomputeStatus.State.COMPLETED;
+        } catch (RuntimeException e) {
+            LOGGER.error("Bill recompute {} ({}) failed", job.id, job.reason, e);
+            job.failureMessage = e.getMessage();
+            job.state = BillRecomputeStatus.State.FAILED;
+        } finally {
+            //Cached customers hold the bills stored before the recompute, here and on the other instances.
+            customerCache.invalidateAllCustomers();
+            customerChangeLog.recordAllCustomers();
+            job.finishedAt = Instant.now();
+            LOGGER.info("Bill recompute {} ({}) {}: {} customers matched, {} billed, {} skipped", job.id, job.reason, job.state,
+                    job.matched.get(), job.billed.get(), job.skipped.get());
+        }
+    }
+
+    private CustomerPage readPage(final String sql, final Object... keys) {
+        Object[] args = new Object[keys.length + 1];
+        System.arraycopy(keys, 0, args, 0, keys.length);
+        args[keys.length] = pageSize;
+        CustomerPage page = new CustomerPage(pageSize);
+        jdbcTemplate.query(sql,
+                rs -> {
+                    page.add(rs);
+                }, args);
+        return page;
+    }
+
+    private void billPage(final CustomerPage page, final TariffSlabs tariff, final long billVersion, final Job job) {
+        int billable = page.bill(tariff, tariffIndex.getMode(), meterId -> meterCache.findById(meterId)
+                .map(meter -> Money.toMinorUnits(meter.getMinBillAmount()))
+                .orElse(null));
+        int[] counts = jdbcTemplate.batchUpdate(CustomerPage.UPDATE_BILL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                page.setBill(ps, i, billVersion);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return billable;
+            }
+        });
+        page.recordStored(counts);
+        job.matched.addAndGet(page.size());
+        job.billed.addAndGet(page.billed());
+        job.skipped.addAndGet(page.skipped());
+    }
+
+    /**
+     * Reads the affected customers page by page.
+     */
+    @FunctionalInterface
+    private interface AffectedCustomers {
+        /**
+         * Reads the affected customers that follow the previous page in index order.
+         *
+         * @param previous the previous page, or null for the first page.
+         * @return the next page, empty after the last one.
+         */
+        CustomerPage next(CustomerPage previous);
+    }
+
+    /**
+     * Thread safe progress of a recompute.
+     */
+    private static final class Job {
+        private final long id;
+        private final String reason;
+        private final Instant queuedAt = Instant.now();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong billed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private volatile BillRecomputeStatus.State state = BillRecomputeStatus.State.QUEUED;
+        private volatile Instant finishedAt;
+        private volatile String failureMessage;
+
+        private Job(final long jobId, final String jobReason) {
+            this.id = jobId;
+            this.reason = jobReason;
+        }
+
+        private BillRecomputeStatus toStatus() {
+            return new BillRecomputeStatus(id, reason, state, matched.get(), billed.get(), skipped.get(), queuedAt, finishedAt, failureMessage);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.billing.CustomerPage;
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.dto.BillRunStatus;
+import com.project.electricitymanagement.exception.ResourceConflictException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service class that recalculates the bill of every customer in one job.
+ * Customers are read in pages in primary key order, the pages are billed by a pool of workers
+ * against a snapshot of the tariff and meter tables, and the bills are written back with JDBC batch updates.
+ */
+@Service
+public class BillRunService {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BillRunService.class);
+    /**
+     * Reads a page of customers after an id, in id order.
+     */
+    public static final String SELECT_PAGE = "select " + CustomerPage.COLUMNS + " from customer where id > ? order by id limit ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TariffIndex tariffIndex;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private CustomerCache customerCache;
+    @Autowired
+    private CustomerChangeLog customerChangeLog;
+    @Value("${bill-run.page-size:1000}")
+    private int pageSize;
+    @Value("${bill-run.worker-threads:0}")
+    private int workerThreads;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(namedThreads("bill-run-coordinator"));
+    private final AtomicLong runSequence = new AtomicLong();
+    private final AtomicReference<Progress> current = new AtomicReference<>();
+
+    /**
+     * Starts a bill run in the background.
+     *
+     * @return The status of the bill run that was started.
+     * @throws ResourceConflictException if a bill run is already running.
+     */
+    public BillRunStatus start() {
+        Progress progress = begin();
+        coordinator.execute(() -> execute(progress));
+        return progress.toStatus();
+    }
+
+    /**
+     * Runs a bill run in the calling thread and waits for it to finish.
+     *
+     * @return The final status of the bill run.
+     * @throws ResourceConflictException if a bill run is already running.
+     */
+    public BillRunStatus run() {
+        Progress progress = begin();
+        execute(progress);
+        return progress.toStatus();
+    }
+
+    /**
+     * Retrieves the status of the most recent bill run.
+     *
+     * @return The status of the latest bill run, or empty if no bill run was started yet.
+     */
+    public Optional<BillRunStatus> getLatestStatus() {
+        return Optional.ofNullable(current.get()).map(Progress::toStatus);
+    }
+
+    /**
+     * Stops the coordinator thread when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    private Progress begin() {
+        Progress previous = current.get();
+        if (previous != null && previous.state == BillRunStatus.State.RUNNING) {
+            throw new ResourceConflictException(String.format("Bill run %d is still running", previous.id));
+        }
+        Progress progress = new Progress(runSequence.incrementAndGet());
+        if (!current.compareAndSet(previous, progress)) {
+            throw new ResourceConflictException("Another bill run was started concurrently");
+        }
+        return progress;
+    }
+
+    private void execute(final Progress progress) {
+        int threads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, namedThreads("bill-run-worker"));
+        //Bounds the pages held in memory while the reader is ahead of the workers.
+        Semaphore inFlight = new Semaphore(threads * 2);
+        try {
+            long billVersion = billingDataVersion.current();
+            TariffSlabs tariff = tariffIndex.refresh();
+            Map<Long, Long> minBillAmounts = loadMinBillAmounts();
+            LOGGER.info("Bill run {} started with {} workers and pages of {} customers", progress.id, threads, pageSize);
+
+            CustomerPage page = readPage(Long.MIN_VALUE);
+            while (page.size() > 0 && progress.failure.get() == null) {
+                inFlight.acquire();
+                CustomerPage pageToBill = page;
+                workers.execute(() -> {
+                    try {
+                        billPage(pageToBill, tariff, minBillAmounts, billVersion, progress);
+                    } catch (RuntimeException e) {
+                        progress.fail(e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                page = readPage(page.lastId());
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.fail(e);
+        } catch (RuntimeException e) {
+            progress.fail(e);
+        } finally {
+            workers.shutdownNow();
+            //Cached customers hold the bills stored before the run, here and on the other instances.
+            customerCache.invalidateAllCustomers();
+            customerChangeLog.recordAllCustomers();
+            progress.finish();
+            BillRunStatus status = progress.toStatus();
+            LOGGER.info("Bill run {} {}: {} customers billed, {} skipped in {} ms ({} customers/s)", status.getId(), status.getState(),
+                    status.getCustomersBilled(), status.getCustomersSkipped(), status.getElapsedMillis(), Math.round(status.getCustomersPerSecond()));
+        }
+    }
+
+    private Map<Long, Long> loadMinBillAmounts() {
+        Map<Long, Long> minBillAmounts = new HashMap<>();
+        jdbcTemplate.query("select id, min_bill_amount from meter",
+                rs -> {
+                    minBillAmounts.put(rs.getLong(1), Money.toMinorUnits(rs.getBigDecimal(2)));
+                });
+        return minBillAmounts;
+    }
+
+    private CustomerPage readPage(final long afterId) {
+        CustomerPage page = new CustomerPage(pageSize);
+        jdbcTemplate.query(SELECT_PAGE,
+                rs -> {
+                    page.add(rs);
+                }, afterId, pageSize);
+        return page;
+    }
+
+    private void billPage(final CustomerPage page, final TariffSlabs tariff, final Map<Long, Long> minBillAmounts, final long billVersion,
+                          final Progress progress) {
+        int billable = page.bill(tariff, tariffIndex.getMode(), minBillAmounts::get);
+        int[] counts = jdbcTemplate.batchUpdate(CustomerPage.UPDATE_BILL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                page.setBill(ps, i, billVersion);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return billable;
+            }
+        });
+        page.recordStored(counts);
+        progress.pageDone(page.billed(), page.skipped(), page.billedAmount());
+    }
+
+    private static ThreadFactory namedThreads(final String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Thread safe progress of a bill run.
+     */
+    private static final class Progress {
+        private final long id;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong pages = new AtomicLong();
+        private final AtomicLong billed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong billedAmount = new AtomicLong();
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private volatile BillRunStatus.State state = BillRunStatus.State.RUNNING;
+        private volatile Instant finishedAt;
+
+        private Progress(final long runId) {
+            this.id = runId;
+        }
+
+        private void pageDone(final int billedCustomers, final int skippedCustomers, final long pageAmount) {
+            pages.incrementAndGet();
+            billed.addAndGet(billedCustomers);
+            skipped.addAndGet(skippedCustomers);
+            billedAmount.addAndGet(pageAmount);
+        }
+
+        private void fail(final Exception e) {
+            if (failure.compareAndSet(null, e)) {
+                LOGGER.error("Bill run {} failed", id, e);
+            }
+        }
+
+        private void finish() {
+            finishedAt = Instant.now();
+            state = failure.get() == null ? BillRunStatus.State.COMPLETED : BillRunStatus.State.FAILED;
+        }
+
+        private BillRunStatus toStatus() {
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            long elapsedMillis = Duration.between(startedAt, end).toMillis();
+            long billedCustomers = billed.get();
+            double customersPerSecond = elapsedMillis > 0 ? billedCustomers * 1000d / elapsedMillis : 0;
+            Exception e = failure.get();
+            return new BillRunStatus(id, state, pages.get(), billedCustomers, skipped.get(), Money.toDecimal(billedAmount.get()), startedAt, finishedAt,
+                    elapsedMillis, customersPerSecond, e != null ? e.getMessage() : null);
+        }
+    }
+}
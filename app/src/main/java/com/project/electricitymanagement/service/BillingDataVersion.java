@@ -0,0 +1,59 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the version of the tariff and meter data, used to tell whether a stored bill is still current.
+ * A bill is stamped with the version read before the data it is computed from, and a new version is only published
+ * once the caches holding the changed data have been refreshed, so a bill can't be stamped with a version newer
+ * than its data.
+ */
+@Component
+public class BillingDataVersion {
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+
+    /**
+     * The latest published version, or 0 until it is first read from the database.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Returns the current version, reading it from the database on first use.
+     *
+     * @return the current version.
+     */
+    public long current() {
+        long current = version.get();
+        return current != 0 ? current : publish(dataVersionRepository.find(Constants.BILLING_DATA_VERSION));
+    }
+
+    /**
+     * Increments the version in the current transaction. Once the transaction commits, the given action refreshes
+     * the caches of the changed data and the new version is published after it.
+     *
+     * @param refreshCaches the action that drops or reloads the cached copies of the changed data.
+     */
+    public void increment(final Runnable refreshCaches) {
+        long incremented = dataVersionRepository.increment(Constants.BILLING_DATA_VERSION);
+        AfterCommit.run(() -> {
+            refreshCaches.run();
+            publish(incremented);
+        });
+    }
+
+    /**
+     * Publishes a version read from the database, once the caches holding the data it covers have been refreshed.
+     * The published version never goes back.
+     *
+     * @param published the version to publish.
+     * @return the current version.
+     */
+    public long publish(final long published) {
+        return version.accumulateAndGet(published, Math::max);
+    }
+}
@@ -0,0 +1,193 @@
+package com.project.electricitymanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.electricitymanagement.entity.Customer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * Bounded, read-through near-cache of the customers and bills read by id, in front of {@link CustomerService}.
+ * Entries are admitted and evicted by frequency and recency (Caffeine's W-TinyLFU) once the configured size is reached,
+ * and expire a fixed time after they were loaded, which bounds how long a row changed outside this application is served.
+ * A cached bill is only returned while the billing data version it was computed against is current, so tariff and meter
+ * changes make it stale without an invalidation. Changes to a customer invalidate both entries once they are committed,
+ * and changes made by the other instances invalidate the entries of the customers they changed once {@link CustomerChangeLog} sees them.
+ * Cached customers are detached and shared between callers, and must not be modified.
+ */
+@Component
+public class CustomerCache {
+    private final Cache<Long, Customer> customers;
+    private final Cache<Long, CachedBill> bills;
+    /**
+     * Incremented by every invalidation of the customers, so that a load racing with an update doesn't cache the old row.
+     */
+    private final AtomicLong customerGeneration = new AtomicLong();
+    /**
+     * Incremented by every invalidation of the bills.
+     */
+    private final AtomicLong billGeneration = new AtomicLong();
+
+    /**
+     * Creates the customer and bill caches.
+     *
+     * @param maxSize          maximum number of customers, and of bills, kept in the cache.
+     * @param expireAfterWrite time after which a cached customer or bill is loaded again.
+     */
+    public CustomerCache(@Value("${customer.cache.max-size:10000}") final long maxSize,
+                         @Value("${customer.cache.expire-after-write:10m}") final Duration expireAfterWrite) {
+        this.customers = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(expireAfterWrite).recordStats().build();
+        this.bills = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(expireAfterWrite).recordStats().build();
+    }
+
+    /**
+     * Retrieves a customer by its id, loading it on a miss.
+     *
+     * @param id     The id of the customer.
+     * @param loader Reads the customer, with its meter and supplier, from the database.
+     * @return The customer, or empty if no customer exists with the given id.
+     */
+    public Optional<Customer> getCustomer(final Long id, final Function<Long, Optional<Customer>> loader) {
+        Customer cached = customers.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long loadGeneration = customerGeneration.get();
+        Optional<Customer> loaded = loader.apply(id);
+        loaded.ifPresent(customer -> put(customers, customerGeneration, id, customer, loadGeneration));
+        return loaded;
+    }
+
+    /**
+     * Retrieves the bill of a customer, calculating it on a miss or when the cached bill is older than the given version.
+     * A loaded bill is only cached if it is {@linkplain CachedBill#isCacheable() cacheable}.
+     *
+     * @param id             The id of the customer.
+     * @param currentVersion The current billing data version.
+     * @param loader         Reads or calculates the bill, given the current billing data version.
+     * @return The bill of the customer.
+     */
+    public BigDecimal getBill(final Long id, final long currentVersion, final LongFunction<CachedBill> loader) {
+        CachedBill cached = bills.getIfPresent(id);
+        if (cached != null && cached.getVersion() >= currentVersion) {
+            return cached.getAmount();
+        }
+        long loadGeneration = billGeneration.get();
+        CachedBill loaded = loader.apply(currentVersion);
+        if (loaded.isCacheable()) {
+            put(bills, billGeneration, id, loaded, loadGeneration);
+        }
+        return loaded.getAmount();
+    }
+
+    /**
+     * Caches a loaded value, unless an invalidation happened since the load started. The generation is checked again
+     * after the put, so an invalidation running between the check and the put can't leave the old value cached.
+     */
+    private static <V> void put(final Cache<Long, V> cache, final AtomicLong generation, final Long id, final V value,
+                                final long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return;
+        }
+        cache.put(id, value);
+        if (generation.get() != loadGeneration) {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Removes a customer and its bill from the cache. Called once the change to the customer has been committed.
+     *
+     * @param id The id of the customer that has changed.
+     */
+    public void invalidate(final Long id) {
+        customerGeneration.incrementAndGet();
+        billGeneration.incrementAndGet();
+        customers.invalidate(id);
+        bills.invalidate(id);
+    }
+
+    /**
+     * Removes a customer from the cache but keeps its bill, after the stored bill of the customer was written.
+     *
+     * @param id The id of the customer whose stored bill has changed.
+     */
+    public void invalidateCustomer(final Long id) {
+        customerGeneration.incrementAndGet();
+        customers.invalidate(id);
+    }
+
+    /**
+     * Removes every customer from the cache, after bills were written in bulk or a meter or supplier the cached
+     * customers embed was changed. The cached bills stay, since they are checked against the billing data version.
+     */
+    public void invalidateAllCustomers() {
+        customerGeneration.incrementAndGet();
+        customers.invalidateAll();
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts of the customer cache.
+     *
+     * @return the statistics of the customer cache.
+     */
+    public CacheStats getCustomerStats() {
+        return customers.stats();
+    }
+
+    /**
+     * Returns the hit, miss and eviction counts of the bill cache.
+     *
+     * @return the statistics of the bill cache.
+     */
+    public CacheStats getBillStats() {
+        return bills.stats();
+    }
+
+    /**
+     * Returns the number of customers currently cached.
+     *
+     * @return the customer cache size.
+     */
+    public long customerCount() {
+        return customers.estimatedSize();
+    }
+
+    /**
+     * Returns the number of bills currently cached.
+     *
+     * @return the bill cache size.
+     */
+    public long billCount() {
+        return bills.estimatedSize();
+    }
+
+    /**
+     * A bill with the billing data version it was computed against.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class CachedBill {
+        /**
+         * The bill amount.
+         */
+        private final BigDecimal amount;
+        /**
+         * The billing data version the bill was computed against.
+         */
+        private final long version;
+        /**
+         * False for a bill that is returned but not cached, because it wasn't stored and may have been computed from stale data.
+         */
+        private final boolean cacheable;
+    }
+}
@@ -0,0 +1,150 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.CustomerChangeRepository.CustomerChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Publishes the customer changes made by this instance to the other instances sharing the database, and drops the
+ * customers changed by the others from the customer cache. Every change inserts a row naming the customer into the
+ * {@code customer_change} table in the transaction that makes it, so writes on different customers never wait on each
+ * other. The {@link DataVersionPoller} reads the rows added since its previous poll, and each row invalidates only its
+ * customer, or every cached customer if it names none. Rows inserted by this instance are skipped, since its own changes
+ * already invalidate its cache once they commit.
+ * <p>
+ * Ids are allocated when a row is inserted but become visible when its transaction commits, so a row may appear after
+ * rows with higher ids. The log reads again from the lowest id that may still appear, remembering the rows it already
+ * applied, and gives up on a missing id after {@code customer-change.gap-timeout}, since a rolled back insert leaves its
+ * id unused for good.
+ */
+@Component
+public class CustomerChangeLog {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerChangeLog.class);
+
+    @Autowired
+    private CustomerChangeRepository customerChangeRepository;
+    @Autowired
+    private CustomerCache customerCache;
+    @Value("${customer-change.gap-timeout:1m}")
+    private Duration gapTimeout;
+    @Value("${customer-change.retention:1h}")
+    private Duration retention;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Id up to which every row has been applied or given up on, guarded by this log; -1 until the first poll.
+     */
+    private long appliedUpTo = -1;
+    /**
+     * Ids of the rows applied past a missing id, guarded by this log.
+     */
+    private final TreeSet<Long> appliedAfterGap = new TreeSet<>();
+    /**
+     * The id applied up to when a missing id was last noticed, and when, in {@link System#nanoTime()} units, guarded by this log.
+     */
+    private long gapAt = -1;
+    private long gapSince;
+    /**
+     * When the old rows were last deleted, in {@link System#nanoTime()} units, guarded by this log.
+     */
+    private long lastPurge = System.nanoTime();
+
+    /**
+     * Records a change to a customer, in the current transaction.
+     *
+     * @param id the id of the changed customer.
+     */
+    public void record(final Long id) {
+        record(List.of(id));
+    }
+
+    /**
+     * Records changes to customers, in the current transaction.
+     *
+     * @param ids the ids of the changed customers.
+     */
+    public void record(final Collection<Long> ids) {
+        customerChangeRepository.insert(instanceId, ids);
+    }
+
+    /**
+     * Records a change that may have affected every customer, such as a bill run. A failure only leaves the other instances
+     * serving their cached customers until they expire, so it is logged instead of thrown.
+     */
+    public void recordAllCustomers() {
+        try {
+            customerChangeRepository.insertAll(instanceId);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Recording a change to every customer failed, other instances may serve cached customers until they expire", e);
+        }
+    }
+
+    /**
+     * Drops the customers changed by the other instances since the previous poll from the customer cache, and deletes the
+     * rows older than {@code customer-change.retention}. The first poll only records where the log ends, since the cache
+     * is empty before it.
+     */
+    public synchronized void poll() {
+        if (appliedUpTo < 0) {
+            appliedUpTo = customerChangeRepository.findLastId();
+            return;
+        }
+        for (CustomerChange change : customerChangeRepository.findAfter(appliedUpTo)) {
+            if (appliedAfterGap.add(change.id()) && !instanceId.equals(change.instanceId())) {
+                if (change.customerId() == null) {
+                    customerCache.invalidateAllCustomers();
+                } else {
+                    customerCache.invalidate(change.customerId());
+                }
+            }
+        }
+        advance();
+        purge();
+    }
+
+    /**
+     * Moves past the applied rows that follow on from the rows applied before, and past a missing id once it has been
+     * missing for the gap timeout.
+     */
+    private void advance() {
+        long now = System.nanoTime();
+        while (!appliedAfterGap.isEmpty()) {
+            long next = appliedAfterGap.first();
+            if (next == appliedUpTo + 1) {
+                appliedUpTo = appliedAfterGap.pollFirst();
+                continue;
+            }
+            if (gapAt != appliedUpTo) {
+                gapAt = appliedUpTo;
+                gapSince = now;
+            }
+            if (now - gapSince < gapTimeout.toNanos()) {
+                return;
+            }
+            LOGGER.debug("Customer changes {} to {} never appeared, skipping them", appliedUpTo + 1, next - 1);
+            appliedUpTo = next - 1;
+        }
+    }
+
+    private void purge() {
+        long now = System.nanoTime();
+        if (now - lastPurge >= retention.toNanos()) {
+            lastPurge = now;
+            int deleted = customerChangeRepository.deleteOlderThan(retention);
+            LOGGER.debug("Deleted {} customer changes older than {}", deleted, retention);
+        }
+    }
+}
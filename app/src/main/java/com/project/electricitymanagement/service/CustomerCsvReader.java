@@ -0,0 +1,161 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.exception.InvalidRequestException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads customers from a CSV document, one customer per line.
+ * The first line is a header naming the columns after the fields of {@link CustomerDto}, in any order
+ * and either in camel case or in snake case. Fields may be quoted with double quotes, and a quote inside
+ * a quoted field is written twice.
+ */
+public final class CustomerCsvReader {
+    private static final String[] COLUMNS = {"name", "address", "connectiondate", "lastreading", "currentreading", "meterid", "supplierid"};
+    private static final int NAME = 0;
+    private static final int ADDRESS = 1;
+    private static final int CONNECTION_DATE = 2;
+    private static final int LAST_READING = 3;
+    private static final int CURRENT_READING = 4;
+    private static final int METER_ID = 5;
+    private static final int SUPPLIER_ID = 6;
+
+    private final BufferedReader reader;
+    /**
+     * Position of each of the {@link #COLUMNS} in a line.
+     */
+    private final int[] positions = new int[COLUMNS.length];
+
+    /**
+     * Creates a reader and reads the header line.
+     *
+     * @param source the CSV document.
+     * @throws IOException if the document can't be read.
+     * @throws InvalidRequestException if the header is missing or lacks a column.
+     */
+    public CustomerCsvReader(final BufferedReader source) throws IOException {
+        this.reader = source;
+        String header = nextLine();
+        if (header == null) {
+            throw new InvalidRequestException("The CSV document has no header line");
+        }
+        Map<String, Integer> headerPositions = new HashMap<>();
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            headerPositions.put(names.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Integer position = headerPositions.get(COLUMNS[i]);
+            if (position == null) {
+                throw new InvalidRequestException(String.format("The CSV header has no %s column", COLUMNS[i]));
+            }
+            positions[i] = position;
+        }
+    }
+
+    /**
+     * Reads the next customer.
+     *
+     * @return the customer, or null at the end of the document.
+     * @throws IOException if the document can't be read.
+     * @throws IllegalArgumentException if the line can't be converted to a customer.
+     */
+    public CustomerDto next() throws IOException {
+        String line = nextLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = split(line);
+        CustomerDto customer = new CustomerDto();
+        customer.setName(field(fields, NAME));
+        customer.setAddress(field(fields, ADDRESS));
+        String connectionDate = field(fields, CONNECTION_DATE);
+        try {
+            customer.setConnectionDate(connectionDate == null ? null : LocalDate.parse(connectionDate));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format("Invalid connectionDate '%s', expected yyyy-MM-dd", connectionDate), e);
+        }
+        customer.setLastReading(toDouble(fields, LAST_READING));
+        customer.setCurrentReading(toDouble(fields, CURRENT_READING));
+        customer.setMeterId(toLong(fields, METER_ID));
+        customer.setSupplierId(toLong(fields, SUPPLIER_ID));
+        return customer;
+    }
+
+    private String nextLine() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        return line;
+    }
+
+    /**
+     * Returns the trimmed value of a column, or null when it is empty or missing from the line.
+     */
+    private String field(final List<String> fields, final int column) {
+        int position = positions[column];
+        if (position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Double toDouble(final List<String> fields, final int column) {
+        String value = field(fields, column);
+        try {
+            return value == null ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s '%s', expected a number", COLUMNS[column], value), e);
+        }
+    }
+
+    private Long toLong(final List<String> fields, final int column) {
+        String value = field(fields, column);
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Invalid %s '%s', expected an id", COLUMNS[column], value), e);
+        }
+    }
+
+    /**
+     * Splits a line on commas that are not inside double quotes.
+     */
+    static List<String> split(final String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
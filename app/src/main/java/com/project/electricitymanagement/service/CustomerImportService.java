@@ -0,0 +1,266 @@
+package com.project.electricitymanagement.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.electricitymanagement.billing.BillCalculator;
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.dto.CustomerImportReport;
+import com.project.electricitymanagement.dto.CustomerImportResult;
+import com.project.electricitymanagement.exception.InvalidRequestException;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.repository.IdSequenceRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service class that creates customers in bulk.
+ * The meter and supplier tables are read once per import, bills are priced against the in-memory tariff,
+ * and the valid rows are inserted with JDBC batches, each batch in its own transaction, with ids taken from the
+ * same sequence as the customers created through JPA.
+ * A row that fails validation is reported and skipped without affecting the other rows.
+ */
+@Service
+public class CustomerImportService {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerImportService.class);
+    private static final String INSERT_CUSTOMER = "insert into customer"
+            + " (id, name, address, connection_date, last_reading, current_reading, bill_amount, bill_version, meter_id, supplier_id)"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+    @Autowired
+    private TariffIndex tariffIndex;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Validator validator;
+    @Value("${customer-import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Imports the customers of a JSON array.
+     * Elements that can't be converted to a customer are rejected individually. If the document itself is malformed,
+     * the rows read before the error are still imported and the error is reported on the row where reading stopped.
+     *
+     * @param json The JSON array of customers.
+     * @return The report of the import.
+     * @throws IOException if the request body can't be read.
+     * @throws InvalidRequestException if the document is not a JSON array.
+     */
+    public CustomerImportReport importJson(final InputStream json) throws IOException {
+        Importer importer = new Importer();
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("Expected a JSON array of customers");
+            }
+            try {
+                for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                    if (token == null) {
+                        throw new InvalidRequestException("The JSON array of customers is not closed");
+                    }
+                    JsonNode element = parser.readValueAsTree();
+                    try {
+                        importer.add(objectMapper.treeToValue(element, CustomerDto.class));
+                    } catch (JsonProcessingException e) {
+                        importer.reject(e.getOriginalMessage());
+                    }
+                }
+            } catch (JsonProcessingException | InvalidRequestException e) {
+                importer.reject(String.format("Import stopped, the document is malformed: %s", e.getMessage()));
+            }
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Imports the customers of a CSV document, see {@link CustomerCsvReader} for the expected format.
+     * Lines that can't be converted to a customer are rejected individually.
+     *
+     * @param csv The CSV document, encoded in UTF-8.
+     * @return The report of the import.
+     * @throws IOException if the request body can't be read.
+     * @throws InvalidRequestException if the header line is missing or incomplete.
+     */
+    public CustomerImportReport importCsv(final InputStream csv) throws IOException {
+        CustomerCsvReader reader = new CustomerCsvReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        Importer importer = new Importer();
+        boolean more = true;
+        while (more) {
+            try {
+                CustomerDto customer = reader.next();
+                more = customer != null;
+                if (more) {
+                    importer.add(customer);
+                }
+            } catch (IllegalArgumentException e) {
+                importer.reject(e.getMessage());
+            }
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Inserts a batch of customers with consecutive ids starting at the given one.
+     */
+    private void insert(final long firstId, final List<CustomerDto> customers, final long[] billAmounts, final long billVersion) {
+        jdbcTemplate.execute((ConnectionCallback<int[]>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_CUSTOMER)) {
+                for (int i = 0; i < customers.size(); i++) {
+                    CustomerDto customer = customers.get(i);
+                    ps.setLong(1, firstId + i);
+                    ps.setString(2, customer.getName());
+                    ps.setString(3, customer.getAddress());
+                    ps.setDate(4, Date.valueOf(customer.getConnectionDate()));
+                    ps.setDouble(5, customer.getLastReading());
+                    ps.setDouble(6, customer.getCurrentReading());
+                    ps.setBigDecimal(7, Money.toDecimal(billAmounts[i]));
+                    ps.setLong(8, billVersion);
+                    ps.setLong(9, customer.getMeterId());
+                    ps.setLong(10, customer.getSupplierId());
+                    ps.addBatch();
+                }
+                return ps.executeBatch();
+            }
+        });
+    }
+
+    /**
+     * State of one import: the reference data read at the start and the rows waiting for the next batch.
+     */
+    private final class Importer {
+        private final long startedAt = System.nanoTime();
+        private final long billVersion = billingDataVersion.current();
+        private final Map<Long, Long> minBillAmounts = new HashMap<>();
+        private final Set<Long> supplierIds = new HashSet<>();
+        private final List<CustomerImportResult> results = new ArrayList<>();
+        private final List<CustomerDto> pending = new ArrayList<>();
+        private final List<Integer> pendingRows = new ArrayList<>();
+        private final long[] pendingBills = new long[batchSize];
+        private int rows;
+        private int imported;
+
+        private Importer() {
+            jdbcTemplate.query("select id, min_bill_amount from meter", rs -> {
+                minBillAmounts.put(rs.getLong(1), Money.toMinorUnits(rs.getBigDecimal(2)));
+            });
+            jdbcTemplate.query("select id from supplier", rs -> {
+                supplierIds.add(rs.getLong(1));
+            });
+        }
+
+        private void add(final CustomerDto customer) {
+            rows++;
+            String error = validate(customer);
+            if (error != null) {
+                results.add(CustomerImportResult.rejected(rows, error));
+                return;
+            }
+            double unitsConsumed = customer.getCurrentReading() - customer.getLastReading();
+            long unitsCharge = tariffIndex.findCharge(unitsConsumed);
+            if (unitsCharge == TariffSlabs.NOT_FOUND) {
+                results.add(CustomerImportResult.rejected(rows,
+                        new ResourceNotFoundException("Price per unit", "unit consumed ", unitsConsumed).getMessage()));
+                return;
+            }
+            pendingBills[pending.size()] = BillCalculator.billAmount(unitsCharge, minBillAmounts.get(customer.getMeterId()));
+            pending.add(customer);
+            pendingRows.add(rows);
+            if (pending.size() == batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(final String error) {
+            rows++;
+            results.add(CustomerImportResult.rejected(rows, error));
+        }
+
+        private String validate(final CustomerDto customer) {
+            Set<ConstraintViolation<CustomerDto>> violations = validator.validate(customer);
+            if (!violations.isEmpty()) {
+                return violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+            if (customer.getConnectionDate() == null) {
+                return "connectionDate: must not be null";
+            }
+            if (!minBillAmounts.containsKey(customer.getMeterId())) {
+                return new ResourceNotFoundException(Constants.METER, Constants.ID, customer.getMeterId()).getMessage();
+            }
+            if (!supplierIds.contains(customer.getSupplierId())) {
+                return new ResourceNotFoundException(Constants.SUPPLIER, Constants.ID, customer.getSupplierId()).getMessage();
+            }
+            return null;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                long firstId = idSequenceRepository.allocate(Constants.CUSTOMER_SEQUENCE, pending.size());
+                transactionTemplate.executeWithoutResult(status -> insert(firstId, pending, pendingBills, billVersion));
+                for (int i = 0; i < pending.size(); i++) {
+                    results.add(CustomerImportResult.imported(pendingRows.get(i), firstId + i, Money.toDecimal(pendingBills[i])));
+                }
+                imported += pending.size();
+            } catch (DataAccessException e) {
+                String error = "Batch insert failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                LOGGER.warn("Customer import batch of {} rows failed", pending.size(), e);
+                pendingRows.forEach(row -> results.add(CustomerImportResult.rejected(row, error)));
+            }
+            pending.clear();
+            pendingRows.clear();
+        }
+
+        private CustomerImportReport finish() {
+            flush();
+            results.sort(Comparator.comparingInt(CustomerImportResult::getRow));
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            LOGGER.info("Imported {} of {} customers in {} ms", imported, rows, elapsedMillis);
+            return new CustomerImportReport(rows, imported, rows - imported, elapsedMillis, results);
+        }
+    }
+}
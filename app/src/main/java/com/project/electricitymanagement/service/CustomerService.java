@@ -0,0 +1,262 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.billing.BillCalculator;
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.dto.KeysetPage;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.mapper.CustomerMapper;
+import com.project.electricitymanagement.repository.CustomerRepository;
+import com.project.electricitymanagement.repository.StreamingRepository;
+import com.project.electricitymanagement.repository.SupplierRepository;
+import com.project.electricitymanagement.entity.Meter;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Service class for managing operations related to customer.
+ */
+@Service
+@Timed(value = "billing.service", description = "Service method calls, tagged with the class and method")
+@Transactional(readOnly = true)
+public class CustomerService {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomerService.class);
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private StreamingRepository streamingRepository;
+    @Autowired
+    private MeterCache meterCache;
+    @Autowired
+    private SupplierRepository supplierRepository;
+    @Autowired
+    private TariffIndex tariffIndex;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private CustomerCache customerCache;
+    @Autowired
+    private CustomerChangeLog customerChangeLog;
+
+    /**
+     * Retrieves list of all the customers in the database.
+     *
+     * @return List of all the customers.
+     */
+    public List<Customer> getAllCustomers() {
+        return customerRepository.findAll();
+    }
+
+    /**
+     * Retrieves one page of customers in ascending id order.
+     *
+     * @param after The id of the last customer of the previous page, or null for the first page.
+     * @param size  The maximum number of customers in the page.
+     * @return The page of customers.
+     */
+    public KeysetPage<Customer> getCustomersPage(final Long after, final int size) {
+        int pageSize = KeysetPage.pageSize(size);
+        List<Customer> rows = customerRepository.findByIdGreaterThanOrderByIdAsc(Objects.requireNonNullElse(after, Long.MIN_VALUE), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Customer::getId);
+    }
+
+    /**
+     * Passes every customer to the given action while it is read, without loading the whole table in memory.
+     *
+     * @param action The action to perform on each customer.
+     */
+    public void streamAllCustomers(final Consumer<Customer> action) {
+        streamingRepository.forEachCustomer(action);
+    }
+
+    /**
+     * Retrieves a customer by its id, from the customer cache or from the database.
+     * A cache hit doesn't start a transaction, so it takes no database connection.
+     *
+     * @param id The id of the customer to retrieve.
+     * @return The customer with the specified id.
+     * @throws ResourceNotFoundException if the customer with the specified id is not found.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Customer getCustomerById(final Long id) {
+
+        return customerCache.getCustomer(id, customerRepository::findWithMeterAndSupplierById)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.CUSTOMER, Constants.ID, id));
+    }
+
+    /**
+     * Creates a new customer.
+     *
+     * @param customerData The customerDto containing information about the new customer.
+     * @return The newly created customer.
+     */
+    @Transactional
+    public Customer createCustomer(final CustomerDto customerData) {
+        validateMeterAndSupplier(customerData);
+        Customer customer = CustomerMapper.toEntity(customerData);
+        long billVersion = billingDataVersion.current();
+        BigDecimal billAmount = calculateBillAmount(customerData.getLastReading(), customerData.getCurrentReading(), customerData.getMeterId());
+        customer.setBillAmount(billAmount);
+        customer.setBillVersion(billVersion);
+        return customerRepository.save(customer);
+    }
+
+    /**
+     * Updates an existing customer.
+     *
+     * @param id              The id of the customer to update
+     * @param customerDetails The customerDto that contains the updated information of the customer.
+     * @return The updated customer
+     * @throws ResourceNotFoundException if the customer with the specified id is not found.
+     */
+    @Transactional
+    public Customer updateCustomer(final Long id, final CustomerDto customerDetails) {
+        Customer customer = customerRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.CUSTOMER, Constants.ID, id));
+        validateMeterAndSupplier(customerDetails);
+
+        //If we consider that the connection date should only be set while creating a new customer, then while updating a customer, setting Connection date is skipped.
+        CustomerMapper.updateEntity(customerDetails, customer);
+        long billVersion = billingDataVersion.current();
+        BigDecimal billAmount = calculateBillAmount(customerDetails.getLastReading(), customerDetails.getCurrentReading(), customer.getMeter().getId());
+        customer.setBillAmount(billAmount);
+        customer.setBillVersion(billVersion);
+        Customer updatedCustomer = customerRepository.save(customer);
+        customerChangeLog.record(id);
+        AfterCommit.run(() -> customerCache.invalidate(id));
+        return updatedCustomer;
+    }
+
+    /**
+     * Deletes a customer by its id.
+     *
+     * @param id The id of the customer to be deleted.
+     * @return Response entity with status of operation.
+     * @throws ResourceNotFoundException if the customer with the specified id is not found.
+     */
+    @Transactional
+    public ResponseEntity<Object> deleteCustomerById(final Long id) {
+        Customer customer = customerRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.CUSTOMER, "id", id));
+        customerRepository.delete(customer);
+        customerChangeLog.record(id);
+        AfterCommit.run(() -> customerCache.invalidate(id));
+        return ResponseEntity.ok().build();
+    }
+    /**
+     * This method calculates the bill of the customer using the tariff, flat or progressive, and minimum bill amount based on the load.
+     *
+     * @param lastReading    (double) The last reading of the meter.
+     * @param currentReading (double) The current reading of the meter.
+     * @param meterId        The meter ID of the customer.
+     * @return The total bill amount
+     */
+    public BigDecimal calculateBillAmount(final double lastReading, final double currentReading, final Long meterId) {
+
+        double unitsConsumed = currentReading - lastReading;
+        long unitsCharge = getUnitsCharge(unitsConsumed);
+        long minBillAmount = getMinBillAmount(meterId);
+        LOGGER.trace("Calculating bill of customer having meter id {}", meterId);
+        return Money.toDecimal(BillCalculator.billAmount(unitsCharge, minBillAmount));
+    }
+
+    /**
+     * This method returns bill of the customer by id, from the customer cache while it was computed against the current
+     * tariff and meter data. Otherwise the stored bill is returned as is when it is current, or the bill is recomputed
+     * and stored again, unless the customer was changed in the meantime.
+     * A cache hit doesn't start a transaction, so it takes no database connection.
+     *
+     * @param id Customer id.
+     * @return Total bill of the customer.
+     * @throws ResourceNotFoundException if the customer is not found.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BigDecimal getCustomerBillById(final Long id) {
+        return customerCache.getBill(id, billingDataVersion.current(), billVersion -> loadBill(id, billVersion));
+    }
+
+    /**
+     * Reads the stored bill of the customer, or recomputes and stores it when it is older than the given version.
+     * A recomputed bill that the guarded update didn't store is returned without being cached: the customer changed since
+     * it was read, possibly from a replica that was behind, or a bill against a newer version was stored meanwhile.
+     *
+     * @param id          Customer id.
+     * @param billVersion The current billing data version.
+     * @return The bill with the version it was computed against.
+     * @throws ResourceNotFoundException if the customer is not found.
+     */
+    private CustomerCache.CachedBill loadBill(final Long id, final long billVersion) {
+        Customer customer = customerRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(Constants.CUSTOMER, "id", id));
+        if (customer.getBillAmount() != null && customer.getBillVersion() != null && customer.getBillVersion() >= billVersion) {
+            return new CustomerCache.CachedBill(customer.getBillAmount(), customer.getBillVersion(), true);
+        }
+        Long meterId = customer.getMeter().getId();
+        BigDecimal billAmount = calculateBillAmount(customer.getLastReading(), customer.getCurrentReading(), meterId);
+        boolean stored = customerRepository.updateBill(id, customer.getLastReading(), customer.getCurrentReading(), meterId, billAmount,
+                billVersion) > 0;
+        if (stored) {
+            //The cached customer still holds the previous stored bill.
+            customerCache.invalidateCustomer(id);
+        }
+        return new CustomerCache.CachedBill(billAmount, billVersion, stored);
+    }
+
+    /**
+     * Retrieves the Minimum bill amount for the given meterID.
+     *
+     * @param meterId MeterID
+     * @return Minimum bill amount, in minor units
+     * @throws ResourceNotFoundException if the meter with the given id is not found.
+     */
+    private long getMinBillAmount(final Long meterId) {
+        Meter meter = meterCache.findById(meterId).orElseThrow(() -> new ResourceNotFoundException(Constants.METER, Constants.ID, meterId));
+        return Money.toMinorUnits(meter.getMinBillAmount());
+    }
+
+    /**
+     * Retrieves the charge of the units consumed by the customer.
+     *
+     * @param unitsConsumed units consumed by the customer
+     * @return charge of the units consumed, in minor units
+     * @throws ResourceNotFoundException if the unit consumed doesn't fit in any range in the database.
+     */
+    private long getUnitsCharge(final double unitsConsumed) {
+        long charge = tariffIndex.findCharge(unitsConsumed);
+        if (charge == TariffSlabs.NOT_FOUND) {
+            throw new ResourceNotFoundException("Price per unit", "unit consumed ", unitsConsumed);
+        }
+        return charge;
+    }
+
+    /**
+     * Performs validation of the meter and supplier ID in the customer Dto.
+     *
+     * @param customerDto CustomerDto
+     * @throws ResourceNotFoundException if the meter or the supplier with the given id is not found.
+     */
+    private void validateMeterAndSupplier(final CustomerDto customerDto) {
+
+        meterCache.findById(customerDto.getMeterId())
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.METER, Constants.ID, customerDto.getMeterId()));
+        supplierRepository.findById(customerDto.getSupplierId())
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.SUPPLIER, Constants.ID, customerDto.getSupplierId()));
+
+    }
+}
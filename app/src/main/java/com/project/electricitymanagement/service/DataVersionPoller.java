@@ -0,0 +1,194 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.entity.Supplier;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import com.project.electricitymanagement.repository.SupplierRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the caches of this instance coherent with the changes made by the other instances sharing the database. Every
+ * change to a meter, a supplier or a price per unit slab increments the version of its table in the
+ * {@code data_version} table, in the same transaction. The versions are read in one query every
+ * {@code data-version.poll-interval}, along with the {@link CustomerChangeLog}, and the caches of a table whose version moved are
+ * refreshed, so they are never more stale than the poll interval. The tables are read again on the primary, even when
+ * reads go to replicas, so a replica that lags behind can't refill the caches with the data from before the change. The
+ * billing data version is published last, once the meters and the tariff it covers have been refreshed, so a bill can't
+ * be stamped with a version newer than its data, and the table versions the list ETags are derived from are published
+ * after their caches, so an ETag is never newer than its response. Changes made by this instance are seen as well and
+ * refresh its caches a second time.
+ */
+@Component
+public class DataVersionPoller {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataVersionPoller.class);
+
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+    @Autowired
+    private MeterRepository meterRepository;
+    @Autowired
+    private SupplierRepository supplierRepository;
+    @Autowired
+    private PricePerUnitRepository pricePerUnitRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterCache meterCache;
+    @Autowired
+    private CustomerCache customerCache;
+    @Autowired
+    private TariffIndex tariffIndex;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+    @Autowired
+    private CustomerChangeLog customerChangeLog;
+    @Value("${data-version.poll-interval:1s}")
+    private Duration pollInterval;
+
+    /**
+     * Versions seen by the previous poll, guarded by this poller.
+     */
+    private final Map<String, Long> seen = new HashMap<>();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "data-version-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Reads the current versions, then starts polling in the background once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        pollSafely();
+        long interval = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::pollSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the poller thread when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    /**
+     * Reads the versions and refreshes the caches of the tables that changed since the previous poll, then drops the
+     * customers changed by the other instances from the customer cache.
+     * The first poll only records and publishes the versions, since the caches are loaded after them.
+     * The versions are only recorded once the caches have been refreshed, so a failed refresh is retried by the next poll.
+     */
+    public synchronized void poll() {
+        Map<String, Long> versions = dataVersionRepository.findAll();
+        if (seen.isEmpty()) {
+            seen.putAll(versions);
+            publishReferenceVersions(versions);
+            customerChangeLog.poll();
+            return;
+        }
+        boolean meters = changed(versions, Constants.METER_DATA_VERSION);
+        boolean suppliers = changed(versions, Constants.SUPPLIER_DATA_VERSION);
+        boolean tariff = changed(versions, Constants.PRICE_PER_UNIT_DATA_VERSION);
+        boolean billing = changed(versions, Constants.BILLING_DATA_VERSION);
+
+        if (meters || suppliers || tariff) {
+            Cache secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+            //The cached findAll results don't know about changes made by the other instances.
+            secondLevelCache.evictDefaultQueryRegion();
+            if (meters) {
+                secondLevelCache.evictEntityData(Meter.class);
+            }
+            if (suppliers) {
+                secondLevelCache.evictEntityData(Supplier.class);
+            }
+            if (tariff) {
+                secondLevelCache.evictEntityData(PricePerUnit.class);
+            }
+            //A read-write transaction reads from the primary: a replica may not have the change yet, and the versions
+            //published below tell the readers that the caches already hold it.
+            transactionTemplate.executeWithoutResult(status -> reload(meters, tariff));
+        }
+        if (meters || suppliers) {
+            customerCache.invalidateAllCustomers();
+        }
+        seen.putAll(versions);
+        publishReferenceVersions(versions);
+        if (billing) {
+            billingDataVersion.publish(versions.get(Constants.BILLING_DATA_VERSION));
+        }
+        if (meters || suppliers || tariff || billing) {
+            LOGGER.debug("Reference data changed, caches refreshed: meters {}, suppliers {}, tariff {}, billing {}", meters, suppliers, tariff, billing);
+        }
+        customerChangeLog.poll();
+    }
+
+    /**
+     * Reads the reference tables again, so that the second-level cache, the cached findAll results, the meter cache and
+     * the tariff index are filled by the caller's transaction rather than by the next requests.
+     */
+    private void reload(final boolean meters, final boolean tariff) {
+        meterRepository.findAll();
+        supplierRepository.findAll();
+        pricePerUnitRepository.findAll();
+        if (meters) {
+            meterCache.reloadAll();
+        }
+        if (tariff) {
+            tariffIndex.refresh();
+        }
+    }
+
+    private void publishReferenceVersions(final Map<String, Long> versions) {
+        for (String name : List.of(Constants.METER_DATA_VERSION, Constants.SUPPLIER_DATA_VERSION, Constants.PRICE_PER_UNIT_DATA_VERSION)) {
+            Long version = versions.get(name);
+            if (version != null) {
+                referenceDataVersion.publish(name, version);
+            }
+        }
+    }
+
+    private boolean changed(final Map<String, Long> versions, final String name) {
+        Long version = versions.get(name);
+        return version != null && !version.equals(seen.get(name));
+    }
+
+    /**
+     * Polls, logging a failure instead of throwing it, which would stop the scheduled polls.
+     */
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Polling the data versions failed, caches may be stale until the next poll", e);
+        }
+    }
+}
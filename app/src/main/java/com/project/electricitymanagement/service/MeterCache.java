@@ -0,0 +1,179 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.MeterRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, read-through cache of meters keyed by id, used on the customer billing path.
+ * Entries are evicted in least recently used order once the configured size is reached,
+ * and are invalidated by {@link MeterService} whenever a meter is updated or deleted, or reloaded by
+ * {@link DataVersionPoller} when another instance changed the meters.
+ * Cached meters are detached copies shared between callers and must not be modified.
+ */
+@Component
+public class MeterCache {
+    @Autowired
+    private MeterRepository meterRepository;
+    @Value("${meter.cache.max-size:1024}")
+    private int maxSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * Meters in access order, so that the first entry is the least recently used one.
+     */
+    private final LinkedHashMap<Long, Meter> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    /**
+     * Incremented by every invalidation, so that a load racing with an update doesn't cache the old row.
+     */
+    private long generation;
+
+    /**
+     * Retrieves a meter by its id, loading it from the database on a miss.
+     *
+     * @param id The id of the meter.
+     * @return The meter, or empty if no meter exists with the given id.
+     */
+    public Optional<Meter> findById(final Long id) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            Meter cached = entries.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            misses.increment();
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        //The database is read outside the lock so that a slow query doesn't block the cache hits.
+        Optional<Meter> loaded = meterRepository.findById(id)
+                .map(meter -> new Meter(meter.getId(), meter.getLoadAmount(), meter.getMinBillAmount()));
+        loaded.ifPresent(meter -> {
+            lock.lock();
+            try {
+                if (loadGeneration == generation) {
+                    entries.put(id, meter);
+                    evictOverflow();
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Drops least recently used meters until the cache fits in its maximum size. Must be called with the lock held.
+     */
+    private void evictOverflow() {
+        Iterator<Long> eldest = entries.keySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes a meter from the cache.
+     *
+     * @param id The id of the meter that has changed.
+     */
+    public void invalidate(final Long id) {
+        lock.lock();
+        try {
+            generation++;
+            entries.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads every cached meter again, after meters were changed by another application instance, so that the meters in
+     * use are read by the caller's transaction rather than by the next lookups. Meters that were deleted are dropped.
+     */
+    public void reloadAll() {
+        List<Long> ids;
+        long loadGeneration;
+        lock.lock();
+        try {
+            generation++;
+            ids = new ArrayList<>(entries.keySet());
+            entries.clear();
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        List<Meter> loaded = meterRepository.findAllById(ids);
+        lock.lock();
+        try {
+            if (loadGeneration == generation) {
+                for (Meter meter : loaded) {
+                    entries.put(meter.getId(), new Meter(meter.getId(), meter.getLoadAmount(), meter.getMinBillAmount()));
+                }
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that went to the database.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of meters evicted because the cache was full.
+     *
+     * @return the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of meters currently cached.
+     *
+     * @return the cache size.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
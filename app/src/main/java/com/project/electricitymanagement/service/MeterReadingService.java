@@ -0,0 +1,408 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.billing.BillCalculator;
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.config.ReadYourWrites;
+import com.project.electricitymanagement.dto.MeterReadingDto;
+import com.project.electricitymanagement.dto.MeterReadingResult;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.exception.InvalidRequestException;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service class that records meter readings with group commit.
+ * Every request submits its readings to a queue and waits. A single committer thread takes everything queued while the
+ * previous group was being committed, up to {@code meter-reading.max-group-size} readings, and records the whole group
+ * in one transaction: one locking read of the customers, then one update per customer, sent as a JDBC batch.
+ * Under load many requests share each commit; when idle a reading is committed on its own straight away.
+ * The readings of one request are recorded together or not at all. A request whose readings are invalid fails alone,
+ * and if the transaction of a group fails, its requests are retried one by one so that only the culprit fails.
+ */
+@Service
+public class MeterReadingService {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MeterReadingService.class);
+    /**
+     * Stores the readings and bill of a customer.
+     */
+    public static final String UPDATE_READING =
+            "update customer set last_reading = ?, current_reading = ?, bill_amount = ?, bill_version = ? where id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TariffIndex tariffIndex;
+    @Autowired
+    private MeterCache meterCache;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private CustomerCache customerCache;
+    @Autowired
+    private CustomerChangeLog customerChangeLog;
+    @Value("${meter-reading.max-group-size:1000}")
+    private int maxGroupSize;
+    @Value("${meter-reading.timeout:30s}")
+    private Duration timeout;
+
+    private final BlockingQueue<Submission> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService committer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "meter-reading-committer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong groupCount = new AtomicLong();
+    private final AtomicLong readingCount = new AtomicLong();
+
+    /**
+     * Starts the committer thread.
+     */
+    @PostConstruct
+    public void start() {
+        committer.execute(this::commitLoop);
+    }
+
+    /**
+     * Stops the committer thread when the application shuts down, waiting up to {@code meter-reading.timeout} for the
+     * group being committed. Readings still queued are failed, including those queued after the committer stopped.
+     */
+    @PreDestroy
+    public void shutdown() {
+        committer.shutdownNow();
+        try {
+            if (!committer.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("The meter reading committer didn't stop within {}", timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectQueued();
+    }
+
+    /**
+     * Records a reading of the meter of a customer: the current reading becomes the last reading, the new reading
+     * becomes the current one, and the bill is recalculated. Returns once the reading has been committed.
+     *
+     * @param reading The reading, with the id of the customer.
+     * @return The readings and bill of the customer.
+     * @throws ResourceNotFoundException if the customer, its meter or the price per unit of the consumption is not found.
+     * @throws InvalidRequestException   if the reading is lower than the current reading of the customer.
+     */
+    @Timed(value = "billing.service", description = "Service method calls, tagged with the class and method")
+    public MeterReadingResult recordReading(final MeterReadingDto reading) {
+        return recordReadings(List.of(reading)).get(0);
+    }
+
+    /**
+     * Records readings of the meters of several customers, all or none of them, in the order given. Several readings of
+     * the same customer are rolled one after the other. Returns once the readings have been committed.
+     *
+     * @param readings The readings, each with the id of its customer.
+     * @return The readings and bill of the customer after each reading, in the order of the readings.
+     * @throws ResourceNotFoundException if a customer, its meter or the price per unit of a consumption is not found.
+     * @throws InvalidRequestException   if there are no readings or too many, or a reading has no customer id, is negative
+     *                                   or is lower than the current reading of its customer.
+     * @throws IllegalStateException     if the application is shutting down, or the readings weren't committed within
+     *                                   {@code meter-reading.timeout}.
+     */
+    @Timed(value = "billing.service", description = "Service method calls, tagged with the class and method")
+    public List<MeterReadingResult> recordReadings(final List<MeterReadingDto> readings) {
+        if (readings.isEmpty() || readings.size() > Constants.MAX_READINGS_PER_REQUEST) {
+            throw new InvalidRequestException(String.format("Between 1 and %d readings can be submitted at once", Constants.MAX_READINGS_PER_REQUEST));
+        }
+        for (MeterReadingDto reading : readings) {
+            if (reading.getCustomerId() == null || reading.getReading() == null || reading.getReading() < 0) {
+                throw new InvalidRequestException("Every reading needs a customer id and a reading of zero or more");
+            }
+        }
+        Submission submission = new Submission(List.copyOf(readings));
+        queue.add(submission);
+        //Checked after queueing: the committer may have failed the queued readings for the last time in between.
+        if (committer.isShutdown() && queue.remove(submission)) {
+            throw notAccepted();
+        }
+        List<MeterReadingResult> results;
+        try {
+            results = submission.result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            //Still queued means not recorded; otherwise the committer has taken the readings and is committing them.
+            if (queue.remove(submission)) {
+                throw new IllegalStateException("Meter readings were not recorded within " + timeout);
+            }
+            throw new IllegalStateException("Meter readings were not confirmed within " + timeout + ", they may have been recorded");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(submission);
+            throw new IllegalStateException("Interrupted while waiting for meter readings to be recorded", e);
+        }
+        //The readings were written by the committer thread, outside of this request.
+        ReadYourWrites.recordWrite();
+        return results;
+    }
+
+    /**
+     * Returns the number of transactions committed by the committer thread.
+     *
+     * @return the number of groups committed.
+     */
+    public long getGroupCount() {
+        return groupCount.get();
+    }
+
+    /**
+     * Returns the number of readings committed.
+     *
+     * @return the number of readings committed.
+     */
+    public long getReadingCount() {
+        return readingCount.get();
+    }
+
+    /**
+     * Returns the number of requests waiting for the committer thread.
+     *
+     * @return the number of queued requests.
+     */
+    public int queueSize() {
+        return queue.size();
+    }
+
+    private void commitLoop() {
+        List<Submission> group = new ArrayList<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                group.add(queue.take());
+                int readings = group.get(0).readings.size();
+                Submission next = queue.peek();
+                while (next != null && readings + next.readings.size() <= maxGroupSize) {
+                    group.add(queue.poll());
+                    readings += next.readings.size();
+                    next = queue.peek();
+                }
+                commit(group);
+                group.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            group.forEach(submission -> submission.result.completeExceptionally(notAccepted()));
+            rejectQueued();
+        }
+    }
+
+    /**
+     * Fails every queued request, once the committer has stopped.
+     */
+    private void rejectQueued() {
+        for (Submission submission = queue.poll(); submission != null; submission = queue.poll()) {
+            submission.result.completeExceptionally(notAccepted());
+        }
+    }
+
+    private static IllegalStateException notAccepted() {
+        return new IllegalStateException("Meter readings are no longer accepted");
+    }
+
+    /**
+     * Commits a group in one transaction and completes its requests. If the transaction fails, the requests of the
+     * group are committed one by one.
+     */
+    private void commit(final List<Submission> group) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(group));
+        } catch (RuntimeException e) {
+            if (group.size() == 1) {
+                group.get(0).result.completeExceptionally(e);
+                return;
+            }
+            LOGGER.warn("Committing a group of {} meter reading requests failed, committing them one by one", group.size(), e);
+            group.forEach(submission -> commit(List.of(submission)));
+            return;
+        }
+        groupCount.incrementAndGet();
+        for (Submission submission : group) {
+            if (submission.rejection != null) {
+                submission.result.completeExceptionally(submission.rejection);
+            } else {
+                readingCount.addAndGet(submission.readings.size());
+                submission.result.complete(submission.applied);
+            }
+        }
+    }
+
+    /**
+     * Locks the customers of the group, applies the readings of every request in turn, and writes the final readings
+     * and bill of each customer with one update.
+     */
+    private void apply(final List<Submission> group) {
+        long billVersion = billingDataVersion.current();
+        Map<Long, CustomerReading> locked = lockCustomers(group);
+        Map<Long, CustomerReading> changed = new LinkedHashMap<>();
+        for (Submission submission : group) {
+            submission.applied = null;
+            submission.rejection = null;
+            Map<Long, CustomerReading> staged = new HashMap<>();
+            List<MeterReadingResult> results = new ArrayList<>(submission.readings.size());
+            try {
+                for (MeterReadingDto reading : submission.readings) {
+                    Long id = reading.getCustomerId();
+                    CustomerReading previous = staged.getOrDefault(id, changed.getOrDefault(id, locked.get(id)));
+                    if (previous == null) {
+                        throw new ResourceNotFoundException(Constants.CUSTOMER, Constants.ID, id);
+                    }
+                    CustomerReading next = previous.next(reading.getReading(), billAmount(previous.currentReading, reading.getReading(), previous.meterId));
+                    staged.put(id, next);
+                    results.add(new MeterReadingResult(id, next.lastReading, next.currentReading, Money.toDecimal(next.billAmount)));
+                }
+            } catch (ResourceNotFoundException | InvalidRequestException e) {
+                submission.rejection = e;
+                continue;
+            }
+            changed.putAll(staged);
+            submission.applied = results;
+        }
+        update(changed, billVersion);
+        if (!changed.isEmpty()) {
+            customerChangeLog.record(changed.keySet());
+        }
+        AfterCommit.run(() -> changed.keySet().forEach(customerCache::invalidate));
+    }
+
+    /**
+     * Reads the current reading and meter of the customers of the group, locking them in id order until the transaction ends.
+     */
+    private Map<Long, CustomerReading> lockCustomers(final List<Submission> group) {
+        TreeSet<Long> ids = new TreeSet<>();
+        group.forEach(submission -> submission.readings.forEach(reading -> ids.add(reading.getCustomerId())));
+        Map<Long, CustomerReading> customers = new HashMap<>();
+        jdbcTemplate.query(lockCustomersSql(ids.size()), rs -> {
+            customers.put(rs.getLong(1), new CustomerReading(rs.getDouble(2), rs.getDouble(3), rs.getLong(4), 0));
+        }, ids.toArray());
+        return customers;
+    }
+
+    /**
+     * Builds the statement that reads and locks the customers of a group, in id order.
+     *
+     * @param customers the number of customers in the group.
+     * @return the statement, with one parameter per customer id.
+     */
+    public static String lockCustomersSql(final int customers) {
+        return "select id, last_reading, current_reading, meter_id from customer where id in ("
+                + String.join(", ", Collections.nCopies(customers, "?")) + ") order by id for update";
+    }
+
+    private void update(final Map<Long, CustomerReading> changed, final long billVersion) {
+        List<Map.Entry<Long, CustomerReading>> rows = new ArrayList<>(changed.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_READING, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                CustomerReading row = rows.get(i).getValue();
+                ps.setDouble(1, row.lastReading);
+                ps.setDouble(2, row.currentReading);
+                ps.setBigDecimal(3, Money.toDecimal(row.billAmount));
+                ps.setLong(4, billVersion);
+                ps.setLong(5, rows.get(i).getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * Calculates the bill of the consumption between two readings, like {@link CustomerService#calculateBillAmount}.
+     *
+     * @return the bill, in minor units.
+     */
+    private long billAmount(final double lastReading, final double currentReading, final long meterId) {
+        if (currentReading < lastReading) {
+            throw new InvalidRequestException(String.format("The reading %s is lower than the current reading %s", currentReading, lastReading));
+        }
+        double unitsConsumed = currentReading - lastReading;
+        long unitsCharge = tariffIndex.findCharge(unitsConsumed);
+        if (unitsCharge == TariffSlabs.NOT_FOUND) {
+            throw new ResourceNotFoundException("Price per unit", "unit consumed ", unitsConsumed);
+        }
+        Meter meter = meterCache.findById(meterId).orElseThrow(() -> new ResourceNotFoundException(Constants.METER, Constants.ID, meterId));
+        return BillCalculator.billAmount(unitsCharge, Money.toMinorUnits(meter.getMinBillAmount()));
+    }
+
+    /**
+     * The readings of one request and their outcome, set by the committer thread before the result is completed.
+     */
+    private static final class Submission {
+        private final List<MeterReadingDto> readings;
+        private final CompletableFuture<List<MeterReadingResult>> result = new CompletableFuture<>();
+        private List<MeterReadingResult> applied;
+        private RuntimeException rejection;
+
+        private Submission(final List<MeterReadingDto> submittedReadings) {
+            this.readings = submittedReadings;
+        }
+    }
+
+    /**
+     * The readings, meter and bill of a customer.
+     */
+    private static final class CustomerReading {
+        private final double lastReading;
+        private final double currentReading;
+        private final long meterId;
+        private final long billAmount;
+
+        private CustomerReading(final double last, final double current, final long meter, final long bill) {
+            this.lastReading = last;
+            this.currentReading = current;
+            this.meterId = meter;
+            this.billAmount = bill;
+        }
+
+        private CustomerReading next(final double reading, final long bill) {
+            return new CustomerReading(currentReading, reading, meterId, bill);
+        }
+    }
+}
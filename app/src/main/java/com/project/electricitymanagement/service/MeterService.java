@@ -0,0 +1,149 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.KeysetPage;
+import com.project.electricitymanagement.dto.MeterDto;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.mapper.MeterMapper;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.StreamingRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Service class for managing operations related to Meter.
+ */
+@Service
+@Timed(value = "billing.service", description = "Service method calls, tagged with the class and method")
+@Transactional(readOnly = true)
+public class MeterService {
+    @Autowired
+    private MeterRepository meterRepository;
+    @Autowired
+    private StreamingRepository streamingRepository;
+    @Autowired
+    private MeterCache meterCache;
+    @Autowired
+    private CustomerCache customerCache;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+    @Autowired
+    private BillRecomputeService billRecomputeService;
+
+    /**
+     * Creates a new Meter.
+     *
+     * @param meterDto The meter containing information about the new meter.
+     * @return The newly created meter.
+     */
+    @Transactional
+    public Meter createMeter(final MeterDto meterDto) {
+        Meter meter = MeterMapper.toEntity(meterDto);
+        Meter savedMeter = meterRepository.save(meter);
+        referenceDataVersion.increment(Constants.METER_DATA_VERSION);
+        return savedMeter;
+    }
+
+    /**
+     * Retrieves list of all the meters in the database.
+     *
+     * @return List of all the meters
+     */
+    public List<Meter> getAllMeters() {
+        return meterRepository.findAll();
+    }
+
+    /**
+     * Retrieves one page of meters in ascending id order.
+     *
+     * @param after The id of the last meter of the previous page, or null for the first page.
+     * @param size  The maximum number of meters in the page.
+     * @return The page of meters.
+     */
+    public KeysetPage<Meter> getMetersPage(final Long after, final int size) {
+        int pageSize = KeysetPage.pageSize(size);
+        List<Meter> rows = meterRepository.findByIdGreaterThanOrderByIdAsc(Objects.requireNonNullElse(after, Long.MIN_VALUE), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Meter::getId);
+    }
+
+    /**
+     * Passes every meter to the given action while it is read, without loading the whole table in memory.
+     *
+     * @param action The action to perform on each meter.
+     */
+    public void streamAllMeters(final Consumer<Meter> action) {
+        streamingRepository.forEachMeter(action);
+    }
+
+    /**
+     * Retrieves a meter by its id from the database.
+     *
+     * @param id The id of the meter to retrieve.
+     * @return The meter with the specified id.
+     * @throws ResourceNotFoundException if the meter with the specified id is not found.
+     */
+    public Meter getMeterById(final Long id) {
+        return meterRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.METER, Constants.ID, id));
+    }
+
+    /**
+     * Updates an existing meter.
+     *
+     * @param id           The id of the meter to update
+     * @param meterDetails The meterDto that contains the updated information of the meter.
+     * @return The updated meter
+     * @throws ResourceNotFoundException if the meter with the specified id is not found.
+     */
+    @Transactional
+    public Meter updateMeter(final Long id, final MeterDto meterDetails) {
+        Meter meter = meterRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.METER, Constants.ID, id));
+
+        MeterMapper.updateEntity(meterDetails, meter);
+        Meter updatedMeter = meterRepository.save(meter);
+        referenceDataVersion.increment(Constants.METER_DATA_VERSION);
+        billingDataVersion.increment(() -> {
+            meterCache.invalidate(id);
+            //Cached customers embed their meter.
+            customerCache.invalidateAllCustomers();
+        });
+        AfterCommit.run(() -> billRecomputeService.recomputeMeter(id, String.format("meter %d updated", id)));
+
+        return updatedMeter;
+    }
+
+    /**
+     * Deletes a meter by its id.
+     *
+     * @param id The id of the meter to be deleted.
+     * @return Response entity with status of the operation.
+     * @throws ResourceNotFoundException if the meter with the specified id is not found.
+     */
+    @Transactional
+    public ResponseEntity<Object> deleteMeter(final Long id) {
+        Meter meter = meterRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.METER, Constants.ID, id));
+
+        meterRepository.delete(meter);
+        referenceDataVersion.increment(Constants.METER_DATA_VERSION);
+        AfterCommit.run(() -> {
+            meterCache.invalidate(id);
+            customerCache.invalidateAllCustomers();
+        });
+
+        return ResponseEntity.ok().build();
+    }
+
+
+}
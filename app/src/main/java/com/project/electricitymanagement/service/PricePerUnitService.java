@@ -0,0 +1,166 @@
+package com.project.electricitymanagement.service;
+
+
+import com.project.electricitymanagement.billing.TariffMode;
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.KeysetPage;
+import com.project.electricitymanagement.dto.PricePerUnitDto;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.mapper.PricePerUnitMapper;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import com.project.electricitymanagement.repository.StreamingRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Service class for managing operations related to PricePerUnit.
+ */
+
+@Service
+@Timed(value = "billing.service", description = "Service method calls, tagged with the class and method")
+@Transactional(readOnly = true)
+public class PricePerUnitService {
+
+    @Autowired
+    private
+    PricePerUnitRepository pricePerUnitRepository;
+    @Autowired
+    private StreamingRepository streamingRepository;
+    @Autowired
+    private TariffIndex tariffIndex;
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+    @Autowired
+    private BillRecomputeService billRecomputeService;
+
+    /**
+     * Retrieves list of all the prices per unit in the database.
+     *
+     * @return List of all the prices per unit
+     */
+    public List<PricePerUnit> getAllPricePerUnit() {
+        return pricePerUnitRepository.findAll();
+    }
+
+    /**
+     * Retrieves one page of prices per unit in ascending id order.
+     *
+     * @param after The id of the last price per unit of the previous page, or null for the first page.
+     * @param size  The maximum number of prices per unit in the page.
+     * @return The page of prices per unit.
+     */
+    public KeysetPage<PricePerUnit> getPricePerUnitPage(final Long after, final int size) {
+        int pageSize = KeysetPage.pageSize(size);
+        List<PricePerUnit> rows = pricePerUnitRepository.findByIdGreaterThanOrderByIdAsc(Objects.requireNonNullElse(after, Long.MIN_VALUE), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, PricePerUnit::getId);
+    }
+
+    /**
+     * Passes every price per unit to the given action while it is read, without loading the whole table in memory.
+     *
+     * @param action The action to perform on each price per unit.
+     */
+    public void streamAllPricePerUnit(final Consumer<PricePerUnit> action) {
+        streamingRepository.forEachPricePerUnit(action);
+    }
+
+    /**
+     * Retrieves a price per unit by its id from the database.
+     *
+     * @param id The id of the price per unit to retrieve.
+     * @return The price per unit with the specified id.
+     * @throws ResourceNotFoundException if the price per unit with the specified id is not found.
+     */
+    public PricePerUnit getPricePerUnitById(final Long id) {
+        return pricePerUnitRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.PRICE_PER_UNIT, Constants.ID, id));
+    }
+    /**
+     * Creates a new price per unit.
+     *
+     * @param pricePerUnitDto The price per unit containing information about the new price per unit.
+     * @return The newly created price per unit.
+     */
+    @Transactional
+    public PricePerUnit createPricePerUnit(final PricePerUnitDto pricePerUnitDto) {
+        PricePerUnit pricePerUnit = PricePerUnitMapper.toEntity(pricePerUnitDto);
+        PricePerUnit savedPricePerUnit = pricePerUnitRepository.save(pricePerUnit);
+        referenceDataVersion.increment(Constants.PRICE_PER_UNIT_DATA_VERSION);
+        billingDataVersion.increment(tariffIndex::refresh);
+        recomputeAfterCommit(savedPricePerUnit.getUnitRangeLower(), savedPricePerUnit.getUnitRangeUpper(),
+                String.format("price per unit %d created", savedPricePerUnit.getId()));
+        return savedPricePerUnit;
+    }
+
+    /**
+     * Updates an existing price per unit.
+     *
+     * @param id           The id of the price per unit to update
+     * @param pricePerUnitDetails The PricePerUnitDto that contains the updated information of the price per unit.
+     * @return The updated price per unit
+     * @throws ResourceNotFoundException if the price per unit with the specified id is not found.
+     */
+    @Transactional
+    public PricePerUnit updatePricePerUnit(final Long id, final PricePerUnitDto pricePerUnitDetails) {
+        PricePerUnit pricePerUnit = pricePerUnitRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.PRICE_PER_UNIT, Constants.ID, id));
+
+        int previousLower = pricePerUnit.getUnitRangeLower();
+        int previousUpper = pricePerUnit.getUnitRangeUpper();
+        PricePerUnitMapper.updateEntity(pricePerUnitDetails, pricePerUnit);
+        PricePerUnit updatedPricePerUnit = pricePerUnitRepository.save(pricePerUnit);
+        referenceDataVersion.increment(Constants.PRICE_PER_UNIT_DATA_VERSION);
+        billingDataVersion.increment(tariffIndex::refresh);
+        String reason = String.format("price per unit %d updated", id);
+        recomputeAfterCommit(updatedPricePerUnit.getUnitRangeLower(), updatedPricePerUnit.getUnitRangeUpper(), reason);
+        if (previousLower != updatedPricePerUnit.getUnitRangeLower() || previousUpper != updatedPricePerUnit.getUnitRangeUpper()) {
+            recomputeAfterCommit(previousLower, previousUpper, reason);
+        }
+        return updatedPricePerUnit;
+    }
+
+    /**
+     * Deletes a price per unit by its id.
+     *
+     * @param id The id of the price per unit to be deleted.
+     * @return Response entity with status of the operation.
+     * @throws ResourceNotFoundException if the price per unit with the specified id is not found.
+     */
+    @Transactional
+    public ResponseEntity<Object> deletePricePerUnit(final Long id) {
+        PricePerUnit pricePerUnit  = pricePerUnitRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(Constants.PRICE_PER_UNIT, Constants.ID, id));
+
+        pricePerUnitRepository.delete(pricePerUnit);
+        referenceDataVersion.increment(Constants.PRICE_PER_UNIT_DATA_VERSION);
+        billingDataVersion.increment(tariffIndex::refresh);
+        recomputeAfterCommit(pricePerUnit.getUnitRangeLower(), pricePerUnit.getUnitRangeUpper(), String.format("price per unit %d deleted", id));
+
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Queues the recompute of the bills of the customers whose units consumed fall in a changed range,
+     * once the change is committed. With the progressive tariff the charge of every higher slab includes the changed range,
+     * so the customers above the range are recomputed too.
+     *
+     * @param lower  The lower bound of the range.
+     * @param upper  The upper bound of the range.
+     * @param reason The change that affected the range.
+     */
+    private void recomputeAfterCommit(final int lower, final int upper, final String reason) {
+        int affectedUpper = tariffIndex.getMode() == TariffMode.PROGRESSIVE ? Integer.MAX_VALUE : upper;
+        AfterCommit.run(() -> billRecomputeService.recomputeUnitRange(lower, affectedUpper, reason));
+    }
+}
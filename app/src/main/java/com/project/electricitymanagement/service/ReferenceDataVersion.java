@@ -0,0 +1,59 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the versions of the meter, supplier and price per unit tables, from which the ETags of their list
+ * endpoints are derived, so a conditional request is answered without a query.
+ * A version is published once the cached copies of the table have been refreshed: by the transaction that changed the
+ * table once it commits, and by {@link DataVersionPoller} for the changes made by the other instances. A response can
+ * therefore carry newer data than its ETag, which only costs one more full response, but never older data.
+ */
+@Component
+public class ReferenceDataVersion {
+    @Autowired
+    private DataVersionRepository dataVersionRepository;
+
+    /**
+     * The latest published version of each table, added on first use.
+     */
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the current version of a table, reading it from the database on first use.
+     *
+     * @param name the name of the version.
+     * @return the current version.
+     */
+    public long current(final String name) {
+        AtomicLong version = versions.get(name);
+        return version != null ? version.get() : publish(name, dataVersionRepository.find(name));
+    }
+
+    /**
+     * Increments the version of a table in the current transaction, and publishes it once the transaction commits.
+     *
+     * @param name the name of the version.
+     */
+    public void increment(final String name) {
+        long incremented = dataVersionRepository.increment(name);
+        AfterCommit.run(() -> publish(name, incremented));
+    }
+
+    /**
+     * Publishes a version read from the database, once the caches holding the table have been refreshed.
+     * The published version never goes back.
+     *
+     * @param name      the name of the version.
+     * @param published the version to publish.
+     * @return the current version.
+     */
+    public long publish(final String name, final long published) {
+        return versions.computeIfAbsent(name, key -> new AtomicLong()).accumulateAndGet(published, Math::max);
+    }
+}
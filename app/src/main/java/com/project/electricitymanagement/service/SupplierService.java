@@ -2,24 +2,40 @@ package com.project.electricitymanagement.service;
 
 
 import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.KeysetPage;
 import com.project.electricitymanagement.dto.SupplierDto;
 import com.project.electricitymanagement.entity.Supplier;
 import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.mapper.SupplierMapper;
+import com.project.electricitymanagement.repository.StreamingRepository;
 import com.project.electricitymanagement.repository.SupplierRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Service class for managing operations related to supplier.
  */
 
 @Service
+@Timed(value = "billing.service", description = "Service method calls, tagged with the class and method")
+@Transactional(readOnly = true)
 public class SupplierService {
     @Autowired
     private SupplierRepository supplierRepository;
+    @Autowired
+    private StreamingRepository streamingRepository;
+    @Autowired
+    private CustomerCache customerCache;
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
 
     /**
      * Creates a new supplier.
@@ -27,12 +43,12 @@ public class SupplierService {
      * @param supplierDto The supplierDto containing information about the new supplier.
      * @return The newly created supplier.
      */
+    @Transactional
     public Supplier createSupplier(final SupplierDto supplierDto) {
-        Supplier supplier = new Supplier();
-        supplier.setName(supplierDto.getName());
-        supplier.setSupplierType(supplierDto.getSupplierType());
-
-        return supplierRepository.save(supplier);
+        Supplier supplier = SupplierMapper.toEntity(supplierDto);
+        Supplier savedSupplier = supplierRepository.save(supplier);
+        referenceDataVersion.increment(Constants.SUPPLIER_DATA_VERSION);
+        return savedSupplier;
     }
 
     /**
@@ -44,6 +60,28 @@ public class SupplierService {
         return supplierRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of suppliers in ascending id order.
+     *
+     * @param after The id of the last supplier of the previous page, or null for the first page.
+     * @param size  The maximum number of suppliers in the page.
+     * @return The page of suppliers.
+     */
+    public KeysetPage<Supplier> getSuppliersPage(final Long after, final int size) {
+        int pageSize = KeysetPage.pageSize(size);
+        List<Supplier> rows = supplierRepository.findByIdGreaterThanOrderByIdAsc(Objects.requireNonNullElse(after, Long.MIN_VALUE), Limit.of(pageSize + 1));
+        return KeysetPage.of(rows, pageSize, Supplier::getId);
+    }
+
+    /**
+     * Passes every supplier to the given action while it is read, without loading the whole table in memory.
+     *
+     * @param action The action to perform on each supplier.
+     */
+    public void streamAllSuppliers(final Consumer<Supplier> action) {
+        streamingRepository.forEachSupplier(action);
+    }
+
 
     /**
      * Retrieves a Supplier by its id from the database.
@@ -66,14 +104,18 @@ public class SupplierService {
      * @throws ResourceNotFoundException if the supplier with the specified id is not found.
      */
 
+    @Transactional
     public Supplier updateSupplier(final Long id, final SupplierDto supplierDetails) {
         Supplier supplier = supplierRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(Constants.SUPPLIER, Constants.ID, id));
 
-        supplier.setName(supplierDetails.getName());
-        supplier.setSupplierType(supplierDetails.getSupplierType());
+        SupplierMapper.updateEntity(supplierDetails, supplier);
 
-        return supplierRepository.save(supplier);
+        Supplier updatedSupplier = supplierRepository.save(supplier);
+        referenceDataVersion.increment(Constants.SUPPLIER_DATA_VERSION);
+        //Cached customers embed their supplier.
+        AfterCommit.run(customerCache::invalidateAllCustomers);
+        return updatedSupplier;
     }
 
     /**
@@ -84,11 +126,14 @@ public class SupplierService {
      * @throws ResourceNotFoundException if the supplier with the specified id is not found.
      */
 
+    @Transactional
     public ResponseEntity<Object> deleteSupplier(final Long id) {
         Supplier supplier = supplierRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(Constants.SUPPLIER, Constants.ID, id));
 
         supplierRepository.delete(supplier);
+        referenceDataVersion.increment(Constants.SUPPLIER_DATA_VERSION);
+        AfterCommit.run(customerCache::invalidateAllCustomers);
 
         return ResponseEntity.ok().build();
     }
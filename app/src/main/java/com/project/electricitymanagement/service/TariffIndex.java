@@ -0,0 +1,140 @@
+package com.project.electricitymanagement.service;
+
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffMode;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of the price per unit table used on the billing path instead of a query per bill.
+ * The index is built lazily on the first lookup and swapped atomically by {@link #refresh()} whenever a slab changes.
+ */
+@Component
+public class TariffIndex {
+    /**
+     * Defining the logger object.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TariffIndex.class);
+    @Autowired
+    private PricePerUnitRepository pricePerUnitRepository;
+    @Value("${billing.tariff.mode:flat}")
+    private TariffMode mode = TariffMode.FLAT;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile TariffSlabs slabs;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Finds the price per unit for the units consumed.
+     *
+     * @param unitsConsumed units consumed by the customer.
+     * @return the price per unit in price units, or {@link TariffSlabs#NOT_FOUND} if the units consumed doesn't fit in any range.
+     * @throws IllegalStateException if several slabs contain the units consumed.
+     */
+    public long findPrice(final double unitsConsumed) {
+        long price = snapshot().priceFor(unitsConsumed);
+        if (price == TariffSlabs.NOT_FOUND) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return price;
+    }
+
+    /**
+     * Calculates the charge of the units consumed in the configured tariff mode.
+     *
+     * @param unitsConsumed units consumed by the customer.
+     * @return the charge in minor units, or {@link TariffSlabs#NOT_FOUND} if the units consumed doesn't fit in any range.
+     * @throws IllegalStateException if overlapping slabs leave the charge of the units consumed undefined.
+     */
+    public long findCharge(final double unitsConsumed) {
+        if (mode == TariffMode.FLAT) {
+            long price = findPrice(unitsConsumed);
+            return price == TariffSlabs.NOT_FOUND ? TariffSlabs.NOT_FOUND : Money.charge(unitsConsumed, price);
+        }
+        long charge = snapshot().progressiveChargeFor(unitsConsumed);
+        if (charge == TariffSlabs.NOT_FOUND) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return charge;
+    }
+
+    /**
+     * Returns how the units consumed are charged.
+     *
+     * @return the tariff mode.
+     */
+    public TariffMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the current tariff, loading it on first use.
+     *
+     * @return the current tariff.
+     */
+    public TariffSlabs snapshot() {
+        TariffSlabs current = slabs;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Reloads the tariff from the database and publishes it to all readers.
+     *
+     * @return the reloaded tariff.
+     */
+    public TariffSlabs refresh() {
+        refreshLock.lock();
+        try {
+            List<PricePerUnit> rows = pricePerUnitRepository.findAll();
+            int[] lowers = new int[rows.size()];
+            int[] uppers = new int[rows.size()];
+            long[] prices = new long[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                PricePerUnit row = rows.get(i);
+                lowers[i] = row.getUnitRangeLower();
+                uppers[i] = row.getUnitRangeUpper();
+                prices[i] = Money.toPriceUnits(row.getPrice());
+            }
+            TariffSlabs loaded = TariffSlabs.of(lowers, uppers, prices);
+            if (loaded.isOverlapping()) {
+                LOGGER.warn("Price per unit slabs overlap, the units they share can't be billed");
+            }
+            slabs = loaded;
+            return loaded;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of price lookups that found a slab for the units consumed.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of price lookups for which no slab matched the units consumed.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
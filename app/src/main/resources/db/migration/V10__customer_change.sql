@@ -0,0 +1,16 @@
+-- Change log of the customers, which replaces the customer version added by V9. A row is inserted in the same transaction
+-- as every update or delete of a customer and every recorded meter reading, naming the customer and the instance that
+-- changed it; bill runs, bill recomputes and the billing batch insert one row without a customer once they are done. Every
+-- application instance polls the rows added since its previous poll and drops the changed customers from its caches,
+-- skipping its own changes, so writes on different customers never wait on a shared row and a change only evicts what it
+-- touched.
+CREATE TABLE customer_change (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    customer_id BIGINT,
+    instance_id VARCHAR(64) NOT NULL,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_customer_change_changed_at ON customer_change (changed_at);
+
+DELETE FROM data_version WHERE name = 'customer';
@@ -0,0 +1,12 @@
+-- Ids are allocated by Hibernate in blocks of 50 from this table (pooled-lo: next_val is the first id of the next block),
+-- so that inserts can be batched. The AUTO_INCREMENT columns are left in place, but rows inserted outside Hibernate
+-- must take their ids from this table too or they may collide with a block already handed out.
+CREATE TABLE IF NOT EXISTS id_sequence (
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_sequence (sequence_name, next_val) SELECT 'customer', COALESCE(MAX(id), 0) + 1 FROM customer;
+INSERT INTO id_sequence (sequence_name, next_val) SELECT 'meter', COALESCE(MAX(id), 0) + 1 FROM meter;
+INSERT INTO id_sequence (sequence_name, next_val) SELECT 'supplier', COALESCE(MAX(id), 0) + 1 FROM supplier;
+INSERT INTO id_sequence (sequence_name, next_val) SELECT 'price_per_unit', COALESCE(MAX(id), 0) + 1 FROM price_per_unit;
@@ -0,0 +1,8 @@
+-- Tariff lookups by units consumed read the slab range and price from the index alone.
+CREATE INDEX idx_price_per_unit_range ON price_per_unit (unit_range_lower, unit_range_upper, price);
+
+-- Customer lookups by meter, by supplier within a connection date range, and by connection date.
+-- The meter and supplier indexes also replace the ones created implicitly for the foreign keys.
+CREATE INDEX idx_customer_meter ON customer (meter_id);
+CREATE INDEX idx_customer_supplier_connection_date ON customer (supplier_id, connection_date);
+CREATE INDEX idx_customer_connection_date ON customer (connection_date);
@@ -0,0 +1,11 @@
+-- Version of the data bills are computed from: it is incremented in the same transaction as every change to the tariff
+-- or to a meter, and each customer bill is stored with the version it was computed against. A bill whose version is
+-- older than the current one, or missing as for the bills computed before this migration, is recomputed when it's read.
+CREATE TABLE IF NOT EXISTS data_version (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO data_version (name, version) VALUES ('billing', 1);
+
+ALTER TABLE customer ADD COLUMN bill_version BIGINT;
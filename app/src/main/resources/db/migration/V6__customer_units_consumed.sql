@@ -0,0 +1,5 @@
+-- Units consumed as a generated column, so that the customers affected by a change to a price per unit range
+-- can be found with a range scan of its index. The column is virtual; MySQL stores its values in the index only.
+ALTER TABLE customer ADD COLUMN units_consumed DOUBLE GENERATED ALWAYS AS (current_reading - last_reading);
+
+CREATE INDEX idx_customer_units_consumed ON customer (units_consumed);
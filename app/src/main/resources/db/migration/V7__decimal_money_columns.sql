@@ -0,0 +1,6 @@
+-- Money is stored as exact decimals with two places, matching the minor units the billing engine calculates in.
+-- Existing amounts are rounded to the nearest hundredth.
+-- Prices per unit are quoted below the minor unit, so they keep four places and are only rounded as part of a charge.
+ALTER TABLE meter MODIFY min_bill_amount DECIMAL(15, 2) NOT NULL;
+ALTER TABLE price_per_unit MODIFY price DECIMAL(15, 4) NOT NULL;
+ALTER TABLE customer MODIFY bill_amount DECIMAL(15, 2);
@@ -0,0 +1,4 @@
+-- Versions of the reference tables, incremented in the same transaction as every change to a meter, a supplier or a price
+-- per unit slab. Every application instance polls this table and refreshes its caches of a table when its version moves,
+-- so caches on the other instances catch up within the poll interval.
+INSERT INTO data_version (name, version) VALUES ('meter', 1), ('supplier', 1), ('price_per_unit', 1);
@@ -0,0 +1,5 @@
+-- Version of the customer table, incremented in the same transaction as every update or delete of a customer and every
+-- recorded meter reading, and once at the end of every bill run and bill recompute. Every application instance polls it
+-- and drops its cached customers and bills when it moves, so another instance never serves a deleted or outdated
+-- customer for longer than the poll interval.
+INSERT INTO data_version (name, version) VALUES ('customer', 1);
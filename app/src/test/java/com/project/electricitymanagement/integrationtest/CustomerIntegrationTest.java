@@ -10,6 +10,7 @@ import com.project.electricitymanagement.repository.CustomerRepository;
 import com.project.electricitymanagement.repository.MeterRepository;
 import com.project.electricitymanagement.repository.PricePerUnitRepository;
 import com.project.electricitymanagement.repository.SupplierRepository;
+import com.project.electricitymanagement.service.TariffIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import static org.hamcrest.Matchers.greaterThan;
@@ -61,6 +63,9 @@ public class CustomerIntegrationTest extends AbstractContainerTest {
     @Autowired
     private PricePerUnitRepository pricePerUnitRepository;
 
+    @Autowired
+    private TariffIndex tariffIndex;
+
     private Meter savedMeter;
     private Supplier savedSupplier;
 
@@ -75,7 +80,7 @@ public class CustomerIntegrationTest extends AbstractContainerTest {
 
         Meter meter = new Meter();
         meter.setLoadAmount(3);
-        meter.setMinBillAmount(500d);
+        meter.setMinBillAmount(new BigDecimal("500"));
         savedMeter = meterRepository.save(meter);
 
 
@@ -87,8 +92,10 @@ public class CustomerIntegrationTest extends AbstractContainerTest {
         PricePerUnit pricePerUnit = new PricePerUnit();
         pricePerUnit.setUnitRangeLower(0);
         pricePerUnit.setUnitRangeUpper(100);
-        pricePerUnit.setPrice(3d);
+        pricePerUnit.setPrice(new BigDecimal("3"));
         pricePerUnitRepository.save(pricePerUnit);
+        //The slabs were written through the repository, so the in-memory tariff has to be reloaded.
+        tariffIndex.refresh();
     }
 
     @Test
@@ -13,6 +13,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import java.math.BigDecimal;
 import java.util.List;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,7 +52,7 @@ public class MeterIntegrationTest extends AbstractContainerTest {
      void testCreateMeter_ValidInput() throws Exception {
         MeterDto meterDto = new MeterDto();
         meterDto.setLoadAmount(2);
-        meterDto.setMinBillAmount(700D);
+        meterDto.setMinBillAmount(new BigDecimal("700"));
 
         mockMvc.perform(post(METER_API_URL)
                         .content(objectMapper.writeValueAsString(meterDto))
@@ -78,11 +79,11 @@ public class MeterIntegrationTest extends AbstractContainerTest {
      void testGetAllMeters() throws Exception {
         Meter meter1 = new Meter();
         meter1.setLoadAmount(1);
-        meter1.setMinBillAmount(500D);
+        meter1.setMinBillAmount(new BigDecimal("500"));
 
         Meter meter2 = new Meter();
         meter2.setLoadAmount(2);
-        meter2.setMinBillAmount(700D);
+        meter2.setMinBillAmount(new BigDecimal("700"));
         meterRepository.saveAll(List.of(meter1, meter2));
 
         mockMvc.perform(get(METER_API_URL))
@@ -98,7 +99,7 @@ public class MeterIntegrationTest extends AbstractContainerTest {
     @Test
    void testGetMeterById() throws Exception {
         Meter meter = new Meter();
-        meter.setMinBillAmount(500D);
+        meter.setMinBillAmount(new BigDecimal("500"));
         meter.setLoadAmount(2);
         Meter savedMeter = meterRepository.save(meter);
 
@@ -119,13 +120,13 @@ public class MeterIntegrationTest extends AbstractContainerTest {
     @Test
      void testUpdateMeter() throws Exception {
         Meter meter = new Meter();
-        meter.setMinBillAmount(500D);
+        meter.setMinBillAmount(new BigDecimal("500"));
         meter.setLoadAmount(2);
         Meter savedMeter = meterRepository.save(meter);
 
         MeterDto updatedMeterDto = new MeterDto();
         updatedMeterDto.setLoadAmount(3);
-        updatedMeterDto.setMinBillAmount(1000D);
+        updatedMeterDto.setMinBillAmount(new BigDecimal("1000"));
 
         mockMvc.perform(put(METER_API_URL + "/{id}", savedMeter.getId())
                         .content(objectMapper.writeValueAsString(updatedMeterDto))
@@ -141,7 +142,7 @@ public class MeterIntegrationTest extends AbstractContainerTest {
      void testUpdateMeter_NotFound() throws Exception {
         MeterDto updatedMeterDto = new MeterDto();
         updatedMeterDto.setLoadAmount(3);
-        updatedMeterDto.setMinBillAmount(1000D);
+        updatedMeterDto.setMinBillAmount(new BigDecimal("1000"));
 
         mockMvc.perform(put(METER_API_URL + "/{id}", 100)
                         .content(objectMapper.writeValueAsString(updatedMeterDto))
@@ -152,7 +153,7 @@ public class MeterIntegrationTest extends AbstractContainerTest {
     @Test
      void testDeleteMeter() throws Exception {
         Meter meter = new Meter();
-        meter.setMinBillAmount(500D);
+        meter.setMinBillAmount(new BigDecimal("500"));
         meter.setLoadAmount(2);
         Meter savedMeter = meterRepository.save(meter);
 
@@ -13,6 +13,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -56,7 +57,7 @@ public class PricePerUnitIntegrationTest extends AbstractContainerTest {
         PricePerUnitDto pricePerUnitDto = new PricePerUnitDto();
         pricePerUnitDto.setUnitRangeLower(0);
         pricePerUnitDto.setUnitRangeUpper(100);
-        pricePerUnitDto.setPrice(3d);
+        pricePerUnitDto.setPrice(new BigDecimal("3"));
 
         mockMvc.perform(post(PRICE_PER_UNIT_API_URL)
                         .content(objectMapper.writeValueAsString(pricePerUnitDto))
@@ -85,11 +86,11 @@ public class PricePerUnitIntegrationTest extends AbstractContainerTest {
         PricePerUnit pricePerUnit1 = new PricePerUnit();
         pricePerUnit1.setUnitRangeLower(0);
         pricePerUnit1.setUnitRangeUpper(100);
-        pricePerUnit1.setPrice(3d);
+        pricePerUnit1.setPrice(new BigDecimal("3"));
         PricePerUnit pricePerUnit2 = new PricePerUnit();
         pricePerUnit2.setUnitRangeLower(101);
         pricePerUnit2.setUnitRangeUpper(500);
-        pricePerUnit2.setPrice(5d);
+        pricePerUnit2.setPrice(new BigDecimal("5"));
         pricePerUnitRepository.saveAll(List.of(pricePerUnit1,pricePerUnit2));
 
         mockMvc.perform(get(PRICE_PER_UNIT_API_URL))
@@ -110,7 +111,7 @@ public class PricePerUnitIntegrationTest extends AbstractContainerTest {
         PricePerUnit pricePerUnit = new PricePerUnit();
         pricePerUnit.setUnitRangeLower(0);
         pricePerUnit.setUnitRangeUpper(100);
-        pricePerUnit.setPrice(3d);
+        pricePerUnit.setPrice(new BigDecimal("3"));
         PricePerUnit savedPricePerUnit = pricePerUnitRepository.save(pricePerUnit);
 
         mockMvc.perform(get(PRICE_PER_UNIT_API_URL + "/{id}", savedPricePerUnit.getId()))
@@ -133,13 +134,13 @@ public class PricePerUnitIntegrationTest extends AbstractContainerTest {
         PricePerUnit pricePerUnit = new PricePerUnit();
         pricePerUnit.setUnitRangeLower(0);
         pricePerUnit.setUnitRangeUpper(100);
-        pricePerUnit.setPrice(3d);
+        pricePerUnit.setPrice(new BigDecimal("3"));
         PricePerUnit savedPricePerUnit = pricePerUnitRepository.save(pricePerUnit);
 
         PricePerUnitDto updatedPricePerUnitDto = new PricePerUnitDto();
         updatedPricePerUnitDto.setUnitRangeLower(0);
         updatedPricePerUnitDto.setUnitRangeUpper(200);
-        updatedPricePerUnitDto.setPrice(5d);
+        updatedPricePerUnitDto.setPrice(new BigDecimal("5"));
 
         mockMvc.perform(put(PRICE_PER_UNIT_API_URL + "/{id}", savedPricePerUnit.getId())
                         .content(objectMapper.writeValueAsString(updatedPricePerUnitDto))
@@ -157,7 +158,7 @@ public class PricePerUnitIntegrationTest extends AbstractContainerTest {
         PricePerUnitDto updatedPricePerUnitDto = new PricePerUnitDto();
         updatedPricePerUnitDto.setUnitRangeLower(0);
         updatedPricePerUnitDto.setUnitRangeUpper(200);
-        updatedPricePerUnitDto.setPrice(5d);
+        updatedPricePerUnitDto.setPrice(new BigDecimal("5"));
 
         mockMvc.perform(put(PRICE_PER_UNIT_API_URL + "/{id}", 100)
                         .content(objectMapper.writeValueAsString(updatedPricePerUnitDto))
@@ -170,7 +171,7 @@ public class PricePerUnitIntegrationTest extends AbstractContainerTest {
         PricePerUnit pricePerUnit = new PricePerUnit();
         pricePerUnit.setUnitRangeLower(0);
         pricePerUnit.setUnitRangeUpper(100);
-        pricePerUnit.setPrice(3d);
+        pricePerUnit.setPrice(new BigDecimal("3"));
         PricePerUnit savedPricePerUnit = pricePerUnitRepository.save(pricePerUnit);
 
         mockMvc.perform(delete(PRICE_PER_UNIT_API_URL + "/{id}", savedPricePerUnit.getId()))
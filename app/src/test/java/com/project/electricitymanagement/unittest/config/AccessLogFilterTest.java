@@ -0,0 +1,86 @@
+package com.project.electricitymanagement.unittest.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.project.electricitymanagement.config.AccessLogFilter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.io.IOException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Access Log Filter.
+ */
+class AccessLogFilterTest {
+
+    private final AccessLogFilter accessLogFilter = new AccessLogFilter();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(AccessLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void testDoFilter_LogsOneLinePerRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customers/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() { },
+                (req, res, next) -> response.setStatus(404));
+
+        accessLogFilter.doFilter(request, response, chain);
+
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage()
+                .matches("method=GET path=/api/customers/1 status=404 durationMs=\\d+"));
+    }
+
+    @Test
+    void testDoFilter_FailedRequest_LogsServerError() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/customers");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() { }, (req, res, next) -> {
+            throw new ServletException("failed");
+        });
+
+        assertThrows(ServletException.class, () -> accessLogFilter.doFilter(request, response, chain));
+
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("method=POST path=/api/customers status=500 "));
+    }
+
+    @Test
+    void testDoFilter_AsyncRequest_LogsWhenComplete() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customers/stream");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() { },
+                (req, res, next) -> req.startAsync());
+
+        accessLogFilter.doFilter(request, response, chain);
+        assertTrue(appender.list.isEmpty());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertEquals(1, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("method=GET path=/api/customers/stream status=200 "));
+    }
+}
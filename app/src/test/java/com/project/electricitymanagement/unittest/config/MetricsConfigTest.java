@@ -0,0 +1,136 @@
+package com.project.electricitymanagement.unittest.config;
+
+import com.project.electricitymanagement.config.MetricsConfig;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.entity.Supplier;
+import com.project.electricitymanagement.repository.SupplierRepository;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.MeterReadingService;
+import com.project.electricitymanagement.service.SupplierService;
+import com.project.electricitymanagement.service.TariffIndex;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for Metrics Config.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetricsConfigTest {
+
+    @Mock
+    private MeterCache meterCache;
+
+    @Mock
+    private TariffIndex tariffIndex;
+
+    @Mock
+    private MeterReadingService meterReadingService;
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
+    private final MetricsConfig metricsConfig = new MetricsConfig();
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testMeterCacheMetrics() {
+        when(meterCache.getHitCount()).thenReturn(7L);
+        when(meterCache.getMissCount()).thenReturn(2L);
+        when(meterCache.getEvictionCount()).thenReturn(1L);
+        when(meterCache.size()).thenReturn(4);
+
+        metricsConfig.meterCacheMetrics(meterCache).bindTo(registry);
+
+        assertEquals(7, registry.get("billing.meter.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(2, registry.get("billing.meter.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("billing.meter.cache.evictions").functionCounter().count());
+        assertEquals(4, registry.get("billing.meter.cache.size").gauge().value());
+    }
+
+    @Test
+    void testCustomerCacheMetrics() {
+        CustomerCache customerCache = new CustomerCache(1, Duration.ofMinutes(10));
+        Customer customer = new Customer();
+        customerCache.getCustomer(1L, id -> Optional.of(customer));
+        customerCache.getCustomer(1L, id -> Optional.of(customer));
+        customerCache.getCustomer(1L, id -> Optional.of(customer));
+        customerCache.getCustomer(2L, id -> Optional.of(customer));
+        customerCache.getCustomer(3L, id -> Optional.of(customer));
+
+        metricsConfig.customerCacheMetrics(customerCache).bindTo(registry);
+
+        assertEquals(2, registry.get("billing.customer.cache.requests").tags("cache", "customer", "result", "hit").functionCounter().count());
+        assertEquals(3, registry.get("billing.customer.cache.requests").tags("cache", "customer", "result", "miss").functionCounter().count());
+        assertEquals(0.4, registry.get("billing.customer.cache.hit.ratio").tag("cache", "customer").gauge().value());
+        assertEquals(0, registry.get("billing.customer.cache.requests").tags("cache", "bill", "result", "hit").functionCounter().count());
+        assertNotNull(registry.get("billing.customer.cache.evictions").tag("cache", "customer").functionCounter());
+        assertNotNull(registry.get("billing.customer.cache.size").tag("cache", "bill").gauge());
+    }
+
+    @Test
+    void testTariffIndexMetrics() {
+        when(tariffIndex.getHitCount()).thenReturn(10L);
+        when(tariffIndex.getMissCount()).thenReturn(3L);
+
+        metricsConfig.tariffIndexMetrics(tariffIndex).bindTo(registry);
+
+        assertEquals(10, registry.get("billing.tariff.lookups").tag("result", "found").functionCounter().count());
+        assertEquals(3, registry.get("billing.tariff.lookups").tag("result", "not_found").functionCounter().count());
+    }
+
+    @Test
+    void testMeterReadingMetrics() {
+        when(meterReadingService.getReadingCount()).thenReturn(120L);
+        when(meterReadingService.getGroupCount()).thenReturn(8L);
+        when(meterReadingService.queueSize()).thenReturn(5);
+
+        metricsConfig.meterReadingMetrics(meterReadingService).bindTo(registry);
+
+        assertEquals(120, registry.get("billing.meter.readings").functionCounter().count());
+        assertEquals(8, registry.get("billing.meter.reading.groups").functionCounter().count());
+        assertEquals(5, registry.get("billing.meter.reading.queue.size").gauge().value());
+    }
+
+    @Test
+    void testTimedAspect_TimesEveryServiceMethod() {
+        SupplierService target = new SupplierService();
+        ReflectionTestUtils.setField(target, "supplierRepository", supplierRepository);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(metricsConfig.timedAspect(registry));
+        SupplierService supplierService = factory.getProxy();
+        when(supplierRepository.findAll()).thenReturn(List.of(new Supplier(1L, "Danish", "Urban")));
+        when(supplierRepository.findById(5L)).thenReturn(Optional.empty());
+
+        supplierService.getAllSuppliers();
+        supplierService.getAllSuppliers();
+        assertThrows(RuntimeException.class, () -> supplierService.getSupplierById(5L));
+
+        Timer getAll = registry.get("billing.service").tag("class", SupplierService.class.getName()).tag("method", "getAllSuppliers").timer();
+        assertEquals(2, getAll.count());
+        Timer getById = registry.get("billing.service").tag("method", "getSupplierById").tag("exception", "ResourceNotFoundException").timer();
+        assertNotNull(getById);
+        assertEquals(1, getById.count());
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.electricitymanagement.unittest.config;
+
+import com.project.electricitymanagement.config.ReadYourWrites;
+import com.project.electricitymanagement.config.ReadYourWritesFilter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Read Your Writes Filter.
+ */
+class ReadYourWritesFilterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final ReadYourWritesFilter readYourWritesFilter = new ReadYourWritesFilter(WINDOW);
+
+    @Test
+    void testDoFilter_RecentWrite_ReadsFromPrimary() throws ServletException, IOException {
+        assertTrue(primaryRequired(Long.toString(System.currentTimeMillis() + 2_000)));
+    }
+
+    @Test
+    void testDoFilter_ExpiredWrite_ReadsFromReplica() throws ServletException, IOException {
+        assertFalse(primaryRequired(Long.toString(System.currentTimeMillis() - 1)));
+    }
+
+    @Test
+    void testDoFilter_FarFutureOrMalformedCookie_IsIgnored() throws ServletException, IOException {
+        assertFalse(primaryRequired(Long.toString(Long.MAX_VALUE)));
+        assertFalse(primaryRequired(Long.toString(System.currentTimeMillis() + WINDOW.toMillis() * 3)));
+        assertFalse(primaryRequired("soon"));
+    }
+
+    @Test
+    void testDoFilter_CookieSlightlyBeyondWindow_IsCutToWindow() throws ServletException, IOException {
+        ReadYourWritesFilter shortWindowFilter = new ReadYourWritesFilter(Duration.ofMillis(500));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customers/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 900)));
+        List<Boolean> primaryRequired = new ArrayList<>();
+
+        //Taken as is the cookie would hold the reads on the primary for 900 ms, cut to the window only for 500 ms.
+        shortWindowFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() { }, (req, res, next) -> {
+            primaryRequired.add(ReadYourWrites.isPrimaryRequired());
+            try {
+                Thread.sleep(600);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            primaryRequired.add(ReadYourWrites.isPrimaryRequired());
+        }));
+
+        assertEquals(List.of(true, false), primaryRequired);
+    }
+
+    @Test
+    void testDoFilter_Write_SetsCookieWithinWindow() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/customers/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long before = System.currentTimeMillis();
+
+        readYourWritesFilter.doFilter(request, response, new MockFilterChain(new HttpServlet() { },
+                (req, res, next) -> ReadYourWrites.recordWrite()));
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertNotNull(cookie);
+        long primaryUntil = Long.parseLong(cookie.getValue());
+        assertTrue(primaryUntil >= before + WINDOW.toMillis() && primaryUntil <= System.currentTimeMillis() + WINDOW.toMillis());
+    }
+
+    private boolean primaryRequired(final String cookie) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customers/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, cookie));
+        List<Boolean> primaryRequired = new ArrayList<>();
+        readYourWritesFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() { },
+                (req, res, next) -> primaryRequired.add(ReadYourWrites.isPrimaryRequired())));
+        return primaryRequired.get(0);
+    }
+}
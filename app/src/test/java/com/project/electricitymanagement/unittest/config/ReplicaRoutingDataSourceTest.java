@@ -0,0 +1,115 @@
+package com.project.electricitymanagement.unittest.config;
+
+import com.project.electricitymanagement.config.ReadYourWrites;
+import com.project.electricitymanagement.config.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Replica Routing Data Source, with two in-memory databases standing in for the primary and the replica.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SELECT_NODE = "select name from node";
+
+    private final DriverManagerDataSource primary = database("routing-primary");
+    private final DriverManagerDataSource replica = database("routing-replica");
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        new JdbcTemplate(primary).execute("create table if not exists node (name varchar(16)); delete from node; insert into node values ('primary')");
+        new JdbcTemplate(replica).execute("create table if not exists node (name varchar(16)); delete from node; insert into node values ('replica')");
+        route(Map.of("replica-1", replica));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReadYourWrites.end();
+        routingDataSource.close();
+    }
+
+    @Test
+    void testReadOnlyTransaction_ReadsFromReplica() {
+        assertEquals("replica", readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class)));
+    }
+
+    @Test
+    void testWriteTransaction_UsesPrimary() {
+        assertEquals("primary", writeTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class)));
+    }
+
+    @Test
+    void testNoTransaction_UsesPrimary() {
+        assertEquals("primary", jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+    }
+
+    @Test
+    void testReadAfterWriteInSameRequest_UsesPrimary() {
+        AtomicInteger writes = new AtomicInteger();
+        ReadYourWrites.begin(0, writes::incrementAndGet);
+
+        writeTransaction.execute(status -> jdbcTemplate.update("update node set name = 'primary'"));
+        String node = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class));
+
+        assertEquals("primary", node);
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void testReadWithinReadYourWritesWindow_UsesPrimary() {
+        ReadYourWrites.begin(System.currentTimeMillis() + 60_000, () -> { });
+        assertEquals("primary", readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class)));
+
+        ReadYourWrites.begin(System.currentTimeMillis() - 1, () -> { });
+        assertEquals("replica", readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class)));
+    }
+
+    @Test
+    void testUnavailableReplica_FallsBackToPrimary() {
+        route(Map.of("replica-1", new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE")));
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class)));
+        assertTrue(routingDataSource.getHealthyReplicas().isEmpty());
+    }
+
+    @Test
+    void testCheckReplicas_PublishesOnlyHealthyReplicas() {
+        route(Map.of("replica-1", replica, "replica-2", new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE")));
+
+        routingDataSource.checkReplicas();
+
+        assertEquals(List.of("replica-1"), routingDataSource.getHealthyReplicas());
+        assertEquals("replica", readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(SELECT_NODE, String.class)));
+    }
+
+    private void route(final Map<String, DataSource> replicas) {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    private static DriverManagerDataSource database(final String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.electricitymanagement.unittest.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import com.project.electricitymanagement.controller.BillRunController;
+import com.project.electricitymanagement.dto.BillRunStatus;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.service.BillRunService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Test class for BillRunController.
+ */
+@ExtendWith(MockitoExtension.class)
+public class BillRunControllerTest {
+
+    @Mock
+    private BillRunService billRunService;
+
+    @InjectMocks
+    private BillRunController billRunController;
+
+    private final BillRunStatus running = new BillRunStatus(1L, BillRunStatus.State.RUNNING, 0, 0, 0, BigDecimal.ZERO,
+            Instant.now(), null, 0, 0, null);
+
+    @Test
+    @DisplayName("Should start a bill run")
+    void testStartBillRun() {
+        when(billRunService.start()).thenReturn(running);
+
+        ResponseEntity<BillRunStatus> responseEntity = billRunController.startBillRun();
+
+        assertEquals(HttpStatus.ACCEPTED, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(1L, responseEntity.getBody().getId());
+    }
+
+    @Test
+    @DisplayName("Should return the latest bill run")
+    void testGetLatestBillRun() {
+        when(billRunService.getLatestStatus()).thenReturn(Optional.of(running));
+
+        ResponseEntity<BillRunStatus> responseEntity = billRunController.getLatestBillRun();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(BillRunStatus.State.RUNNING, responseEntity.getBody().getState());
+    }
+
+    @Test
+    @DisplayName("Should return not found when no bill run was started")
+    void testGetLatestBillRun_NotFound() {
+        when(billRunService.getLatestStatus()).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> billRunController.getLatestBillRun());
+    }
+}
@@ -0,0 +1,251 @@
+package com.project.electricitymanagement.unittest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.electricitymanagement.controller.CustomerController;
+import com.project.electricitymanagement.controller.NdjsonResponseWriter;
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.dto.CustomerImportReport;
+import com.project.electricitymanagement.dto.CustomerImportResult;
+import com.project.electricitymanagement.dto.MeterReadingDto;
+import com.project.electricitymanagement.dto.MeterReadingResult;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.service.CustomerImportService;
+import com.project.electricitymanagement.service.CustomerService;
+import com.project.electricitymanagement.service.MeterReadingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for CustomerController.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CustomerControllerTest {
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private CustomerImportService customerImportService;
+
+    @Mock
+    private MeterReadingService meterReadingService;
+
+    @InjectMocks
+    private CustomerController customerController;
+
+    @Test
+    @DisplayName("Should return all customers")
+    void testGetAllCustomers() {
+        Customer customer1 = new Customer();
+        customer1.setId(3L);
+        customer1.setName("Ramesh");
+
+        Customer customer2 = new Customer();
+        customer2.setId(10L);
+        customer2.setName("Suresh");
+
+        when(customerService.getAllCustomers()).thenReturn(Arrays.asList(customer1, customer2));
+
+
+        ResponseEntity<List<Customer>> responseEntity = customerController.getAllCustomers();
+
+      //First we check for the HttpStatus, then whether the response body is null or not and then whether the response is as expected or not.
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        List<Customer> customers = responseEntity.getBody();
+        assertNotNull(customers);
+        assertEquals(2, customers.size());
+    }
+
+    @Test
+    @DisplayName("Should stream all customers as one JSON document per line")
+    void testStreamAllCustomers() throws IOException {
+        NdjsonResponseWriter ndjsonResponseWriter = new NdjsonResponseWriter();
+        ReflectionTestUtils.setField(ndjsonResponseWriter, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(customerController, "ndjsonResponseWriter", ndjsonResponseWriter);
+        Customer customer1 = new Customer();
+        customer1.setId(3L);
+        customer1.setName("Ramesh");
+        Customer customer2 = new Customer();
+        customer2.setId(10L);
+        customer2.setName("Suresh");
+        doAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(0);
+            action.accept(customer1);
+            action.accept(customer2);
+            return null;
+        }).when(customerService).streamAllCustomers(any());
+
+        ResponseEntity<StreamingResponseBody> responseEntity = customerController.streamAllCustomers();
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        responseEntity.getBody().writeTo(out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Ramesh", new ObjectMapper().readTree(lines[0]).get("name").asText());
+        assertEquals(10L, new ObjectMapper().readTree(lines[1]).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("Should return customer by Id")
+    void testGetCustomerById() {
+
+        Customer customer = new Customer();
+        customer.setId(1L);
+        customer.setName("Ramesh");
+
+        when(customerService.getCustomerById(anyLong())).thenReturn(customer);
+
+
+        ResponseEntity<Customer> responseEntity = customerController.getCustomerById(1L);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        Customer fetchedCustomer = responseEntity.getBody();
+        assertNotNull(fetchedCustomer);
+        assertEquals(1L, fetchedCustomer.getId());
+        assertEquals("Ramesh", fetchedCustomer.getName());
+    }
+
+    @Test
+    @DisplayName("Should create a customer")
+    void testCreateCustomer() {
+
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Rahul");
+
+        Customer createdCustomer = new Customer();
+        createdCustomer.setId(1L);
+        createdCustomer.setName("Rahul");
+
+        when(customerService.createCustomer(any(CustomerDto.class))).thenReturn(createdCustomer);
+
+
+        ResponseEntity<Customer> responseEntity = customerController.createCustomer(customerDto);
+
+
+        assertEquals(HttpStatus.CREATED, responseEntity.getStatusCode());
+        Customer returnedCustomer = responseEntity.getBody();
+        //first checking if the customer is created or not
+        assertNotNull(returnedCustomer);
+        assertEquals(1L, returnedCustomer.getId());
+        assertEquals("Rahul", returnedCustomer.getName());
+    }
+
+    @Test
+    @DisplayName("Should update an existing customer")
+    void testUpdateCustomer() {
+
+        CustomerDto customerDto = new CustomerDto();
+        customerDto.setName("Updated Rahul");
+
+        Customer updatedCustomer = new Customer();
+        updatedCustomer.setId(1L);
+        updatedCustomer.setName("Updated Rahul");
+
+        when(customerService.updateCustomer(anyLong(), any(CustomerDto.class))).thenReturn(updatedCustomer);
+
+        ResponseEntity<Customer> responseEntity = customerController.updateCustomer(1L, customerDto);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        Customer returnedCustomer = responseEntity.getBody();
+        assertNotNull(returnedCustomer);
+        assertEquals(1L, returnedCustomer.getId());
+        assertEquals("Updated Rahul", returnedCustomer.getName());
+    }
+
+    @Test
+    @DisplayName("Should return bill by id")
+    void testGetBillById() {
+
+        when(customerService.getCustomerBillById(anyLong())).thenReturn(new BigDecimal("100.00"));
+
+        ResponseEntity<BigDecimal> responseEntity = customerController.getBillById(1L);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(new BigDecimal("100.00"), responseEntity.getBody());
+    }
+
+    @Test
+    @DisplayName("Should delete an existing customer")
+    void testDeleteCustomer() {
+
+        ResponseEntity<Object> responseEntity = customerController.deleteCustomerById(1L);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        //for delete we can also check if delete api is hit just once
+        verify(customerService, times(1)).deleteCustomerById(anyLong());
+
+    }
+    @Test
+    @DisplayName("Should return the report of a JSON import")
+    void testImportCustomers() throws IOException {
+        InputStream body = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+        CustomerImportReport report = new CustomerImportReport(2, 1, 1, 5L,
+                List.of(CustomerImportResult.imported(1, 7L, new BigDecimal("530.00")), CustomerImportResult.rejected(2, "Meter not found with id : '9'")));
+        when(customerImportService.importJson(body)).thenReturn(report);
+
+        ResponseEntity<CustomerImportReport> responseEntity = customerController.importCustomers(body);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(1, responseEntity.getBody().getRowsImported());
+        assertEquals(CustomerImportResult.Status.REJECTED, responseEntity.getBody().getResults().get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should record a meter reading for the customer in the path")
+    void testRecordReading() {
+        MeterReadingDto reading = new MeterReadingDto(null, 250.0);
+        when(meterReadingService.recordReading(reading)).thenReturn(new MeterReadingResult(1L, 100.0, 250.0, new BigDecimal("1250.00")));
+
+        ResponseEntity<MeterReadingResult> responseEntity = customerController.recordReading(1L, reading);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(1L, reading.getCustomerId());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(250.0, responseEntity.getBody().getCurrentReading());
+    }
+
+    @Test
+    @DisplayName("Should record the meter readings of several customers")
+    void testRecordReadings() {
+        List<MeterReadingDto> readings = List.of(new MeterReadingDto(1L, 250.0), new MeterReadingDto(2L, 120.0));
+        when(meterReadingService.recordReadings(readings)).thenReturn(List.of(new MeterReadingResult(1L, 100.0, 250.0, new BigDecimal("1250.00")),
+                new MeterReadingResult(2L, 100.0, 120.0, new BigDecimal("600.00"))));
+
+        ResponseEntity<List<MeterReadingResult>> responseEntity = customerController.recordReadings(readings);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertNotNull(responseEntity.getBody());
+        assertEquals(2, responseEntity.getBody().size());
+    }
+
+}
@@ -4,12 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
+import com.project.electricitymanagement.config.Constants;
 import com.project.electricitymanagement.controller.MeterController;
+import com.project.electricitymanagement.controller.VersionedResponses;
+import com.project.electricitymanagement.dto.KeysetPage;
 import com.project.electricitymanagement.dto.MeterDto;
 import com.project.electricitymanagement.entity.Meter;
 import com.project.electricitymanagement.service.MeterService;
@@ -21,6 +27,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * Test class for MeterController.
@@ -31,6 +40,9 @@ public class MeterControllerTest {
     @Mock
     private MeterService meterService;
 
+    @Mock
+    private VersionedResponses versionedResponses;
+
     @InjectMocks
     private MeterController meterController;
 
@@ -48,7 +60,11 @@ public class MeterControllerTest {
 
         when(meterService.getAllMeters()).thenReturn(Arrays.asList(meter1, meter2));
 
-        ResponseEntity<List<Meter>> responseEntity = meterController.getAllMeters();
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        when(versionedResponses.get(eq(Constants.METER_DATA_VERSION), eq(request), any()))
+                .thenAnswer(invocation -> ResponseEntity.ok(invocation.<Supplier<?>>getArgument(2).get()));
+
+        ResponseEntity<List<Meter>> responseEntity = meterController.getAllMeters(request);
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         List<Meter> meters = responseEntity.getBody();
@@ -56,6 +72,21 @@ public class MeterControllerTest {
         assertEquals(2, meters.size());
     }
 
+    @Test
+    @DisplayName("Should return a page of meters with the next cursor")
+    void testGetMetersPage() {
+        Meter meter = new Meter(3L, 6, new BigDecimal("900.0"));
+        when(meterService.getMetersPage(2L, 1)).thenReturn(new KeysetPage<>(List.of(meter), 3L));
+
+        ResponseEntity<KeysetPage<Meter>> responseEntity = meterController.getMetersPage(2L, 1);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        KeysetPage<Meter> page = responseEntity.getBody();
+        assertNotNull(page);
+        assertEquals(1, page.getItems().size());
+        assertEquals(3L, page.getNextCursor());
+    }
+
     @Test
     @DisplayName("Should return meter by ID")
     void testGetMeterById() {
@@ -1,6 +1,8 @@
 package com.project.electricitymanagement.unittest.controller;
 
+import com.project.electricitymanagement.config.Constants;
 import com.project.electricitymanagement.controller.PricePerUnitController;
+import com.project.electricitymanagement.controller.VersionedResponses;
 import com.project.electricitymanagement.dto.PricePerUnitDto;
 import com.project.electricitymanagement.service.PricePerUnitService;
 import com.project.electricitymanagement.entity.PricePerUnit;
@@ -12,12 +14,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +39,9 @@ public class PricePerUnitControllerTest {
     @Mock
     private PricePerUnitService pricePerUnitService;
 
+    @Mock
+    private VersionedResponses versionedResponses;
+
     @InjectMocks
     private PricePerUnitController pricePerUnitController;
 
@@ -42,17 +53,21 @@ public class PricePerUnitControllerTest {
         pricePerUnit1.setId(1L);
         pricePerUnit1.setUnitRangeLower(0);
         pricePerUnit1.setUnitRangeUpper(100);
-        pricePerUnit1.setPrice(3.0);
+        pricePerUnit1.setPrice(new BigDecimal("3.0"));
 
         PricePerUnit pricePerUnit2 = new PricePerUnit();
         pricePerUnit2.setId(2L);
         pricePerUnit2.setUnitRangeLower(101);
         pricePerUnit2.setUnitRangeUpper(200);
-        pricePerUnit2.setPrice(5.0);
+        pricePerUnit2.setPrice(new BigDecimal("5.0"));
 
         when(pricePerUnitService.getAllPricePerUnit()).thenReturn(Arrays.asList(pricePerUnit1, pricePerUnit2));
 
-        ResponseEntity<List<PricePerUnit>> responseEntity = pricePerUnitController.getAllPricePerUnit();
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        when(versionedResponses.get(eq(Constants.PRICE_PER_UNIT_DATA_VERSION), eq(request), any()))
+                .thenAnswer(invocation -> ResponseEntity.ok(invocation.<Supplier<?>>getArgument(2).get()));
+
+        ResponseEntity<List<PricePerUnit>> responseEntity = pricePerUnitController.getAllPricePerUnit(request);
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         List<PricePerUnit> pricePerUnits = responseEntity.getBody();
@@ -67,7 +82,7 @@ public class PricePerUnitControllerTest {
         pricePerUnit.setId(1L);
         pricePerUnit.setUnitRangeLower(0);
         pricePerUnit.setUnitRangeUpper(100);
-        pricePerUnit.setPrice(3.0);
+        pricePerUnit.setPrice(new BigDecimal("3.0"));
 
         when(pricePerUnitService.getPricePerUnitById(anyLong())).thenReturn(pricePerUnit);
 
@@ -79,7 +94,7 @@ public class PricePerUnitControllerTest {
         assertEquals(1L, fetchedPricePerUnit.getId());
         assertEquals(0, fetchedPricePerUnit.getUnitRangeLower());
         assertEquals(100, fetchedPricePerUnit.getUnitRangeUpper());
-        assertEquals(3.0, fetchedPricePerUnit.getPrice());
+        assertEquals(new BigDecimal("3.0"), fetchedPricePerUnit.getPrice());
     }
 
     @Test
@@ -89,13 +104,13 @@ public class PricePerUnitControllerTest {
         PricePerUnitDto pricePerUnitDto = new PricePerUnitDto();
         pricePerUnitDto.setUnitRangeLower(201);
         pricePerUnitDto.setUnitRangeUpper(300);
-        pricePerUnitDto.setPrice(6.0);
+        pricePerUnitDto.setPrice(new BigDecimal("6.0"));
 
         PricePerUnit createdPricePerUnit = new PricePerUnit();
         createdPricePerUnit.setId(3L);
         createdPricePerUnit.setUnitRangeLower(201);
         createdPricePerUnit.setUnitRangeUpper(300);
-        createdPricePerUnit.setPrice(6.0);
+        createdPricePerUnit.setPrice(new BigDecimal("6.0"));
 
         when(pricePerUnitService.createPricePerUnit(any(PricePerUnitDto.class))).thenReturn(createdPricePerUnit);
 
@@ -108,7 +123,7 @@ public class PricePerUnitControllerTest {
         assertEquals(3L, returnedPricePerUnit.getId());
         assertEquals(201, returnedPricePerUnit.getUnitRangeLower());
         assertEquals(300, returnedPricePerUnit.getUnitRangeUpper());
-        assertEquals(6.0, returnedPricePerUnit.getPrice());
+        assertEquals(new BigDecimal("6.0"), returnedPricePerUnit.getPrice());
     }
 
     @Test
@@ -118,13 +133,13 @@ public class PricePerUnitControllerTest {
         PricePerUnitDto pricePerUnitDto = new PricePerUnitDto();
         pricePerUnitDto.setUnitRangeLower(301);
         pricePerUnitDto.setUnitRangeUpper(400);
-        pricePerUnitDto.setPrice(7.0);
+        pricePerUnitDto.setPrice(new BigDecimal("7.0"));
 
         PricePerUnit updatedPricePerUnit = new PricePerUnit();
         updatedPricePerUnit.setId(1L);
         updatedPricePerUnit.setUnitRangeLower(301);
         updatedPricePerUnit.setUnitRangeUpper(400);
-        updatedPricePerUnit.setPrice(7.0);
+        updatedPricePerUnit.setPrice(new BigDecimal("7.0"));
 
         when(pricePerUnitService.updatePricePerUnit(anyLong(), any(PricePerUnitDto.class))).thenReturn(updatedPricePerUnit);
 
@@ -137,7 +152,7 @@ public class PricePerUnitControllerTest {
         assertEquals(1L, returnedPricePerUnit.getId());
         assertEquals(301, returnedPricePerUnit.getUnitRangeLower());
         assertEquals(400, returnedPricePerUnit.getUnitRangeUpper());
-        assertEquals(7.0, returnedPricePerUnit.getPrice());
+        assertEquals(new BigDecimal("7.0"), returnedPricePerUnit.getPrice());
     }
 
     @Test
@@ -3,6 +3,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,7 +11,9 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.List;
 
+import com.project.electricitymanagement.config.Constants;
 import com.project.electricitymanagement.controller.SupplierController;
+import com.project.electricitymanagement.controller.VersionedResponses;
 import com.project.electricitymanagement.dto.SupplierDto;
 import com.project.electricitymanagement.service.SupplierService;
 import com.project.electricitymanagement.entity.Supplier;
@@ -22,6 +25,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * Test class for SupplierController.
@@ -32,6 +38,9 @@ public class SupplierControllerTest {
     @Mock
     private SupplierService supplierService;
 
+    @Mock
+    private VersionedResponses versionedResponses;
+
     @InjectMocks
     private SupplierController supplierController;
 
@@ -50,7 +59,11 @@ public class SupplierControllerTest {
 
         when(supplierService.getAllSuppliers()).thenReturn(Arrays.asList(supplier1, supplier2));
 
-        ResponseEntity<List<Supplier>> responseEntity = supplierController.getAllSuppliers();
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        when(versionedResponses.get(eq(Constants.SUPPLIER_DATA_VERSION), eq(request), any()))
+                .thenAnswer(invocation -> ResponseEntity.ok(invocation.<java.util.function.Supplier<?>>getArgument(2).get()));
+
+        ResponseEntity<List<Supplier>> responseEntity = supplierController.getAllSuppliers(request);
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         List<Supplier> suppliers = responseEntity.getBody();
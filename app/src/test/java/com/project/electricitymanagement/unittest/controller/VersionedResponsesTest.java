@@ -0,0 +1,90 @@
+package com.project.electricitymanagement.unittest.controller;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.controller.VersionedResponses;
+import com.project.electricitymanagement.service.ReferenceDataVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the conditional GET responses of the reference data lists.
+ */
+@ExtendWith(MockitoExtension.class)
+class VersionedResponsesTest {
+
+    @Mock
+    private ReferenceDataVersion referenceDataVersion;
+
+    @InjectMocks
+    private VersionedResponses versionedResponses;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(versionedResponses, "maxAge", Duration.ZERO);
+        request = new MockHttpServletRequest("GET", "/api/meters");
+        response = new MockHttpServletResponse();
+        when(referenceDataVersion.current(Constants.METER_DATA_VERSION)).thenReturn(7L);
+    }
+
+    @Test
+    void testGet_NoETag_ReturnsBodyWithETag() {
+        ResponseEntity<List<String>> entity = get();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(entity.getBody()).containsExactly("meter");
+        assertThat(reads).hasValue(1);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"meter-7\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=0, must-revalidate");
+    }
+
+    @Test
+    void testGet_CurrentETag_NotModifiedWithoutReading() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"meter-7\"");
+
+        ResponseEntity<List<String>> entity = get();
+
+        assertThat(entity).isNull();
+        assertThat(reads).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"meter-7\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=0, must-revalidate");
+    }
+
+    @Test
+    void testGet_OlderETag_ReturnsBody() {
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"meter-6\"");
+
+        ResponseEntity<List<String>> entity = get();
+
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(reads).hasValue(1);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"meter-7\"");
+    }
+
+    private ResponseEntity<List<String>> get() {
+        return versionedResponses.get(Constants.METER_DATA_VERSION, new ServletWebRequest(request, response), () -> {
+            reads.incrementAndGet();
+            return List.of("meter");
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.electricitymanagement.unittest.mapper;
+
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.entity.Supplier;
+import com.project.electricitymanagement.mapper.CustomerMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test class for Customer Mapper.
+ */
+class CustomerMapperTest {
+
+    private CustomerDto customerDto;
+
+    @BeforeEach
+    void setUp() {
+        customerDto = new CustomerDto();
+        customerDto.setName("Rahul");
+        customerDto.setAddress("Lucknow");
+        customerDto.setConnectionDate(LocalDate.of(2024, 1, 1));
+        customerDto.setLastReading(100.0);
+        customerDto.setCurrentReading(150.0);
+        customerDto.setMeterId(2L);
+        customerDto.setSupplierId(3L);
+    }
+
+    @Test
+    void testToEntity() {
+        Customer customer = CustomerMapper.toEntity(customerDto);
+
+        assertNull(customer.getId());
+        assertEquals("Rahul", customer.getName());
+        assertEquals("Lucknow", customer.getAddress());
+        assertEquals(LocalDate.of(2024, 1, 1), customer.getConnectionDate());
+        assertEquals(100.0, customer.getLastReading());
+        assertEquals(150.0, customer.getCurrentReading());
+        assertNull(customer.getBillAmount());
+        assertEquals(2L, customer.getMeter().getId());
+        assertEquals(3L, customer.getSupplier().getId());
+    }
+
+    @Test
+    void testUpdateEntity_KeepsConnectionDateAndReplacesReferences() {
+        Meter currentMeter = new Meter(1L, 1, new BigDecimal("500.0"));
+        Supplier currentSupplier = new Supplier(1L, "Danish", "Urban");
+        Customer customer = new Customer(7L, "Old name", "Old address", LocalDate.of(2020, 5, 5), 1.0, 2.0, new BigDecimal("505.0"), 1L,
+                currentMeter, currentSupplier);
+
+        CustomerMapper.updateEntity(customerDto, customer);
+
+        assertEquals(7L, customer.getId());
+        assertEquals("Rahul", customer.getName());
+        assertEquals("Lucknow", customer.getAddress());
+        assertEquals(LocalDate.of(2020, 5, 5), customer.getConnectionDate());
+        assertEquals(150.0, customer.getCurrentReading());
+        assertEquals(2L, customer.getMeter().getId());
+        assertEquals(3L, customer.getSupplier().getId());
+        assertNotSame(currentMeter, customer.getMeter());
+        assertEquals(1L, currentMeter.getId());
+        assertEquals(1L, currentSupplier.getId());
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.electricitymanagement.unittest.mapper;
+
+import com.project.electricitymanagement.dto.MeterDto;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.mapper.MeterMapper;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test class for Meter Mapper.
+ */
+class MeterMapperTest {
+
+    @Test
+    void testToEntity() {
+        MeterDto meterDto = new MeterDto();
+        meterDto.setLoadAmount(3);
+        meterDto.setMinBillAmount(new BigDecimal("1000.0"));
+
+        Meter meter = MeterMapper.toEntity(meterDto);
+
+        assertNull(meter.getId());
+        assertEquals(3, meter.getLoadAmount());
+        assertEquals(new BigDecimal("1000.0"), meter.getMinBillAmount());
+    }
+
+    @Test
+    void testUpdateEntity_KeepsId() {
+        MeterDto meterDto = new MeterDto();
+        meterDto.setLoadAmount(4);
+        meterDto.setMinBillAmount(new BigDecimal("1250.0"));
+        Meter meter = new Meter(9L, 1, new BigDecimal("500.0"));
+
+        MeterMapper.updateEntity(meterDto, meter);
+
+        assertEquals(9L, meter.getId());
+        assertEquals(4, meter.getLoadAmount());
+        assertEquals(new BigDecimal("1250.0"), meter.getMinBillAmount());
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.electricitymanagement.unittest.repository;
+
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.CustomerChangeRepository.CustomerChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.Duration;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for Customer Change Repository.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CustomerChangeRepository.class)
+class CustomerChangeRepositoryTest {
+
+    @Autowired
+    private CustomerChangeRepository customerChangeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testFindAfter_ReturnsLaterChangesInOrder() {
+        long lastId = customerChangeRepository.findLastId();
+
+        customerChangeRepository.insert("instance", List.of(5L, 6L));
+        customerChangeRepository.insertAll("instance");
+
+        List<CustomerChange> changes = customerChangeRepository.findAfter(lastId);
+        assertThat(changes).extracting(CustomerChange::customerId).containsExactly(5L, 6L, null);
+        assertThat(changes).extracting(CustomerChange::instanceId).containsOnly("instance");
+        assertThat(customerChangeRepository.findLastId()).isEqualTo(changes.get(2).id());
+        assertThat(customerChangeRepository.findAfter(changes.get(0).id())).hasSize(2);
+    }
+
+    @Test
+    void testDeleteOlderThan_KeepsRecentChanges() {
+        customerChangeRepository.insert("instance", List.of(5L));
+        jdbcTemplate.update("insert into customer_change (customer_id, instance_id, changed_at)"
+                + " values (6, 'instance', timestampadd(hour, -2, current_timestamp))");
+
+        assertThat(customerChangeRepository.deleteOlderThan(Duration.ofHours(1))).isEqualTo(1);
+        assertThat(customerChangeRepository.findAfter(0)).extracting(CustomerChange::customerId).containsExactly(5L);
+    }
+}
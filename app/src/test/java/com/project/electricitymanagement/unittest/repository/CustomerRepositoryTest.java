@@ -0,0 +1,97 @@
+package com.project.electricitymanagement.unittest.repository;
+
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.repository.CustomerRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for Customer Repository, counting the statements each finder runs.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class CustomerRepositoryTest {
+
+    private static final long FIRST_SUPPLIER_ID = 9301L;
+    private static final int SUPPLIERS = 3;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private long customerId;
+
+    @BeforeEach
+    void setUp() {
+        for (int s = 0; s < SUPPLIERS; s++) {
+            jdbcTemplate.update("insert into supplier (id, name, supplier_type) values (?, ?, 'Urban')", FIRST_SUPPLIER_ID + s, "Supplier " + s);
+        }
+        for (int i = 0; i < 8; i++) {
+            jdbcTemplate.update("insert into customer (name, address, connection_date, last_reading, current_reading, meter_id, supplier_id)"
+                    + " values (?, 'Street', '2024-01-01', 10, 20, ?, ?)", "Customer " + i, i % 4 + 1, FIRST_SUPPLIER_ID + i % SUPPLIERS);
+        }
+        customerId = jdbcTemplate.queryForObject("select max(id) from customer", Long.class);
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAll_LoadsMetersAndSuppliersInOneQuery() {
+        List<Customer> customers = customerRepository.findAll();
+        customers.forEach(customer -> {
+            assertThat(customer.getMeter().getMinBillAmount()).isNotNull();
+            assertThat(customer.getSupplier().getName()).isNotNull();
+        });
+
+        assertThat(customers).hasSizeGreaterThanOrEqualTo(8);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindByIdGreaterThan_LoadsMetersAndSuppliersInOneQuery() {
+        List<Customer> page = customerRepository.findByIdGreaterThanOrderByIdAsc(Long.MIN_VALUE, Limit.of(5));
+        page.forEach(customer -> assertThat(customer.getSupplier().getName()).isNotNull());
+
+        assertThat(page).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindWithMeterAndSupplierById_LoadsGraphInOneQuery() {
+        Customer customer = customerRepository.findWithMeterAndSupplierById(customerId).orElseThrow();
+
+        assertThat(customer.getMeter().getMinBillAmount()).isNotNull();
+        assertThat(customer.getSupplier().getName()).startsWith("Supplier");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindById_LeavesMeterAndSupplierLazy() {
+        Customer customer = customerRepository.findById(customerId).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(customer.getMeter())).isFalse();
+        assertThat(Hibernate.isInitialized(customer.getSupplier())).isFalse();
+        assertThat(customer.getMeter().getId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.electricitymanagement.unittest.repository;
+
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.IdSequenceRepository;
+import com.project.electricitymanagement.repository.MeterRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the pooled id allocation shared by Hibernate and the Id Sequence Repository.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(IdSequenceRepository.class)
+class IdSequenceRepositoryTest {
+
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+
+    @Autowired
+    private MeterRepository meterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testSaveAll_InsertsInOneBatchWithPooledIds() {
+        List<Meter> meters = IntStream.range(0, 20).mapToObj(i -> new Meter(null, 10 + i, BigDecimal.valueOf(100L * i))).toList();
+
+        meterRepository.saveAll(meters);
+        entityManager.flush();
+
+        assertThat(meters).extracting(Meter::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(meters.get(19).getId() - meters.get(0).getId()).isEqualTo(19);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void testAllocate_DoesNotOverlapIdsHandedToHibernate() {
+        Meter saved = meterRepository.save(new Meter(null, 11, new BigDecimal("110.0")));
+        long first = idSequenceRepository.allocate("meter", 10);
+        long next = idSequenceRepository.allocate("meter", 10);
+
+        assertThat(first).isGreaterThan(saved.getId());
+        assertThat(next).isEqualTo(first + 10);
+    }
+}
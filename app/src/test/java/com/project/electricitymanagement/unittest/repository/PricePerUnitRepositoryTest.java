@@ -0,0 +1,78 @@
+package com.project.electricitymanagement.unittest.repository;
+
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test Class for PricePerUnit Repository.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class PricePerUnitRepositoryTest {
+    @Autowired
+    private PricePerUnitRepository pricePerUnitRepository;
+    private PricePerUnit pricePerUnit;
+
+    @BeforeEach
+    void setUp() {
+        //this is required if data.sql file is there else we can comment this out.
+        pricePerUnitRepository.deleteAll();
+        pricePerUnit = new PricePerUnit(1L, 200, 300, new BigDecimal("7"));
+        pricePerUnitRepository.save(pricePerUnit);
+
+
+    }
+
+    @AfterEach
+    void tearDown() {
+        pricePerUnitRepository.deleteAll();
+
+    }
+
+    @Test
+    void testFindByUnitConsumed_Found() {
+
+        Optional<BigDecimal> priceByUnitConsumed = pricePerUnitRepository.findByUnitConsumed(201);
+        assertThat(priceByUnitConsumed).isNotEmpty();
+        assertThat(priceByUnitConsumed.get()).isEqualByComparingTo(pricePerUnit.getPrice());
+    }
+
+    @Test
+    void testFindByUnitConsumed_NotFound() {
+        Optional<BigDecimal> priceByUnitConsumed = pricePerUnitRepository.findByUnitConsumed(995809);
+        assertThat(priceByUnitConsumed).isEmpty();
+
+    }
+
+    @Test
+    void testFindByUnitConsumed_MatchesTariffSlabs() {
+        pricePerUnitRepository.save(new PricePerUnit(null, 0, 100, new BigDecimal("3")));
+        pricePerUnitRepository.save(new PricePerUnit(null, 101, 199, new BigDecimal("5")));
+        pricePerUnitRepository.save(new PricePerUnit(null, 350, 300, new BigDecimal("9")));
+        List<PricePerUnit> rows = pricePerUnitRepository.findAll();
+        TariffSlabs slabs = TariffSlabs.of(
+                rows.stream().mapToInt(PricePerUnit::getUnitRangeLower).toArray(),
+                rows.stream().mapToInt(PricePerUnit::getUnitRangeUpper).toArray(),
+                rows.stream().map(PricePerUnit::getPrice).mapToLong(Money::toPriceUnits).toArray());
+
+        for (double units = -2; units <= 400; units += 0.25) {
+            long indexed = slabs.priceFor(units);
+            Optional<Long> queried = pricePerUnitRepository.findByUnitConsumed(units).map(Money::toPriceUnits);
+            assertThat(indexed == TariffSlabs.NOT_FOUND ? Optional.empty() : Optional.of(indexed)).as("units %s", units).isEqualTo(queried);
+        }
+    }
+}
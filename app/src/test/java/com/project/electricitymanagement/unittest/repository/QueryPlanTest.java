@@ -0,0 +1,154 @@
+package com.project.electricitymanagement.unittest.repository;
+
+import com.project.electricitymanagement.billing.CustomerPage;
+import com.project.electricitymanagement.repository.CustomerRepository;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import com.project.electricitymanagement.repository.SupplierRepository;
+import com.project.electricitymanagement.service.BillRecomputeService;
+import com.project.electricitymanagement.service.BillRunService;
+import com.project.electricitymanagement.service.MeterReadingService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan regression tests: every repository query is run against large seeded customer, supplier and
+ * price per unit tables, and its plan must not scan any of them in full.
+ * The JDBC statements are taken from the constants the services run, so a changed statement is checked as it is.
+ * findAll and the streaming reads are left out, since they read whole tables by design.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.project.electricitymanagement.unittest.repository.QueryPlanTest$CapturingInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static final Pattern FULL_SCAN = Pattern.compile("(customer|supplier|price_per_unit)\\.tableScan", Pattern.CASE_INSENSITIVE);
+    private static final long FIRST_ID = 500_000L;
+    private static final int CUSTOMERS = 20_000;
+    private static final int SUPPLIERS = 500;
+    private static final int SLABS = 5_000;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRepository meterRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private PricePerUnitRepository pricePerUnitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into supplier (id, name, supplier_type) select ? + x, 'Supplier', 'Urban' from system_range(1, ?) as r(x)",
+                FIRST_ID, SUPPLIERS);
+        jdbcTemplate.update("insert into customer (id, name, address, connection_date, last_reading, current_reading, meter_id, supplier_id)"
+                + " select ? + x, 'Customer', 'Street', dateadd('DAY', mod(x, 3650), date '2015-01-01'), 0, mod(x, 900), mod(x, 4) + 1,"
+                + " ? + 1 + mod(x, ?) from system_range(1, ?) as r(x)", FIRST_ID, FIRST_ID, SUPPLIERS, CUSTOMERS);
+        jdbcTemplate.update("insert into price_per_unit (id, unit_range_lower, unit_range_upper, price)"
+                + " select ? + x, 1000 + x * 10, 1009 + x * 10, 9 from system_range(1, ?) as r(x)", FIRST_ID, SLABS);
+        entityManager.clear();
+        //Lookups by id must reach the database to have a plan, not the second-level cache.
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        STATEMENTS.clear();
+    }
+
+    @Test
+    void testCustomerQueries_UseIndexes() {
+        customerRepository.findById(FIRST_ID + 1);
+        customerRepository.findWithMeterAndSupplierById(FIRST_ID + 2);
+        customerRepository.findByIdGreaterThanOrderByIdAsc(FIRST_ID, Limit.of(100));
+
+        assertNoFullScan(capturedSelects(3));
+    }
+
+    @Test
+    void testMeterAndSupplierQueries_UseIndexes() {
+        meterRepository.findById(1L);
+        meterRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(100));
+        supplierRepository.findById(FIRST_ID + 1);
+        supplierRepository.findByIdGreaterThanOrderByIdAsc(FIRST_ID, Limit.of(100));
+
+        assertNoFullScan(capturedSelects(4));
+    }
+
+    @Test
+    void testPricePerUnitQueries_UseIndexes() {
+        pricePerUnitRepository.findById(FIRST_ID + 1);
+        pricePerUnitRepository.findByIdGreaterThanOrderByIdAsc(FIRST_ID, Limit.of(100));
+        pricePerUnitRepository.findByUnitConsumed(25_005);
+
+        assertNoFullScan(capturedSelects(3));
+    }
+
+    @Test
+    void testJdbcQueries_UseIndexes() {
+        assertNoFullScan(List.of(
+                BillRunService.SELECT_PAGE,
+                CustomerPage.UPDATE_BILL,
+                BillRecomputeService.SELECT_BY_UNITS,
+                BillRecomputeService.SELECT_BY_METER,
+                MeterReadingService.lockCustomersSql(3),
+                MeterReadingService.UPDATE_READING));
+    }
+
+    /**
+     * Reporting queries, run against the database directly rather than by the application, that the connection date
+     * indexes are there for.
+     */
+    @Test
+    void testReportingQueries_UseIndexes() {
+        assertNoFullScan(List.of(
+                "select id from customer where supplier_id = 500001 and connection_date >= date '2020-01-01'",
+                "select id from customer where connection_date between date '2020-01-01' and date '2020-01-31'"));
+    }
+
+    private List<String> capturedSelects(final int expected) {
+        List<String> selects = STATEMENTS.stream().filter(sql -> sql.regionMatches(true, 0, "select", 0, 6)).toList();
+        assertThat(selects).hasSize(expected);
+        return selects;
+    }
+
+    /**
+     * Explains each statement, with its parameters replaced by literals, and fails on a full scan of a seeded table.
+     */
+    private void assertNoFullScan(final List<String> statements) {
+        for (String sql : statements) {
+            String plan = jdbcTemplate.queryForObject("explain " + sql.replace("?", "1"), String.class);
+            assertThat(FULL_SCAN.matcher(plan).find()).as("Plan of %s%n%s", sql, plan).isFalse();
+        }
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares.
+     */
+    public static class CapturingInspector implements StatementInspector {
+        @Override
+        public String inspect(final String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.electricitymanagement.unittest.repository;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.config.HibernateCacheConfig;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.entity.Supplier;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.repository.SupplierRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the second-level cache of the reference data. Every repository call runs in a transaction of its own,
+ * so that entities are read from the second-level cache instead of the persistence context.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(HibernateCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private MeterRepository meterRepository;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Meter meter;
+    private Supplier supplier;
+
+    @BeforeEach
+    void setUp() {
+        meter = meterRepository.save(new Meter(null, 7, new BigDecimal("700.00")));
+        supplier = supplierRepository.save(new Supplier(null, "Cached Supplier", "Urban"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterRepository.deleteById(meter.getId());
+        supplierRepository.deleteById(supplier.getId());
+    }
+
+    @Test
+    void testFindById_ReadsFromCache() {
+        meterRepository.findById(meter.getId());
+        Meter cached = meterRepository.findById(meter.getId()).orElseThrow();
+
+        assertThat(cached.getMinBillAmount()).isEqualByComparingTo("700.00");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(Constants.METER_CACHE_REGION).getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testSave_UpdatesCachedEntity() {
+        meter.setMinBillAmount(new BigDecimal("750.00"));
+        meterRepository.save(meter);
+        statistics.clear();
+
+        Meter cached = meterRepository.findById(meter.getId()).orElseThrow();
+
+        assertThat(cached.getMinBillAmount()).isEqualByComparingTo("750.00");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void testFindAll_ReadsFromQueryCacheUntilChanged() {
+        supplierRepository.findAll();
+        int suppliers = supplierRepository.findAll().size();
+
+        assertThat(statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME).getHitCount())
+                .isEqualTo(1);
+
+        supplier.setName("Renamed Supplier");
+        supplierRepository.save(supplier);
+        statistics.clear();
+
+        assertThat(supplierRepository.findAll()).hasSize(suppliers).anyMatch(s -> "Renamed Supplier".equals(s.getName()));
+        assertThat(statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME).getHitCount())
+                .isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.electricitymanagement.unittest.repository;
+
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.CustomerRepository;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.repository.StreamingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the keyset finders and the Streaming Repository.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(StreamingRepository.class)
+class StreamingRepositoryTest {
+
+    private static final long SUPPLIER_ID = 9101L;
+
+    @Autowired
+    private StreamingRepository streamingRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRepository meterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into supplier (id, name, supplier_type) values (?, 'Streaming supplier', 'Urban')", SUPPLIER_ID);
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("insert into customer (name, address, connection_date, last_reading, current_reading, meter_id, supplier_id)"
+                    + " values (?, 'Street', '2024-01-01', 10, 20, 2, ?)", "Customer " + i, SUPPLIER_ID);
+        }
+    }
+
+    @Test
+    void testFindByIdGreaterThan_WalksAllPagesInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        long after = Long.MIN_VALUE;
+        List<Customer> page = customerRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(2));
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            page.forEach(customer -> ids.add(customer.getId()));
+            after = page.get(page.size() - 1).getId();
+            page = customerRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(2));
+        }
+
+        assertThat(ids).hasSize((int) customerRepository.count()).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testForEachCustomer_ReadsCustomersWithMeterAndSupplier() {
+        List<Customer> customers = new ArrayList<>();
+        streamingRepository.forEachCustomer(customers::add);
+
+        assertThat(customers).hasSize((int) customerRepository.count());
+        assertThat(customers).extracting(Customer::getId).isSorted();
+        Customer streamed = customers.stream().filter(c -> c.getSupplier().getId() == SUPPLIER_ID).findFirst().orElseThrow();
+        assertThat(streamed.getName()).isEqualTo("Customer 0");
+        assertThat(streamed.getMeter().getMinBillAmount()).isEqualByComparingTo("700");
+        assertThat(streamed.getSupplier().getName()).isEqualTo("Streaming supplier");
+        assertThat(streamed.getConnectionDate()).hasYear(2024);
+    }
+
+    @Test
+    void testForEachMeter_ReadsEveryMeter() {
+        List<Meter> meters = new ArrayList<>();
+        streamingRepository.forEachMeter(meters::add);
+
+        assertThat(meters).extracting(Meter::getId).containsExactlyElementsOf(
+                meterRepository.findAll().stream().map(Meter::getId).sorted().toList());
+    }
+}
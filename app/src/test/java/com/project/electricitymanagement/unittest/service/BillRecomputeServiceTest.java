@@ -0,0 +1,145 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.billing.CustomerPage;
+import com.project.electricitymanagement.dto.BillRecomputeStatus;
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.service.BillRecomputeService;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.TariffIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.sql.Statement;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Test class for Bill Recompute Service.
+ * The recompute writes from its own thread, so the test data is committed instead of rolled back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({BillRecomputeService.class, TariffIndex.class, MeterCache.class, CustomerCache.class, BillingDataVersion.class,
+        DataVersionRepository.class, CustomerChangeLog.class, CustomerChangeRepository.class})
+@TestPropertySource(properties = "bill-recompute.page-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BillRecomputeServiceTest {
+
+    private static final long SUPPLIER_ID = 9601L;
+
+    @Autowired
+    private BillRecomputeService billRecomputeService;
+
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into supplier (id, name, supplier_type) values (?, 'Recompute supplier', 'Urban')", SUPPLIER_ID);
+        //Five customers in the 101 to 200 units slab (5 per unit), on meter 1 (minimum bill 500) or meter 2 (minimum bill 700).
+        insertCustomer(0, 101, 1);
+        insertCustomer(100, 250, 1);
+        insertCustomer(50, 250, 2);
+        insertCustomer(0, 150, 1);
+        insertCustomer(10, 160, 2);
+        //Outside the slab.
+        insertCustomer(0, 100, 1);
+        insertCustomer(0, 201, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from customer where supplier_id = ?", SUPPLIER_ID);
+        jdbcTemplate.update("delete from supplier where id = ?", SUPPLIER_ID);
+    }
+
+    @Test
+    void testRecomputeUnitRange_BillsOnlyCustomersInRange() {
+        BillRecomputeStatus status = await(billRecomputeService.recomputeUnitRange(101, 200, "price per unit 2 updated"));
+
+        assertThat(status.getState()).isEqualTo(BillRecomputeStatus.State.COMPLETED);
+        assertThat(status.getReason()).isEqualTo("price per unit 2 updated");
+        assertThat(status.getCustomersBilled()).isGreaterThanOrEqualTo(5);
+        assertThat(bills()).containsExactly(101 * 5 + 500.0, 150 * 5 + 500.0, 200 * 5 + 700.0, 150 * 5 + 500.0, 150 * 5 + 700.0, null, null);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from customer where supplier_id = ? and bill_version = ?", Integer.class,
+                SUPPLIER_ID, billingDataVersion.current())).isEqualTo(5);
+    }
+
+    @Test
+    void testRecomputeMeter_BillsOnlyCustomersOfMeter() {
+        BillRecomputeStatus status = await(billRecomputeService.recomputeMeter(2L, "meter 2 updated"));
+
+        assertThat(status.getState()).isEqualTo(BillRecomputeStatus.State.COMPLETED);
+        assertThat(bills()).containsExactly(null, null, 200 * 5 + 700.0, null, 150 * 5 + 700.0, null, 201 * 6 + 700.0);
+    }
+
+    @Test
+    void testRecomputeUnitRange_KeepsNewerBills() {
+        jdbcTemplate.update("update customer set bill_amount = 1, bill_version = ? where supplier_id = ?", billingDataVersion.current() + 1,
+                SUPPLIER_ID);
+
+        BillRecomputeStatus status = await(billRecomputeService.recomputeUnitRange(101, 200, "price per unit 2 updated"));
+
+        assertThat(status.getCustomersSkipped()).isGreaterThanOrEqualTo(5);
+        assertThat(bills()).containsOnly(1.0);
+    }
+
+    @Test
+    void testRecomputeMeter_FailedRow_CountedAsSkipped() {
+        //A driver that goes on after a failed row reports it as EXECUTE_FAILED; the first batch is answered that way.
+        doAnswer(invocation -> new int[] {1, Statement.EXECUTE_FAILED}).doCallRealMethod()
+                .when(jdbcTemplate).batchUpdate(eq(CustomerPage.UPDATE_BILL), any(BatchPreparedStatementSetter.class));
+
+        BillRecomputeStatus status = await(billRecomputeService.recomputeMeter(2L, "meter 2 updated"));
+
+        assertThat(status.getState()).isEqualTo(BillRecomputeStatus.State.COMPLETED);
+        assertThat(status.getCustomersSkipped()).isEqualTo(1);
+        assertThat(status.getCustomersBilled()).isEqualTo(status.getCustomersMatched() - 1);
+    }
+
+    private BillRecomputeStatus await(final BillRecomputeStatus queued) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            BillRecomputeStatus status = billRecomputeService.getRecentStatuses().stream()
+                    .filter(recompute -> recompute.getId() == queued.getId())
+                    .findFirst()
+                    .orElseThrow();
+            if (status.getFinishedAt() != null) {
+                return status;
+            }
+            Thread.onSpinWait();
+        }
+        throw new AssertionError("Bill recompute " + queued.getId() + " did not finish");
+    }
+
+    private List<Double> bills() {
+        return jdbcTemplate.queryForList("select bill_amount from customer where supplier_id = ? order by id", Double.class, SUPPLIER_ID);
+    }
+
+    private void insertCustomer(final double lastReading, final double currentReading, final long meterId) {
+        jdbcTemplate.update("insert into customer (name, address, connection_date, last_reading, current_reading, meter_id, supplier_id)"
+                + " values ('Rahul', 'Lucknow', '2024-01-01', ?, ?, ?, ?)", lastReading, currentReading, meterId, SUPPLIER_ID);
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.dto.BillRunStatus;
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.service.BillRunService;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
+import com.project.electricitymanagement.service.TariffIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for Bill Run Service.
+ * The bill run writes from its own worker threads, so the test data is committed instead of rolled back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({BillRunService.class, TariffIndex.class, CustomerCache.class, BillingDataVersion.class, DataVersionRepository.class,
+        CustomerChangeLog.class, CustomerChangeRepository.class})
+@TestPropertySource(properties = {"bill-run.page-size=10", "bill-run.worker-threads=3"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BillRunServiceTest {
+
+    private static final long SUPPLIER_ID = 9001L;
+
+    @Autowired
+    private BillRunService billRunService;
+
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into supplier (id, name, supplier_type) values (?, 'Bill run supplier', 'Urban')", SUPPLIER_ID);
+        //25 customers on meter 1 (minimum bill 500) consuming 10 units each, billed at 3 per unit by the seeded tariff.
+        for (int i = 0; i < 25; i++) {
+            insertCustomer(100, 110);
+        }
+        //Consumption above the highest seeded slab, so no price is found.
+        insertCustomer(0, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from customer where supplier_id = ?", SUPPLIER_ID);
+        jdbcTemplate.update("delete from supplier where id = ?", SUPPLIER_ID);
+    }
+
+    @Test
+    void testRun_BillsEveryCustomer() {
+        BillRunStatus status = billRunService.run();
+
+        assertThat(status.getState()).isEqualTo(BillRunStatus.State.COMPLETED);
+        assertThat(status.getCustomersBilled()).isEqualTo(25);
+        assertThat(status.getCustomersSkipped()).isEqualTo(1);
+        assertThat(status.getPagesProcessed()).isEqualTo(3);
+        assertThat(status.getTotalBilled()).isEqualByComparingTo("13250.00");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from customer where supplier_id = ? and bill_amount = 530 and bill_version = ?", Integer.class,
+                SUPPLIER_ID, billingDataVersion.current())).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from customer where supplier_id = ? and bill_amount is null", Integer.class, SUPPLIER_ID)).isEqualTo(1);
+        assertThat(billRunService.getLatestStatus()).get().extracting(BillRunStatus::getId).isEqualTo(status.getId());
+    }
+
+    @Test
+    void testRun_BillStoredAgainstNewerVersion_IsKeptAndSkipped() {
+        long newerVersion = billingDataVersion.current() + 1;
+        insertCustomer(100, 110);
+        //Billed by an instance that already saw a newer tariff.
+        jdbcTemplate.update("update customer set bill_amount = 2, bill_version = ? where id = (select max(id) from customer)", newerVersion);
+
+        BillRunStatus status = billRunService.run();
+
+        assertThat(status.getState()).isEqualTo(BillRunStatus.State.COMPLETED);
+        assertThat(status.getCustomersBilled()).isEqualTo(25);
+        assertThat(status.getCustomersSkipped()).isEqualTo(2);
+        assertThat(status.getTotalBilled()).isEqualByComparingTo("13250.00");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from customer where supplier_id = ? and bill_amount = 2 and bill_version = ?", Integer.class, SUPPLIER_ID,
+                newerVersion)).isEqualTo(1);
+    }
+
+    private void insertCustomer(final double lastReading, final double currentReading) {
+        jdbcTemplate.update("insert into customer (name, address, connection_date, last_reading, current_reading, meter_id, supplier_id)"
+                + " values ('Rahul', 'Lucknow', '2024-01-01', ?, ?, 1, ?)", lastReading, currentReading, SUPPLIER_ID);
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import com.project.electricitymanagement.repository.StreamingRepository;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
+import com.project.electricitymanagement.service.CustomerService;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.TariffIndex;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the bills stored with the version of the tariff and meter data they were computed against.
+ * Stale bills are stored again in a transaction of their own, so the test data is cleaned up instead of rolled back.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CustomerService.class, MeterCache.class, CustomerCache.class, TariffIndex.class, BillingDataVersion.class,
+        DataVersionRepository.class, StreamingRepository.class, CustomerChangeLog.class, CustomerChangeRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerBillVersionTest {
+
+    private static final long SUPPLIER_ID = 9501L;
+    private static final long CUSTOMER_ID = 9501L;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+
+    @Autowired
+    private CustomerCache customerCache;
+
+    @Autowired
+    private TariffIndex tariffIndex;
+
+    @Autowired
+    private PricePerUnitRepository pricePerUnitRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into supplier (id, name, supplier_type) values (?, 'Bill version supplier', 'Urban')", SUPPLIER_ID);
+        //Meter 1 (minimum bill 500) and 10 units consumed, billed at 3 per unit by the seeded tariff.
+        jdbcTemplate.update("insert into customer (id, name, address, connection_date, last_reading, current_reading, meter_id, supplier_id)"
+                + " values (?, 'Rahul', 'Lucknow', '2024-01-01', 100, 110, 1, ?)", CUSTOMER_ID, SUPPLIER_ID);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        //The bills are changed with plain SQL, which the customer cache doesn't see.
+        customerCache.invalidate(CUSTOMER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from customer where id = ?", CUSTOMER_ID);
+        jdbcTemplate.update("delete from supplier where id = ?", SUPPLIER_ID);
+    }
+
+    @Test
+    void testGetCustomerBillById_CurrentBill_IsOnePrimaryKeyRead() {
+        jdbcTemplate.update("update customer set bill_amount = 123, bill_version = ? where id = ?", billingDataVersion.current(), CUSTOMER_ID);
+        statistics.clear();
+
+        assertThat(customerService.getCustomerBillById(CUSTOMER_ID)).isEqualByComparingTo("123");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetCustomerBillById_StaleBill_IsRecomputedAndStored() {
+        long version = billingDataVersion.current();
+        jdbcTemplate.update("update customer set bill_amount = 123, bill_version = ? where id = ?", version - 1, CUSTOMER_ID);
+
+        assertThat(customerService.getCustomerBillById(CUSTOMER_ID)).isEqualByComparingTo("530");
+        assertThat(jdbcTemplate.queryForObject("select bill_amount from customer where id = ?", Double.class, CUSTOMER_ID)).isEqualTo(530.0);
+        assertThat(jdbcTemplate.queryForObject("select bill_version from customer where id = ?", Long.class, CUSTOMER_ID)).isEqualTo(version);
+
+        statistics.clear();
+        assertThat(customerService.getCustomerBillById(CUSTOMER_ID)).isEqualByComparingTo("530");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        customerCache.invalidate(CUSTOMER_ID);
+        assertThat(customerService.getCustomerBillById(CUSTOMER_ID)).isEqualByComparingTo("530");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetCustomerBillById_BillWithoutVersion_IsRecomputed() {
+        jdbcTemplate.update("update customer set bill_amount = 123 where id = ?", CUSTOMER_ID);
+
+        assertThat(customerService.getCustomerBillById(CUSTOMER_ID)).isEqualByComparingTo("530");
+        assertThat(jdbcTemplate.queryForObject("select bill_version from customer where id = ?", Long.class, CUSTOMER_ID))
+                .isEqualTo(billingDataVersion.current());
+    }
+
+    @Test
+    void testGetCustomerBillById_SubCentPrice_IsBilledExactly() {
+        //Changed through the repository, so that the second-level cache and the cached slab list follow.
+        PricePerUnit slab = pricePerUnitRepository.findAll().stream()
+                .filter(row -> row.getUnitRangeLower() <= 10 && row.getUnitRangeUpper() >= 10)
+                .findFirst()
+                .orElseThrow();
+        BigDecimal price = slab.getPrice();
+        try {
+            slab.setPrice(new BigDecimal("0.1347"));
+            pricePerUnitRepository.save(slab);
+            tariffIndex.refresh();
+
+            //10 units at 0.1347 plus the minimum bill of 500; a price rounded to the cent would bill 501.30.
+            assertThat(jdbcTemplate.queryForObject("select price from price_per_unit where id = ?", BigDecimal.class, slab.getId()))
+                    .isEqualByComparingTo("0.1347");
+            assertThat(customerService.getCustomerBillById(CUSTOMER_ID)).isEqualByComparingTo("501.35");
+        } finally {
+            slab.setPrice(price);
+            pricePerUnitRepository.save(slab);
+            tariffIndex.refresh();
+            customerCache.invalidate(CUSTOMER_ID);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.CustomerChangeRepository.CustomerChange;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.Duration;
+import java.util.List;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for Customer Change Log.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomerChangeLogTest {
+
+    private static final String OTHER_INSTANCE = "other-instance";
+
+    @Mock
+    private CustomerChangeRepository customerChangeRepository;
+
+    @Mock
+    private CustomerCache customerCache;
+
+    @InjectMocks
+    private CustomerChangeLog customerChangeLog;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(customerChangeLog, "gapTimeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(customerChangeLog, "retention", Duration.ofHours(1));
+        when(customerChangeRepository.findLastId()).thenReturn(10L);
+        customerChangeLog.poll();
+    }
+
+    @Test
+    void testPoll_ChangeCommittedOutOfOrder_IsAppliedOnce() {
+        when(customerChangeRepository.findAfter(10L))
+                .thenReturn(List.of(new CustomerChange(12, 2L, OTHER_INSTANCE)))
+                .thenReturn(List.of(new CustomerChange(11, 1L, OTHER_INSTANCE), new CustomerChange(12, 2L, OTHER_INSTANCE)));
+        when(customerChangeRepository.findAfter(12L)).thenReturn(List.of());
+
+        customerChangeLog.poll();
+        verify(customerCache).invalidate(2L);
+
+        customerChangeLog.poll();
+        verify(customerCache).invalidate(1L);
+        verify(customerCache).invalidate(2L);
+
+        customerChangeLog.poll();
+        verify(customerChangeRepository).findAfter(12L);
+    }
+
+    @Test
+    void testPoll_ChangeMissingPastGapTimeout_IsGivenUpOn() {
+        ReflectionTestUtils.setField(customerChangeLog, "gapTimeout", Duration.ZERO);
+        when(customerChangeRepository.findAfter(10L)).thenReturn(List.of(new CustomerChange(12, 2L, OTHER_INSTANCE)));
+        when(customerChangeRepository.findAfter(12L)).thenReturn(List.of(new CustomerChange(13, null, OTHER_INSTANCE)));
+
+        customerChangeLog.poll();
+        customerChangeLog.poll();
+
+        verify(customerCache).invalidate(2L);
+        verify(customerCache).invalidateAllCustomers();
+    }
+
+    @Test
+    void testPoll_OwnChange_IsSkipped() {
+        customerChangeLog.record(3L);
+        ArgumentCaptor<String> instanceId = ArgumentCaptor.forClass(String.class);
+        verify(customerChangeRepository).insert(instanceId.capture(), eq(List.of(3L)));
+        when(customerChangeRepository.findAfter(10L)).thenReturn(List.of(new CustomerChange(11, 3L, instanceId.getValue())));
+
+        customerChangeLog.poll();
+
+        verify(customerCache, never()).invalidate(anyLong());
+    }
+}
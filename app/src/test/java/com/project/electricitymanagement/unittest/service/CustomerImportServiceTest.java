@@ -0,0 +1,150 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.dto.CustomerImportReport;
+import com.project.electricitymanagement.dto.CustomerImportResult;
+import com.project.electricitymanagement.exception.InvalidRequestException;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.repository.IdSequenceRepository;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerImportService;
+import com.project.electricitymanagement.service.TariffIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for Customer Import Service.
+ * Every batch is committed in its own transaction, so the test data is cleaned up instead of rolled back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CustomerImportService.class, TariffIndex.class, IdSequenceRepository.class, BillingDataVersion.class, DataVersionRepository.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@TestPropertySource(properties = "customer-import.batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomerImportServiceTest {
+
+    private static final long SUPPLIER_ID = 9201L;
+
+    @Autowired
+    private CustomerImportService customerImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into supplier (id, name, supplier_type) values (?, 'Import supplier', 'Urban')", SUPPLIER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from customer where supplier_id = ?", SUPPLIER_ID);
+        jdbcTemplate.update("delete from supplier where id = ?", SUPPLIER_ID);
+    }
+
+    @Test
+    void testImportJson_InsertsValidRowsAndReportsRejectedOnes() throws IOException {
+        String json = "["
+                + customerJson("Ramesh", 1, SUPPLIER_ID, 100, 110) + ","
+                + customerJson("Suresh", 99, SUPPLIER_ID, 100, 110) + ","
+                + customerJson("", 1, SUPPLIER_ID, 100, 110) + ","
+                + "{\"name\": \"Mahesh\", \"lastReading\": \"ten\"},"
+                + customerJson("Ganesh", 2, SUPPLIER_ID, 0, 150) + ","
+                + customerJson("Dinesh", 1, SUPPLIER_ID, 0, 5000) + ","
+                + customerJson("Rajesh", 1, SUPPLIER_ID, 0, 10)
+                + "]";
+
+        CustomerImportReport report = customerImportService.importJson(stream(json));
+
+        assertThat(report.getRowsReceived()).isEqualTo(7);
+        assertThat(report.getRowsImported()).isEqualTo(3);
+        assertThat(report.getRowsRejected()).isEqualTo(4);
+        assertThat(report.getResults()).extracting(CustomerImportResult::getRow).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(report.getResults()).extracting(CustomerImportResult::getStatus).containsExactly(
+                CustomerImportResult.Status.IMPORTED, CustomerImportResult.Status.REJECTED, CustomerImportResult.Status.REJECTED,
+                CustomerImportResult.Status.REJECTED, CustomerImportResult.Status.IMPORTED, CustomerImportResult.Status.REJECTED,
+                CustomerImportResult.Status.IMPORTED);
+        assertThat(report.getResults().get(1).getError()).isEqualTo("Meter not found with id : '99'");
+        assertThat(report.getResults().get(2).getError()).contains("Name can't be empty");
+        assertThat(report.getResults().get(5).getError()).startsWith("Price per unit not found");
+
+        CustomerImportResult ganesh = report.getResults().get(4);
+        assertThat(ganesh.getBillAmount()).isEqualByComparingTo("1450");
+        assertThat(jdbcTemplate.queryForObject("select name from customer where id = ?", String.class, ganesh.getId())).isEqualTo("Ganesh");
+        assertThat(jdbcTemplate.queryForObject("select bill_version from customer where id = ?", Long.class, ganesh.getId())).isPositive();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from customer where supplier_id = ?", Integer.class, SUPPLIER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void testImportJson_KeepsRowsReadBeforeMalformedDocument() throws IOException {
+        String json = "[" + customerJson("Ramesh", 1, SUPPLIER_ID, 100, 110) + ", {\"name\": ";
+
+        CustomerImportReport report = customerImportService.importJson(stream(json));
+
+        assertThat(report.getRowsImported()).isEqualTo(1);
+        assertThat(report.getRowsRejected()).isEqualTo(1);
+        assertThat(report.getResults().get(1).getError()).startsWith("Import stopped");
+    }
+
+    @Test
+    void testImportJson_RejectsDocumentThatIsNotAnArray() {
+        assertThatThrownBy(() -> customerImportService.importJson(stream(customerJson("Ramesh", 1, SUPPLIER_ID, 100, 110))))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void testImportCsv_ReadsColumnsByHeaderName() throws IOException {
+        String csv = "supplier_id,meter_id,name,address,connection_date,last_reading,current_reading\n"
+                + SUPPLIER_ID + ",1,\"Sharma, Ramesh\",\"12 \"\"Main\"\" Street\",2024-01-01,100,110\n"
+                + "\n"
+                + SUPPLIER_ID + ",1,Suresh,Street,01/01/2024,100,110\n"
+                + SUPPLIER_ID + ",1,Ganesh,Street,2024-01-01,abc,110\n";
+
+        CustomerImportReport report = customerImportService.importCsv(stream(csv));
+
+        assertThat(report.getRowsReceived()).isEqualTo(3);
+        assertThat(report.getRowsImported()).isEqualTo(1);
+        assertThat(report.getResults().get(1).getError()).contains("connectionDate");
+        assertThat(report.getResults().get(2).getError()).contains("lastreading");
+        Long id = report.getResults().get(0).getId();
+        assertThat(jdbcTemplate.queryForObject("select address from customer where id = ?", String.class, id)).isEqualTo("12 \"Main\" Street");
+        assertThat(jdbcTemplate.queryForObject("select name from customer where id = ?", String.class, id)).isEqualTo("Sharma, Ramesh");
+    }
+
+    @Test
+    void testImportCsv_RejectsHeaderWithoutRequiredColumn() {
+        assertThatThrownBy(() -> customerImportService.importCsv(stream("name,address\nRamesh,Street\n")))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("connectiondate");
+    }
+
+    private static String customerJson(final String name, final long meterId, final long supplierId, final double lastReading,
+            final double currentReading) {
+        return String.format("{\"name\": \"%s\", \"address\": \"Street\", \"connectionDate\": \"2024-01-01\", \"lastReading\": %s,"
+                + " \"currentReading\": %s, \"meterId\": %d, \"supplierId\": %d}", name, lastReading, currentReading, meterId, supplierId);
+    }
+
+    private static InputStream stream(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,25 +1,29 @@
 package com.project.electricitymanagement.unittest.service;
 
+import com.project.electricitymanagement.billing.TariffSlabs;
 import com.project.electricitymanagement.dto.CustomerDto;
 import com.project.electricitymanagement.entity.Customer;
 import com.project.electricitymanagement.entity.Meter;
 import com.project.electricitymanagement.entity.Supplier;
 import com.project.electricitymanagement.exception.ResourceNotFoundException;
 import com.project.electricitymanagement.repository.CustomerRepository;
-import com.project.electricitymanagement.repository.MeterRepository;
-import com.project.electricitymanagement.repository.PricePerUnitRepository;
 import com.project.electricitymanagement.repository.SupplierRepository;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
 import com.project.electricitymanagement.service.CustomerService;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.TariffIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeMap;
 import org.springframework.http.ResponseEntity;
-import org.springframework.test.context.ContextConfiguration;
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,22 +37,28 @@ import static org.mockito.Mockito.*;
  * Test class for Customer Service.
  */
 @ExtendWith(MockitoExtension.class)
-@ContextConfiguration(classes = com.project.electricitymanagement.config.ModelMapperConfig.class)
 class CustomerServiceTest {
 
     @Mock
     private CustomerRepository customerRepository;
 
     @Mock
-    private MeterRepository meterRepository;
+    private MeterCache meterCache;
 
     @Mock
     private SupplierRepository supplierRepository;
+
+    @Mock
+    private TariffIndex tariffIndex;
+
     @Mock
-    private ModelMapper modelMapper;
+    private BillingDataVersion billingDataVersion;
 
     @Mock
-    private PricePerUnitRepository pricePerUnitRepository;
+    private CustomerChangeLog customerChangeLog;
+
+    @Spy
+    private CustomerCache customerCache = new CustomerCache(100, Duration.ofMinutes(10));
     @InjectMocks
     private CustomerService customerService;
 
@@ -59,7 +69,7 @@ class CustomerServiceTest {
 
     @BeforeEach
     void setUp() {
-        meter = new Meter(1L, 2, 234D);
+        meter = new Meter(1L, 2, new BigDecimal("234"));
         supplier = new Supplier(1L, "Danish", "Urban");
         testCustomer = new Customer();
         testCustomer.setId(1L);
@@ -97,16 +107,38 @@ class CustomerServiceTest {
 
     @Test
     void testGetCustomerById() {
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(customerRepository.findWithMeterAndSupplierById(1L)).thenReturn(Optional.of(testCustomer));
+
+        Customer result = customerService.getCustomerById(1L);
+
+        assertEquals(testCustomer, result);
+    }
+
+    @Test
+    void testGetCustomerById_ReadsFromCache() {
+        when(customerRepository.findWithMeterAndSupplierById(1L)).thenReturn(Optional.of(testCustomer));
 
+        customerService.getCustomerById(1L);
         Customer result = customerService.getCustomerById(1L);
 
         assertEquals(testCustomer, result);
+        verify(customerRepository, times(1)).findWithMeterAndSupplierById(1L);
+    }
+
+    @Test
+    void testDeleteCustomerById_InvalidatesCachedCustomer() {
+        when(customerRepository.findWithMeterAndSupplierById(1L)).thenReturn(Optional.of(testCustomer)).thenReturn(Optional.empty());
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        customerService.getCustomerById(1L);
+
+        customerService.deleteCustomerById(1L);
+
+        assertThrows(ResourceNotFoundException.class, () -> customerService.getCustomerById(1L));
     }
 
     @Test
     void testGetCustomerById_ResourceNotFoundException() {
-        when(customerRepository.findById(1L)).thenReturn(Optional.empty());
+        when(customerRepository.findWithMeterAndSupplierById(1L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> customerService.getCustomerById(1L));
     }
@@ -114,10 +146,10 @@ class CustomerServiceTest {
     @Test
     void testCreateCustomer() {
         // Mocking dependencies
-        when(meterRepository.findById(anyLong())).thenReturn(Optional.of(meter));
+        when(meterCache.findById(anyLong())).thenReturn(Optional.of(meter));
         when(supplierRepository.findById(anyLong())).thenReturn(Optional.of(supplier));
         when(customerRepository.save(any(Customer.class))).thenReturn(testCustomer);
-        when(pricePerUnitRepository.findByUnitConsumed(anyDouble())).thenReturn(Optional.of(5.0));
+        when(tariffIndex.findCharge(anyDouble())).thenReturn(25000L);
 
 
         Customer result = customerService.createCustomer(testCustomerDto);
@@ -137,13 +169,10 @@ class CustomerServiceTest {
 
         Long customerId = 1L;
         when(customerRepository.findById(customerId)).thenReturn(Optional.of(testCustomer));
-        when(meterRepository.findById(anyLong())).thenReturn(Optional.of(meter));
+        when(meterCache.findById(anyLong())).thenReturn(Optional.of(meter));
         when(supplierRepository.findById(anyLong())).thenReturn(Optional.of(supplier));
         when(customerRepository.save(any(Customer.class))).thenReturn(testCustomer);
-        when(pricePerUnitRepository.findByUnitConsumed(anyDouble())).thenReturn(Optional.of(5.0));
-
-        TypeMap<CustomerDto, Customer> mockTypeMap = mock(TypeMap.class);
-        when(modelMapper.typeMap(CustomerDto.class, Customer.class)).thenReturn(mockTypeMap);
+        when(tariffIndex.findCharge(anyDouble())).thenReturn(25000L);
 
         Customer updatedCustomer = customerService.updateCustomer(customerId, testCustomerDto);
 
@@ -155,6 +184,7 @@ class CustomerServiceTest {
         assertEquals(150.0, updatedCustomer.getCurrentReading());
         assertEquals(1L, updatedCustomer.getMeter().getId());
         assertEquals(1L, updatedCustomer.getSupplier().getId());
+        verify(customerChangeLog).record(1L);
     }
 
     @Test
@@ -172,6 +202,7 @@ class CustomerServiceTest {
 
         assertNotNull(result);
         assertEquals(200, result.getStatusCode().value());
+        verify(customerChangeLog).record(1L);
     }
 
     @Test
@@ -187,17 +218,17 @@ class CustomerServiceTest {
         double lastReading = 100.0;
         double currentReading = 150.0;
         double unitsConsumed = currentReading - lastReading;
-        double pricePerUnit = 5.0; // Assuming a price of $5 per unit
-        double minBillAmount = 50.0; // Assuming a minimum bill amount of $50
+        long pricePerUnit = 575; // Assuming a price of $5.75 per unit, in cents
+        BigDecimal minBillAmount = new BigDecimal("50.10"); // Assuming a minimum bill amount of $50.10
 
         Meter meter = new Meter();
         meter.setMinBillAmount(minBillAmount);
 
-        when(meterRepository.findById(1L)).thenReturn(Optional.of(meter));
-        when(pricePerUnitRepository.findByUnitConsumed(unitsConsumed)).thenReturn(Optional.of(pricePerUnit));
+        when(meterCache.findById(1L)).thenReturn(Optional.of(meter));
+        when(tariffIndex.findCharge(unitsConsumed)).thenReturn((long) unitsConsumed * pricePerUnit);
 
-        double expectedBillAmount = (unitsConsumed * pricePerUnit) + minBillAmount;
-        double actualBillAmount = customerService.calculateBillAmount(lastReading, currentReading, 1L);
+        BigDecimal expectedBillAmount = new BigDecimal("337.60");
+        BigDecimal actualBillAmount = customerService.calculateBillAmount(lastReading, currentReading, 1L);
 
         assertEquals(expectedBillAmount, actualBillAmount);
     }
@@ -206,7 +237,7 @@ class CustomerServiceTest {
     void testCalculateBillAmount_UnitConsumedNotFound() {
         double lastReading = 100.0;
         double currentReading = 150.0;
-        when(pricePerUnitRepository.findByUnitConsumed(anyDouble())).thenReturn(Optional.empty());
+        when(tariffIndex.findCharge(anyDouble())).thenReturn(TariffSlabs.NOT_FOUND);
 
         assertThrows(ResourceNotFoundException.class, () -> customerService.calculateBillAmount(lastReading, currentReading, 1L));
     }
@@ -219,4 +250,75 @@ class CustomerServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> customerService.calculateBillAmount(lastReading, currentReading, 1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetCustomerBillById_ReturnsStoredBillWhenCurrent() {
+        testCustomer.setBillAmount(new BigDecimal("484.0"));
+        testCustomer.setBillVersion(7L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(billingDataVersion.current()).thenReturn(7L);
+
+        assertEquals(new BigDecimal("484.0"), customerService.getCustomerBillById(1L));
+        verifyNoInteractions(tariffIndex, meterCache);
+        verify(customerRepository, never()).updateBill(anyLong(), anyDouble(), anyDouble(), anyLong(), any(BigDecimal.class), anyLong());
+    }
+
+    @Test
+    void testGetCustomerBillById_RecomputesAndStoresStaleBill() {
+        testCustomer.setBillAmount(new BigDecimal("400.0"));
+        testCustomer.setBillVersion(6L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(billingDataVersion.current()).thenReturn(7L);
+        when(meterCache.findById(1L)).thenReturn(Optional.of(meter));
+        when(tariffIndex.findCharge(50.0)).thenReturn(25000L);
+
+        assertEquals(new BigDecimal("484.00"), customerService.getCustomerBillById(1L));
+        verify(customerRepository).updateBill(1L, 100.0, 150.0, 1L, new BigDecimal("484.00"), 7L);
+    }
+
+    @Test
+    void testGetCustomerBillById_StoredRecomputedBillIsCached() {
+        testCustomer.setBillVersion(6L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(billingDataVersion.current()).thenReturn(7L);
+        when(meterCache.findById(1L)).thenReturn(Optional.of(meter));
+        when(tariffIndex.findCharge(50.0)).thenReturn(25000L);
+        when(customerRepository.updateBill(1L, 100.0, 150.0, 1L, new BigDecimal("484.00"), 7L)).thenReturn(1);
+
+        customerService.getCustomerBillById(1L);
+        assertEquals(new BigDecimal("484.00"), customerService.getCustomerBillById(1L));
+        verify(customerRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testGetCustomerBillById_RecomputedBillNotStoredIsNotCached() {
+        testCustomer.setBillVersion(6L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(billingDataVersion.current()).thenReturn(7L);
+        when(meterCache.findById(1L)).thenReturn(Optional.of(meter));
+        when(tariffIndex.findCharge(50.0)).thenReturn(25000L);
+        //The guarded update stores nothing when the readings it was computed from are no longer current.
+        when(customerRepository.updateBill(1L, 100.0, 150.0, 1L, new BigDecimal("484.00"), 7L)).thenReturn(0);
+
+        assertEquals(new BigDecimal("484.00"), customerService.getCustomerBillById(1L));
+        customerService.getCustomerBillById(1L);
+        verify(customerRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testGetCustomerBillById_CachedWhileVersionIsCurrent() {
+        testCustomer.setBillAmount(new BigDecimal("484.0"));
+        testCustomer.setBillVersion(7L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(testCustomer));
+        when(billingDataVersion.current()).thenReturn(7L, 7L, 8L);
+
+        customerService.getCustomerBillById(1L);
+        customerService.getCustomerBillById(1L);
+        verify(customerRepository, times(1)).findById(1L);
+
+        testCustomer.setBillAmount(new BigDecimal("500.0"));
+        testCustomer.setBillVersion(8L);
+        assertEquals(new BigDecimal("500.0"), customerService.getCustomerBillById(1L));
+        verify(customerRepository, times(2)).findById(1L);
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.config.HibernateCacheConfig;
+import com.project.electricitymanagement.config.ReadReplicaConfig;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
+import com.project.electricitymanagement.service.DataVersionPoller;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.ReferenceDataVersion;
+import com.project.electricitymanagement.service.TariffIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the Data Version Poller behind a read replica, with a second in-memory database standing in for a
+ * replica that hasn't applied the changes made on the primary yet.
+ */
+@DataJpaTest(properties = {"data-version.poll-interval=1h", "read-replica.enabled=true", "read-replica.health-check-interval=1h",
+        "read-replica.urls=" + DataVersionPollerReplicaTest.REPLICA_URL})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ReadReplicaConfig.class, DataVersionPoller.class, DataVersionRepository.class, BillingDataVersion.class, ReferenceDataVersion.class,
+        MeterCache.class, TariffIndex.class, HibernateCacheConfig.class, CustomerChangeLog.class, CustomerChangeRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DataVersionPollerReplicaTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:lagging-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final long METER_ID = 1L;
+
+    @Autowired
+    private DataVersionPoller dataVersionPoller;
+
+    @Autowired
+    private MeterCache meterCache;
+
+    @Autowired
+    private TariffIndex tariffIndex;
+
+    @Autowired
+    private MeterRepository meterRepository;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private CustomerCache customerCache;
+
+    private JdbcTemplate primary;
+    private TransactionTemplate readOnlyTransaction;
+    private Map<String, Object> slab;
+
+    @BeforeAll
+    static void createReplica() {
+        //The replica starts as a copy of the primary, and doesn't apply the changes the tests make on the primary.
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        slab = primary.queryForMap("select id, unit_range_lower, price from price_per_unit order by unit_range_lower limit 1");
+        dataVersionPoller.poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.update("update meter set min_bill_amount = min_bill_amount - 100 where id = ?", METER_ID);
+        primary.update("update price_per_unit set price = ? where id = ?", slab.get("price"), slab.get("id"));
+        primary.update("update data_version set version = version + 1 where name in ('meter', 'price_per_unit', 'billing')");
+        dataVersionPoller.poll();
+    }
+
+    @Test
+    void testPoll_ReplicaLagging_ReloadsCachesFromPrimary() {
+        BigDecimal minBillAmount = meterCache.findById(METER_ID).orElseThrow().getMinBillAmount();
+        BigDecimal price = ((BigDecimal) slab.get("price")).add(new BigDecimal("0.1347"));
+        double units = ((Number) slab.get("unit_range_lower")).doubleValue() + 1;
+        tariffIndex.refresh();
+
+        primary.update("update meter set min_bill_amount = min_bill_amount + 100 where id = ?", METER_ID);
+        primary.update("update price_per_unit set price = ? where id = ?", price, slab.get("id"));
+        primary.update("update data_version set version = version + 1 where name in ('meter', 'price_per_unit', 'billing')");
+        dataVersionPoller.poll();
+
+        //The replica still serves the meter from before the change...
+        BigDecimal replicaMinBillAmount = readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(
+                "select min_bill_amount from meter where id = ?", BigDecimal.class, METER_ID));
+        assertThat(replicaMinBillAmount).isEqualByComparingTo(minBillAmount);
+        //...but the caches were refilled from the primary.
+        BigDecimal expected = minBillAmount.add(new BigDecimal("100"));
+        assertThat(meterCache.findById(METER_ID).orElseThrow().getMinBillAmount()).isEqualByComparingTo(expected);
+        assertThat(tariffIndex.findPrice(units)).isEqualTo(Money.toPriceUnits(price));
+        List<Meter> meters = readOnlyTransaction.execute(status -> meterRepository.findAll());
+        assertThat(meters).filteredOn(meter -> meter.getId() == METER_ID).singleElement()
+                .extracting(Meter::getMinBillAmount).isEqualTo(expected.setScale(2));
+    }
+}
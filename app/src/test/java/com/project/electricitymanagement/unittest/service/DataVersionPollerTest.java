@@ -0,0 +1,168 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.config.HibernateCacheConfig;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
+import com.project.electricitymanagement.service.DataVersionPoller;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.ReferenceDataVersion;
+import com.project.electricitymanagement.service.TariffIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Test class for the Data Version Poller. The changes of another application instance are simulated by incrementing
+ * the versions and logging the customer changes with plain SQL, as that instance would in the transaction of its change.
+ */
+@DataJpaTest(properties = "data-version.poll-interval=1h")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({DataVersionPoller.class, DataVersionRepository.class, BillingDataVersion.class, ReferenceDataVersion.class, HibernateCacheConfig.class,
+        CustomerChangeLog.class, CustomerChangeRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DataVersionPollerTest {
+
+    @Autowired
+    private DataVersionPoller dataVersionPoller;
+
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+
+    @Autowired
+    private CustomerChangeLog customerChangeLog;
+
+    @Autowired
+    private MeterRepository meterRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private MeterCache meterCache;
+
+    @MockBean
+    private CustomerCache customerCache;
+
+    @MockBean
+    private TariffIndex tariffIndex;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionPoller.poll();
+        clearInvocations(meterCache, customerCache, tariffIndex);
+    }
+
+    @Test
+    void testPoll_NothingChanged_RefreshesNothing() {
+        dataVersionPoller.poll();
+
+        verifyNoInteractions(meterCache, customerCache, tariffIndex);
+    }
+
+    @Test
+    void testPoll_MeterChangedElsewhere_RefreshesMeterCachesAndPublishesVersions() {
+        long version = billingDataVersion.current();
+        long meterVersion = referenceDataVersion.current(Constants.METER_DATA_VERSION);
+        Meter meter = meterRepository.findById(1L).orElseThrow();
+        assertThat(entityManagerFactory.getCache().contains(Meter.class, meter.getId())).isTrue();
+
+        jdbcTemplate.update("update meter set min_bill_amount = min_bill_amount + 1 where id = ?", meter.getId());
+        try {
+            jdbcTemplate.update("update data_version set version = version + 1 where name in ('meter', 'billing')");
+            dataVersionPoller.poll();
+
+            verify(meterCache).reloadAll();
+            verify(customerCache).invalidateAllCustomers();
+            verify(tariffIndex, never()).refresh();
+            //The cached meter was replaced by the row read again by the poll.
+            assertThat(entityManagerFactory.getCache().contains(Meter.class, meter.getId())).isTrue();
+            assertThat(meterRepository.findById(1L).orElseThrow().getMinBillAmount()).isEqualByComparingTo(meter.getMinBillAmount().add(BigDecimal.ONE));
+            assertThat(billingDataVersion.current()).isEqualTo(version + 1);
+            assertThat(referenceDataVersion.current(Constants.METER_DATA_VERSION)).isEqualTo(meterVersion + 1);
+        } finally {
+            jdbcTemplate.update("update meter set min_bill_amount = min_bill_amount - 1 where id = ?", meter.getId());
+            jdbcTemplate.update("update data_version set version = version + 1 where name in ('meter', 'billing')");
+            dataVersionPoller.poll();
+        }
+    }
+
+    @Test
+    void testPoll_TariffChangedElsewhere_RefreshesTariff() {
+        jdbcTemplate.update("update data_version set version = version + 1 where name in ('price_per_unit', 'billing')");
+        dataVersionPoller.poll();
+
+        verify(tariffIndex).refresh();
+        verifyNoInteractions(meterCache, customerCache);
+    }
+
+    @Test
+    void testPoll_SupplierChangedElsewhere_DropsCachedCustomers() {
+        jdbcTemplate.update("update data_version set version = version + 1 where name = 'supplier'");
+        dataVersionPoller.poll();
+
+        verify(customerCache).invalidateAllCustomers();
+        verifyNoInteractions(meterCache, tariffIndex);
+    }
+
+    @Test
+    void testPoll_CustomerChangedElsewhere_DropsOnlyThatCustomer() {
+        jdbcTemplate.update("insert into customer_change (customer_id, instance_id) values (?, 'other-instance')", 7L);
+        dataVersionPoller.poll();
+
+        verify(customerCache).invalidate(7L);
+        verify(customerCache, never()).invalidateAllCustomers();
+        verifyNoInteractions(meterCache, tariffIndex);
+
+        dataVersionPoller.poll();
+
+        verifyNoMoreInteractions(customerCache);
+    }
+
+    @Test
+    void testPoll_CustomerChangedHere_IsSkipped() {
+        customerChangeLog.record(7L);
+        dataVersionPoller.poll();
+
+        verifyNoInteractions(meterCache, customerCache, tariffIndex);
+    }
+
+    @Test
+    void testPoll_BillRunElsewhere_DropsCachedCustomers() {
+        jdbcTemplate.update("insert into customer_change (customer_id, instance_id) values (null, 'other-instance')");
+        dataVersionPoller.poll();
+
+        verify(customerCache).invalidateAllCustomers();
+        verify(customerCache, never()).invalidate(anyLong());
+        verifyNoInteractions(meterCache, tariffIndex);
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.service.MeterCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for Meter Cache.
+ */
+@ExtendWith(MockitoExtension.class)
+class MeterCacheTest {
+
+    @Mock
+    private MeterRepository meterRepository;
+
+    @InjectMocks
+    private MeterCache meterCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(meterCache, "maxSize", 2);
+    }
+
+    @Test
+    void testFindById_ReadsThrough() {
+        when(meterRepository.findById(1L)).thenReturn(Optional.of(new Meter(1L, 2, new BigDecimal("700"))));
+
+        assertEquals(new BigDecimal("700"), meterCache.findById(1L).orElseThrow().getMinBillAmount());
+        assertEquals(new BigDecimal("700"), meterCache.findById(1L).orElseThrow().getMinBillAmount());
+
+        verify(meterRepository, times(1)).findById(1L);
+        assertEquals(1, meterCache.getHitCount());
+        assertEquals(1, meterCache.getMissCount());
+    }
+
+    @Test
+    void testFindById_NotFoundIsNotCached() {
+        when(meterRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(meterCache.findById(1L).isEmpty());
+        assertTrue(meterCache.findById(1L).isEmpty());
+
+        verify(meterRepository, times(2)).findById(1L);
+        assertEquals(0, meterCache.size());
+    }
+
+    @Test
+    void testInvalidate() {
+        when(meterRepository.findById(1L)).thenReturn(Optional.of(new Meter(1L, 2, new BigDecimal("700"))))
+                .thenReturn(Optional.of(new Meter(1L, 2, new BigDecimal("900"))));
+        meterCache.findById(1L);
+
+        meterCache.invalidate(1L);
+
+        assertEquals(new BigDecimal("900"), meterCache.findById(1L).orElseThrow().getMinBillAmount());
+        verify(meterRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testReloadAll_ReadsCachedMetersAgainAndDropsDeletedOnes() {
+        when(meterRepository.findById(1L)).thenReturn(Optional.of(new Meter(1L, 2, new BigDecimal("700"))));
+        when(meterRepository.findById(2L)).thenReturn(Optional.of(new Meter(2L, 2, new BigDecimal("800"))));
+        meterCache.findById(1L);
+        meterCache.findById(2L);
+        when(meterRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(new Meter(1L, 2, new BigDecimal("900"))));
+
+        meterCache.reloadAll();
+
+        assertEquals(1, meterCache.size());
+        assertEquals(new BigDecimal("900"), meterCache.findById(1L).orElseThrow().getMinBillAmount());
+        verify(meterRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        when(meterRepository.findById(1L)).thenReturn(Optional.of(new Meter(1L, 1, new BigDecimal("500"))));
+        when(meterRepository.findById(2L)).thenReturn(Optional.of(new Meter(2L, 2, new BigDecimal("700"))));
+        when(meterRepository.findById(3L)).thenReturn(Optional.of(new Meter(3L, 3, new BigDecimal("1000"))));
+        meterCache.findById(1L);
+        meterCache.findById(2L);
+        meterCache.findById(1L);
+
+        meterCache.findById(3L);
+        meterCache.findById(1L);
+        meterCache.findById(2L);
+
+        assertEquals(2, meterCache.size());
+        assertEquals(2, meterCache.getEvictionCount());
+        verify(meterRepository, times(1)).findById(1L);
+        verify(meterRepository, times(2)).findById(2L);
+    }
+}
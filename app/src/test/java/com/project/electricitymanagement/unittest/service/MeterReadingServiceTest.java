@@ -0,0 +1,231 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.dto.MeterReadingDto;
+import com.project.electricitymanagement.dto.MeterReadingResult;
+import com.project.electricitymanagement.exception.InvalidRequestException;
+import com.project.electricitymanagement.exception.ResourceNotFoundException;
+import com.project.electricitymanagement.repository.CustomerChangeRepository;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.CustomerChangeLog;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.MeterReadingService;
+import com.project.electricitymanagement.service.TariffIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for the Meter Reading Service. The readings are committed by the committer thread, so the test data is
+ * cleaned up instead of rolled back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({MeterReadingService.class, TariffIndex.class, MeterCache.class, BillingDataVersion.class, DataVersionRepository.class,
+        CustomerChangeLog.class, CustomerChangeRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MeterReadingServiceTest {
+
+    private static final long SUPPLIER_ID = 9501L;
+    private static final long FIRST_CUSTOMER = 9501L;
+    private static final long SECOND_CUSTOMER = 9502L;
+    private static final long THIRD_CUSTOMER = 9503L;
+
+    @Autowired
+    private MeterReadingService meterReadingService;
+
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private CustomerCache customerCache;
+
+    private final ExecutorService clients = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into supplier (id, name, supplier_type) values (?, 'Reading supplier', 'Urban')", SUPPLIER_ID);
+        for (long id : new long[] {FIRST_CUSTOMER, SECOND_CUSTOMER, THIRD_CUSTOMER}) {
+            jdbcTemplate.update("insert into customer (id, name, address, connection_date, last_reading, current_reading, bill_amount, meter_id, supplier_id)"
+                    + " values (?, 'Reader', 'Pune', '2024-01-01', 0, 100, 800, 1, ?)", id, SUPPLIER_ID);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+        jdbcTemplate.update("delete from customer where supplier_id = ?", SUPPLIER_ID);
+        jdbcTemplate.update("delete from supplier where id = ?", SUPPLIER_ID);
+    }
+
+    @Test
+    void testRecordReading_RollsCurrentReadingAndBills() {
+        long changes = customerChanges(FIRST_CUSTOMER);
+        MeterReadingResult result = meterReadingService.recordReading(new MeterReadingDto(FIRST_CUSTOMER, 250.0));
+
+        assertThat(result.getLastReading()).isEqualTo(100.0);
+        assertThat(result.getCurrentReading()).isEqualTo(250.0);
+        //150 units at 5 plus the minimum bill of meter 1.
+        assertThat(result.getBillAmount()).isEqualByComparingTo("1250.00");
+        Map<String, Object> row = jdbcTemplate.queryForMap("select last_reading, current_reading, bill_amount, bill_version from customer where id = ?",
+                FIRST_CUSTOMER);
+        assertThat(((Number) row.get("last_reading")).doubleValue()).isEqualTo(100.0);
+        assertThat(((Number) row.get("current_reading")).doubleValue()).isEqualTo(250.0);
+        assertThat(((Number) row.get("bill_amount")).doubleValue()).isEqualTo(1250.0);
+        assertThat(((Number) row.get("bill_version")).longValue()).isEqualTo(billingDataVersion.current());
+        verify(customerCache).invalidate(FIRST_CUSTOMER);
+        assertThat(customerChanges(FIRST_CUSTOMER)).isEqualTo(changes + 1);
+    }
+
+    @Test
+    void testRecordReadings_SameCustomerTwice_RollsInOrder() {
+        List<MeterReadingResult> results = meterReadingService.recordReadings(List.of(
+                new MeterReadingDto(FIRST_CUSTOMER, 150.0), new MeterReadingDto(SECOND_CUSTOMER, 120.0), new MeterReadingDto(FIRST_CUSTOMER, 180.0)));
+
+        assertThat(results).extracting(MeterReadingResult::getLastReading).containsExactly(100.0, 100.0, 150.0);
+        assertThat(results).extracting(MeterReadingResult::getCurrentReading).containsExactly(150.0, 120.0, 180.0);
+        assertThat(jdbcTemplate.queryForObject("select last_reading from customer where id = ?", Double.class, FIRST_CUSTOMER)).isEqualTo(150.0);
+        assertThat(jdbcTemplate.queryForObject("select current_reading from customer where id = ?", Double.class, FIRST_CUSTOMER)).isEqualTo(180.0);
+        assertThat(jdbcTemplate.queryForObject("select current_reading from customer where id = ?", Double.class, SECOND_CUSTOMER)).isEqualTo(120.0);
+    }
+
+    @Test
+    void testRecordReadings_LowerReading_RecordsNone() {
+        long changes = customerChanges(SECOND_CUSTOMER);
+        List<MeterReadingDto> readings = List.of(new MeterReadingDto(SECOND_CUSTOMER, 200.0), new MeterReadingDto(FIRST_CUSTOMER, 50.0));
+
+        assertThatThrownBy(() -> meterReadingService.recordReadings(readings)).isInstanceOf(InvalidRequestException.class);
+        assertThat(jdbcTemplate.queryForObject("select current_reading from customer where id = ?", Double.class, SECOND_CUSTOMER)).isEqualTo(100.0);
+        verify(customerCache, never()).invalidate(SECOND_CUSTOMER);
+        assertThat(customerChanges(SECOND_CUSTOMER)).isEqualTo(changes);
+    }
+
+    @Test
+    void testRecordReadings_NegativeReading_ThrowsInvalidRequestException() {
+        List<MeterReadingDto> readings = List.of(new MeterReadingDto(FIRST_CUSTOMER, 200.0), new MeterReadingDto(SECOND_CUSTOMER, -5.0));
+
+        assertThatThrownBy(() -> meterReadingService.recordReadings(readings)).isInstanceOf(InvalidRequestException.class);
+        assertThat(jdbcTemplate.queryForObject("select current_reading from customer where id = ?", Double.class, FIRST_CUSTOMER)).isEqualTo(100.0);
+    }
+
+    @Test
+    void testRecordReading_UnknownCustomer_ThrowsResourceNotFoundException() {
+        MeterReadingDto reading = new MeterReadingDto(9599L, 200.0);
+
+        assertThatThrownBy(() -> meterReadingService.recordReading(reading)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void testRecordReading_ConcurrentRequests_ShareOneTransaction() throws Exception {
+        long groups = meterReadingService.getGroupCount();
+        long readings = meterReadingService.getReadingCount();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        //Holds the row of the first customer, so that the committer waits on it while the other requests queue up.
+        CompletableFuture<Void> lockHolder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("select id from customer where id = ? for update", FIRST_CUSTOMER);
+            locked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), clients);
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<MeterReadingResult> first = record(FIRST_CUSTOMER, 200.0);
+        //The committer has taken the first request once its session waits for the row lock.
+        awaitUntil(() -> jdbcTemplate.queryForObject("select count(*) from information_schema.sessions where blocker_id is not null",
+                Integer.class) > 0);
+        CompletableFuture<MeterReadingResult> second = record(SECOND_CUSTOMER, 200.0);
+        CompletableFuture<MeterReadingResult> third = record(THIRD_CUSTOMER, 200.0);
+        awaitUntil(() -> meterReadingService.queueSize() == 2);
+        release.countDown();
+        lockHolder.get(5, TimeUnit.SECONDS);
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getCurrentReading()).isEqualTo(200.0);
+        assertThat(second.get(5, TimeUnit.SECONDS).getCurrentReading()).isEqualTo(200.0);
+        assertThat(third.get(5, TimeUnit.SECONDS).getCurrentReading()).isEqualTo(200.0);
+        assertThat(meterReadingService.getGroupCount()).isEqualTo(groups + 2);
+        assertThat(meterReadingService.getReadingCount()).isEqualTo(readings + 3);
+    }
+
+    @Test
+    void testShutdown_FailsReadingsQueuedAfterTheCommitterStopped() throws Exception {
+        //Never started, so nothing takes the readings from the queue, as after the last group of the committer.
+        MeterReadingService stopped = unstartedService(Duration.ofSeconds(5));
+        CompletableFuture<MeterReadingResult> waiting = CompletableFuture.supplyAsync(
+                () -> stopped.recordReading(new MeterReadingDto(FIRST_CUSTOMER, 200.0)), clients);
+        awaitUntil(() -> stopped.queueSize() == 1);
+
+        stopped.shutdown();
+
+        assertThatThrownBy(() -> waiting.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(stopped.queueSize()).isZero();
+        assertThatThrownBy(() -> stopped.recordReading(new MeterReadingDto(FIRST_CUSTOMER, 200.0))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testRecordReading_NotCommittedInTime_ThrowsIllegalStateException() {
+        MeterReadingService stalled = unstartedService(Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> stalled.recordReading(new MeterReadingDto(FIRST_CUSTOMER, 200.0)))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("not recorded");
+        assertThat(stalled.queueSize()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select current_reading from customer where id = ?", Double.class, FIRST_CUSTOMER)).isEqualTo(100.0);
+    }
+
+    private static MeterReadingService unstartedService(final Duration timeout) {
+        MeterReadingService service = new MeterReadingService();
+        ReflectionTestUtils.setField(service, "timeout", timeout);
+        return service;
+    }
+
+    private CompletableFuture<MeterReadingResult> record(final long customerId, final double reading) {
+        return CompletableFuture.supplyAsync(() -> meterReadingService.recordReading(new MeterReadingDto(customerId, reading)), clients);
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private long customerChanges(final long customerId) {
+        return jdbcTemplate.queryForObject("select count(*) from customer_change where customer_id = ?", Long.class, customerId);
+    }
+}
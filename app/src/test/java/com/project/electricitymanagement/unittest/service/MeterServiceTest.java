@@ -1,26 +1,37 @@
 package com.project.electricitymanagement.unittest.service;
 
+import com.project.electricitymanagement.dto.KeysetPage;
 import com.project.electricitymanagement.dto.MeterDto;
 import com.project.electricitymanagement.entity.Meter;
 import com.project.electricitymanagement.exception.ResourceNotFoundException;
 import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.service.BillRecomputeService;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.MeterCache;
 import com.project.electricitymanagement.service.MeterService;
+import com.project.electricitymanagement.service.ReferenceDataVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -33,6 +44,21 @@ class MeterServiceTest {
     @Mock
     private MeterRepository meterRepository;
 
+    @Mock
+    private MeterCache meterCache;
+
+    @Mock
+    private BillingDataVersion billingDataVersion;
+
+    @Mock
+    private BillRecomputeService billRecomputeService;
+
+    @Mock
+    private CustomerCache customerCache;
+
+    @Mock
+    private ReferenceDataVersion referenceDataVersion;
+
     @InjectMocks
     private MeterService meterService;
 
@@ -46,7 +72,7 @@ class MeterServiceTest {
 
         MeterDto meterDto = new MeterDto();
         meterDto.setLoadAmount(11);
-        meterDto.setMinBillAmount(100.0);
+        meterDto.setMinBillAmount(new BigDecimal("100.0"));
 
         Meter savedMeter = new Meter();
         BeanUtils.copyProperties(meterDto, savedMeter);
@@ -74,6 +100,34 @@ class MeterServiceTest {
         assertEquals(2, fetchedMeters.size());
     }
 
+    @Test
+    void testGetMetersPage() {
+
+        List<Meter> meters = new ArrayList<>();
+        meters.add(new Meter(5L, 1, new BigDecimal("500.0")));
+        meters.add(new Meter(6L, 2, new BigDecimal("700.0")));
+        meters.add(new Meter(7L, 3, new BigDecimal("1000.0")));
+
+        when(meterRepository.findByIdGreaterThanOrderByIdAsc(4L, Limit.of(3))).thenReturn(meters);
+        KeysetPage<Meter> page = meterService.getMetersPage(4L, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(6L, page.getNextCursor());
+    }
+
+    @Test
+    void testGetMetersPage_LastPage() {
+
+        List<Meter> meters = new ArrayList<>();
+        meters.add(new Meter(5L, 1, new BigDecimal("500.0")));
+
+        when(meterRepository.findByIdGreaterThanOrderByIdAsc(Long.MIN_VALUE, Limit.of(3))).thenReturn(meters);
+        KeysetPage<Meter> page = meterService.getMetersPage(null, 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
     @Test
     void testGetMeterById() {
 
@@ -103,7 +157,7 @@ class MeterServiceTest {
         Long id = 1L;
         MeterDto meterDto = new MeterDto();
         meterDto.setLoadAmount(9);
-        meterDto.setMinBillAmount(100.0);
+        meterDto.setMinBillAmount(new BigDecimal("100.0"));
 
         Meter existingMeter = new Meter();
         existingMeter.setId(id);
@@ -122,6 +176,11 @@ class MeterServiceTest {
         assertEquals(id, result.getId());
         assertEquals(meterDto.getLoadAmount(), result.getLoadAmount());
         assertEquals(meterDto.getMinBillAmount(), result.getMinBillAmount());
+        ArgumentCaptor<Runnable> refreshCaches = ArgumentCaptor.forClass(Runnable.class);
+        verify(billingDataVersion).increment(refreshCaches.capture());
+        refreshCaches.getValue().run();
+        verify(meterCache).invalidate(id);
+        verify(billRecomputeService).recomputeMeter(id, "meter 1 updated");
     }
 
     @Test
@@ -130,7 +189,7 @@ class MeterServiceTest {
         Long id = 1L;
         MeterDto meterDto = new MeterDto();
         meterDto.setLoadAmount(7);
-        meterDto.setMinBillAmount(100.0);
+        meterDto.setMinBillAmount(new BigDecimal("100.0"));
 
         when(meterRepository.findById(id)).thenReturn(Optional.empty());
 
@@ -151,6 +210,7 @@ class MeterServiceTest {
 
         assertNotNull(responseEntity);
         assertEquals(200, responseEntity.getStatusCodeValue());
+        verify(meterCache).invalidate(id);
     }
 
     @Test
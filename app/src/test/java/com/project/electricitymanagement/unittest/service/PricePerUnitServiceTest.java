@@ -1,18 +1,25 @@
 package com.project.electricitymanagement.unittest.service;
 
+import com.project.electricitymanagement.billing.TariffMode;
 import com.project.electricitymanagement.dto.PricePerUnitDto;
 import com.project.electricitymanagement.entity.PricePerUnit;
 import com.project.electricitymanagement.exception.ResourceNotFoundException;
 import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import com.project.electricitymanagement.service.BillRecomputeService;
+import com.project.electricitymanagement.service.BillingDataVersion;
 import com.project.electricitymanagement.service.PricePerUnitService;
+import com.project.electricitymanagement.service.ReferenceDataVersion;
+import com.project.electricitymanagement.service.TariffIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.BeanUtils;
 import org.springframework.http.ResponseEntity;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 
@@ -33,6 +42,18 @@ class PricePerUnitServiceTest {
     @Mock
     private PricePerUnitRepository pricePerUnitRepository;
 
+    @Mock
+    private TariffIndex tariffIndex;
+
+    @Mock
+    private BillingDataVersion billingDataVersion;
+
+    @Mock
+    private BillRecomputeService billRecomputeService;
+
+    @Mock
+    private ReferenceDataVersion referenceDataVersion;
+
     @InjectMocks
     private PricePerUnitService pricePerUnitService;
 
@@ -45,12 +66,12 @@ class PricePerUnitServiceTest {
         testPricePerUnit.setId(1L);
         testPricePerUnit.setUnitRangeLower(0);
         testPricePerUnit.setUnitRangeUpper(100);
-        testPricePerUnit.setPrice(10.0);
+        testPricePerUnit.setPrice(new BigDecimal("10.0"));
 
         testPricePerUnitDto = new PricePerUnitDto();
         testPricePerUnitDto.setUnitRangeLower(0);
         testPricePerUnitDto.setUnitRangeUpper(100);
-        testPricePerUnitDto.setPrice(10.0);
+        testPricePerUnitDto.setPrice(new BigDecimal("10.0"));
     }
 
     @Test
@@ -89,6 +110,8 @@ class PricePerUnitServiceTest {
         PricePerUnit result = pricePerUnitService.createPricePerUnit(testPricePerUnitDto);
 
         assertEquals(testPricePerUnit, result);
+        verifyVersionIncrementedAndTariffRefreshed();
+        verify(billRecomputeService).recomputeUnitRange(0, 100, "price per unit 1 created");
     }
 
     @Test
@@ -103,6 +126,33 @@ class PricePerUnitServiceTest {
         PricePerUnit result = pricePerUnitService.updatePricePerUnit(1L, testPricePerUnitDto);
 
         assertEquals(testPricePerUnit, result);
+        verifyVersionIncrementedAndTariffRefreshed();
+        verify(billRecomputeService).recomputeUnitRange(0, 100, "price per unit 1 updated");
+        verifyNoMoreInteractions(billRecomputeService);
+    }
+
+    @Test
+    void testUpdatePricePerUnit_MovedRange_RecomputesBothRanges() {
+        when(pricePerUnitRepository.findById(1L)).thenReturn(Optional.of(testPricePerUnit));
+        when(pricePerUnitRepository.save(any(PricePerUnit.class))).thenReturn(testPricePerUnit);
+        testPricePerUnitDto.setUnitRangeLower(50);
+        testPricePerUnitDto.setUnitRangeUpper(150);
+
+        pricePerUnitService.updatePricePerUnit(1L, testPricePerUnitDto);
+
+        verify(billRecomputeService).recomputeUnitRange(50, 150, "price per unit 1 updated");
+        verify(billRecomputeService).recomputeUnitRange(0, 100, "price per unit 1 updated");
+    }
+
+    @Test
+    void testUpdatePricePerUnit_ProgressiveTariff_RecomputesHigherSlabs() {
+        when(pricePerUnitRepository.findById(1L)).thenReturn(Optional.of(testPricePerUnit));
+        when(pricePerUnitRepository.save(any(PricePerUnit.class))).thenReturn(testPricePerUnit);
+        when(tariffIndex.getMode()).thenReturn(TariffMode.PROGRESSIVE);
+
+        pricePerUnitService.updatePricePerUnit(1L, testPricePerUnitDto);
+
+        verify(billRecomputeService).recomputeUnitRange(0, Integer.MAX_VALUE, "price per unit 1 updated");
     }
 
     @Test
@@ -120,6 +170,8 @@ class PricePerUnitServiceTest {
 
         assertNotNull(result);
         assertEquals(200, result.getStatusCodeValue());
+        verifyVersionIncrementedAndTariffRefreshed();
+        verify(billRecomputeService).recomputeUnitRange(0, 100, "price per unit 1 deleted");
     }
 
     @Test
@@ -128,4 +180,11 @@ class PricePerUnitServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> pricePerUnitService.deletePricePerUnit(1L));
     }
-}
\ No newline at end of file
+
+    private void verifyVersionIncrementedAndTariffRefreshed() {
+        ArgumentCaptor<Runnable> refreshCaches = ArgumentCaptor.forClass(Runnable.class);
+        verify(billingDataVersion).increment(refreshCaches.capture());
+        refreshCaches.getValue().run();
+        verify(tariffIndex).refresh();
+    }
+}
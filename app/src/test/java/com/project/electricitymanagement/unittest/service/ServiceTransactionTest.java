@@ -0,0 +1,141 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.config.Constants;
+import com.project.electricitymanagement.dto.MeterDto;
+import com.project.electricitymanagement.dto.PricePerUnitDto;
+import com.project.electricitymanagement.repository.DataVersionRepository;
+import com.project.electricitymanagement.repository.StreamingRepository;
+import com.project.electricitymanagement.service.BillRecomputeService;
+import com.project.electricitymanagement.service.BillingDataVersion;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.MeterService;
+import com.project.electricitymanagement.service.PricePerUnitService;
+import com.project.electricitymanagement.service.ReferenceDataVersion;
+import com.project.electricitymanagement.service.TariffIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test class for the transaction boundaries of the services.
+ * The changes have to be committed for the caches to be told about them, so the test data is cleaned up instead of rolled back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({MeterService.class, PricePerUnitService.class, StreamingRepository.class, BillingDataVersion.class, ReferenceDataVersion.class,
+        DataVersionRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ServiceTransactionTest {
+
+    private static final long METER_ID = 9401L;
+
+    @Autowired
+    private MeterService meterService;
+
+    @Autowired
+    private PricePerUnitService pricePerUnitService;
+
+    @Autowired
+    private BillingDataVersion billingDataVersion;
+
+    @Autowired
+    private ReferenceDataVersion referenceDataVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private MeterCache meterCache;
+
+    @MockBean
+    private CustomerCache customerCache;
+
+    @MockBean
+    private TariffIndex tariffIndex;
+
+    @MockBean
+    private BillRecomputeService billRecomputeService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into meter (id, load_amount, min_bill_amount) values (?, 9, 900)", METER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from meter where id = ?", METER_ID);
+        jdbcTemplate.update("delete from price_per_unit where unit_range_lower = 9000");
+    }
+
+    @Test
+    void testUpdateMeter_InvalidatesCacheAfterCommit() {
+        long version = billingDataVersion.current();
+        long meterVersion = referenceDataVersion.current(Constants.METER_DATA_VERSION);
+
+        meterService.updateMeter(METER_ID, new MeterDto(9, new BigDecimal("950.0")));
+
+        verify(meterCache).invalidate(METER_ID);
+        verify(billRecomputeService).recomputeMeter(METER_ID, "meter 9401 updated");
+        assertThat(billingDataVersion.current()).isEqualTo(version + 1);
+        assertThat(referenceDataVersion.current(Constants.METER_DATA_VERSION)).isEqualTo(meterVersion + 1);
+        assertThat(jdbcTemplate.queryForObject("select version from data_version where name = 'meter'", Long.class)).isEqualTo(meterVersion + 1);
+        assertThat(jdbcTemplate.queryForObject("select min_bill_amount from meter where id = ?", Double.class, METER_ID)).isEqualTo(950.0);
+    }
+
+    @Test
+    void testUpdateMeter_RolledBack_LeavesCacheAlone() {
+        long version = billingDataVersion.current();
+        long meterVersion = referenceDataVersion.current(Constants.METER_DATA_VERSION);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            meterService.updateMeter(METER_ID, new MeterDto(9, new BigDecimal("950.0")));
+            status.setRollbackOnly();
+        });
+
+        verify(meterCache, never()).invalidate(METER_ID);
+        verifyNoInteractions(billRecomputeService);
+        assertThat(billingDataVersion.current()).isEqualTo(version);
+        assertThat(jdbcTemplate.queryForObject("select version from data_version where name = 'billing'", Long.class)).isEqualTo(version);
+        assertThat(referenceDataVersion.current(Constants.METER_DATA_VERSION)).isEqualTo(meterVersion);
+        assertThat(jdbcTemplate.queryForObject("select min_bill_amount from meter where id = ?", Double.class, METER_ID)).isEqualTo(900.0);
+    }
+
+    @Test
+    void testCreatePricePerUnit_RefreshesTariffAfterCommit() {
+        PricePerUnitDto pricePerUnitDto = new PricePerUnitDto();
+        pricePerUnitDto.setUnitRangeLower(9000);
+        pricePerUnitDto.setUnitRangeUpper(9999);
+        pricePerUnitDto.setPrice(new BigDecimal("9.0"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pricePerUnitService.createPricePerUnit(pricePerUnitDto);
+            verify(tariffIndex, never()).refresh();
+            verifyNoInteractions(billRecomputeService);
+        });
+
+        verify(tariffIndex).refresh();
+        verify(billRecomputeService).recomputeUnitRange(eq(9000), eq(9999), anyString());
+    }
+}
@@ -4,6 +4,8 @@ import com.project.electricitymanagement.dto.SupplierDto;
 import com.project.electricitymanagement.entity.Supplier;
 import com.project.electricitymanagement.exception.ResourceNotFoundException;
 import com.project.electricitymanagement.repository.SupplierRepository;
+import com.project.electricitymanagement.service.CustomerCache;
+import com.project.electricitymanagement.service.ReferenceDataVersion;
 import com.project.electricitymanagement.service.SupplierService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,12 @@ class SupplierServiceTest {
     @Mock
     private SupplierRepository supplierRepository;
 
+    @Mock
+    private CustomerCache customerCache;
+
+    @Mock
+    private ReferenceDataVersion referenceDataVersion;
+
     @InjectMocks
     private SupplierService supplierService;
 
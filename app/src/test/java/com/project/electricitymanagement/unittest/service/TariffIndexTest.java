@@ -0,0 +1,136 @@
+package com.project.electricitymanagement.unittest.service;
+
+import com.project.electricitymanagement.billing.TariffMode;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import com.project.electricitymanagement.service.TariffIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for Tariff Index.
+ */
+@ExtendWith(MockitoExtension.class)
+class TariffIndexTest {
+
+    @Mock
+    private PricePerUnitRepository pricePerUnitRepository;
+
+    @InjectMocks
+    private TariffIndex tariffIndex;
+
+    private List<PricePerUnit> slabs;
+
+    @BeforeEach
+    void setUp() {
+        //Deliberately unsorted, with a gap between 100 and 101 and an invalid slab that can never match.
+        slabs = List.of(
+                new PricePerUnit(3L, 201, 300, new BigDecimal("6")),
+                new PricePerUnit(1L, 0, 100, new BigDecimal("3")),
+                new PricePerUnit(2L, 101, 200, new BigDecimal("5")),
+                new PricePerUnit(4L, 500, 400, new BigDecimal("9")));
+    }
+
+    @Test
+    void testFindPrice_Found() {
+        when(pricePerUnitRepository.findAll()).thenReturn(slabs);
+
+        assertEquals(30000, tariffIndex.findPrice(0));
+        assertEquals(30000, tariffIndex.findPrice(100));
+        assertEquals(50000, tariffIndex.findPrice(101));
+        assertEquals(50000, tariffIndex.findPrice(150.5));
+        assertEquals(60000, tariffIndex.findPrice(300));
+    }
+
+    @Test
+    void testFindPrice_NotFound() {
+        when(pricePerUnitRepository.findAll()).thenReturn(slabs);
+
+        assertEquals(TariffSlabs.NOT_FOUND, tariffIndex.findPrice(-1));
+        assertEquals(TariffSlabs.NOT_FOUND, tariffIndex.findPrice(100.5));
+        assertEquals(TariffSlabs.NOT_FOUND, tariffIndex.findPrice(300.1));
+        assertEquals(TariffSlabs.NOT_FOUND, tariffIndex.findPrice(450));
+        assertEquals(4, tariffIndex.getMissCount());
+        assertEquals(0, tariffIndex.getHitCount());
+    }
+
+    @Test
+    void testFindPrice_LoadsOnce() {
+        when(pricePerUnitRepository.findAll()).thenReturn(slabs);
+
+        tariffIndex.findPrice(10);
+        tariffIndex.findPrice(20);
+
+        verify(pricePerUnitRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testRefresh_PublishesNewSlabs() {
+        when(pricePerUnitRepository.findAll()).thenReturn(slabs);
+        assertEquals(30000, tariffIndex.findPrice(50));
+
+        when(pricePerUnitRepository.findAll()).thenReturn(List.of(new PricePerUnit(1L, 0, 100, new BigDecimal("4.25"))));
+        tariffIndex.refresh();
+
+        assertEquals(42500, tariffIndex.findPrice(50));
+        assertEquals(TariffSlabs.NOT_FOUND, tariffIndex.findPrice(150));
+    }
+
+    @Test
+    void testFindPrice_OverlappingSlabs_OnlySharedUnitsFail() {
+        when(pricePerUnitRepository.findAll()).thenReturn(List.of(
+                new PricePerUnit(1L, 0, 100, new BigDecimal("3")),
+                new PricePerUnit(2L, 100, 200, new BigDecimal("5"))));
+
+        assertEquals(30000, tariffIndex.findPrice(50));
+        assertEquals(50000, tariffIndex.findPrice(150));
+        assertThrows(IllegalStateException.class, () -> tariffIndex.findPrice(100));
+        verify(pricePerUnitRepository, never()).findByUnitConsumed(anyDouble());
+        assertEquals(2, tariffIndex.getHitCount());
+    }
+
+    @Test
+    void testFindCharge_Flat_ChargesAllUnitsAtSlabPrice() {
+        when(pricePerUnitRepository.findAll()).thenReturn(slabs);
+
+        assertEquals(150 * 500, tariffIndex.findCharge(150));
+        assertEquals(TariffSlabs.NOT_FOUND, tariffIndex.findCharge(450));
+    }
+
+    @Test
+    void testFindCharge_Progressive_ChargesEachBandAtItsPrice() {
+        ReflectionTestUtils.setField(tariffIndex, "mode", TariffMode.PROGRESSIVE);
+        when(pricePerUnitRepository.findAll()).thenReturn(slabs);
+
+        assertEquals(50 * 300, tariffIndex.findCharge(50));
+        assertEquals(100 * 300 + 50 * 500, tariffIndex.findCharge(150));
+        assertEquals(100 * 300 + 100 * 500 + 100 * 600, tariffIndex.findCharge(300));
+        assertEquals(TariffSlabs.NOT_FOUND, tariffIndex.findCharge(450));
+        assertEquals(3, tariffIndex.getHitCount());
+        assertEquals(1, tariffIndex.getMissCount());
+    }
+
+    @Test
+    void testFindCharge_SubCentPrice_RoundsOnlyTheCharge() {
+        when(pricePerUnitRepository.findAll()).thenReturn(List.of(new PricePerUnit(1L, 0, 1000, new BigDecimal("0.1347"))));
+
+        assertEquals(1347, tariffIndex.findPrice(150));
+        //150 units at 0.1347 cost 20.205.
+        assertEquals(2021, tariffIndex.findCharge(150));
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.electricitymanagement.benchmark;
+
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.dto.MeterDto;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import com.project.electricitymanagement.entity.Supplier;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+    /**
+     * Width of every generated price slab, in units.
+     */
+    static final int SLAB_WIDTH = 100;
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds contiguous price slabs of {@link #SLAB_WIDTH} units each, starting at 0.
+     *
+     * @param count the number of slabs.
+     * @return the slabs, in ascending order.
+     */
+    static List<PricePerUnit> slabs(final int count) {
+        List<PricePerUnit> slabs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int lower = i * SLAB_WIDTH;
+            slabs.add(new PricePerUnit((long) i + 1, lower, lower + SLAB_WIDTH - 1, BigDecimal.valueOf(300 + i * 25L, 2)));
+        }
+        return slabs;
+    }
+
+    /**
+     * Draws consumptions spread uniformly over the given slabs.
+     *
+     * @param count     the number of values.
+     * @param slabCount the number of slabs the values must fall in.
+     * @return the consumptions, in units.
+     */
+    //Seeded on purpose, so that every run draws the same consumptions.
+    @SuppressFBWarnings("DMI_RANDOM_USED_ONLY_ONCE")
+    static double[] unitsConsumed(final int count, final int slabCount) {
+        Random random = new Random(SEED);
+        double[] units = new double[count];
+        for (int i = 0; i < count; i++) {
+            units[i] = random.nextInt(slabCount * SLAB_WIDTH);
+        }
+        return units;
+    }
+
+    /**
+     * Builds the body of a typical create customer request.
+     *
+     * @return the customer DTO.
+     */
+    static CustomerDto customerDto() {
+        CustomerDto dto = new CustomerDto();
+        dto.setName("Ramesh Kumar");
+        dto.setAddress("12 Main Street, Sector 4");
+        dto.setConnectionDate(LocalDate.of(2023, 4, 1));
+        dto.setLastReading(1240.0);
+        dto.setCurrentReading(1415.5);
+        dto.setMeterId(2L);
+        dto.setSupplierId(1L);
+        return dto;
+    }
+
+    /**
+     * Builds the body of a typical create meter request.
+     *
+     * @return the meter DTO.
+     */
+    static MeterDto meterDto() {
+        MeterDto dto = new MeterDto();
+        dto.setLoadAmount(3);
+        dto.setMinBillAmount(new BigDecimal("1000.00"));
+        return dto;
+    }
+
+    /**
+     * Builds customers as returned by the list endpoint, each with its meter and supplier.
+     *
+     * @param count the number of customers.
+     * @return the customers.
+     */
+    static List<Customer> customers(final int count) {
+        Random random = new Random(SEED);
+        Supplier supplier = new Supplier(1L, "Tata Power", "Urban");
+        List<Customer> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double lastReading = random.nextInt(10_000);
+            double currentReading = lastReading + random.nextInt(900);
+            Meter meter = new Meter((long) (i % 4) + 1, i % 4 + 1, BigDecimal.valueOf(500 + 250 * (i % 4)));
+            customers.add(new Customer((long) i + 1, "Customer " + i, "House " + i + ", Sector " + (i % 50),
+                    LocalDate.of(2020, 1, 1).plusDays(i % 1000), lastReading, currentReading,
+                    BigDecimal.valueOf((currentReading - lastReading) * 5).add(meter.getMinBillAmount()), 1L, meter, supplier));
+        }
+        return customers;
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.electricitymanagement.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.project.electricitymanagement.billing.BillCalculator;
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.repository.MeterRepository;
+import com.project.electricitymanagement.repository.PricePerUnitRepository;
+import com.project.electricitymanagement.service.CustomerService;
+import com.project.electricitymanagement.service.MeterCache;
+import com.project.electricitymanagement.service.TariffIndex;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bill calculation of one customer through {@link CustomerService#calculateBillAmount}, with the tariff index
+ * and the meter cache warm, against the bare arithmetic of {@link BillCalculator}.
+ * The difference is the cost of the lookups and of the logging on the service path.
+ * The arithmetic is also measured in the three ways an amount can be represented, each adding the bill to a running
+ * total the way a bill run aggregates them: fixed-point minor units in a {@code long}, as the billing engine does,
+ * binary {@code double}, as it did before, and {@link BigDecimal}, as the entities hold the amounts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BillCalculationBenchmark {
+    private static final int LOOKUPS = 1024;
+    private static final int SLABS = 6;
+    private static final long METER_ID = 2L;
+    private static final long PRICE = 50_000L;
+    private static final long MIN_BILL = 70_000L;
+    private static final BigDecimal DECIMAL_PRICE = Money.priceToDecimal(PRICE);
+    private static final BigDecimal DECIMAL_MIN_BILL = Money.toDecimal(MIN_BILL);
+
+    private CustomerService customerService;
+    private double[] units;
+    private int next;
+    private long total;
+    private double doubleTotal;
+    private BigDecimal decimalTotal = BigDecimal.ZERO;
+
+    /**
+     * Wires the customer service to an in-memory tariff and meter table.
+     * The service log level is raised so that the console stays quiet; the log messages are still formatted.
+     */
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(CustomerService.class)).setLevel(Level.WARN);
+
+        PricePerUnitRepository pricePerUnitRepository = Mockito.mock(PricePerUnitRepository.class);
+        Mockito.when(pricePerUnitRepository.findAll()).thenReturn(BenchmarkData.slabs(SLABS));
+        TariffIndex tariffIndex = new TariffIndex();
+        ReflectionTestUtils.setField(tariffIndex, "pricePerUnitRepository", pricePerUnitRepository);
+        tariffIndex.refresh();
+
+        MeterRepository meterRepository = Mockito.mock(MeterRepository.class);
+        Mockito.when(meterRepository.findById(METER_ID)).thenReturn(Optional.of(new Meter(METER_ID, 2, DECIMAL_MIN_BILL)));
+        MeterCache meterCache = new MeterCache();
+        ReflectionTestUtils.setField(meterCache, "meterRepository", meterRepository);
+        ReflectionTestUtils.setField(meterCache, "maxSize", 16);
+
+        customerService = new CustomerService();
+        ReflectionTestUtils.setField(customerService, "tariffIndex", tariffIndex);
+        ReflectionTestUtils.setField(customerService, "meterCache", meterCache);
+        units = BenchmarkData.unitsConsumed(LOOKUPS, SLABS);
+    }
+
+    /**
+     * Calculates a bill through the customer service.
+     *
+     * @return the bill amount.
+     */
+    @Benchmark
+    public BigDecimal customerService() {
+        return customerService.calculateBillAmount(0, nextUnits(), METER_ID);
+    }
+
+    /**
+     * Calculates a bill in minor units from a price and minimum bill that are already known, and adds it to the total.
+     *
+     * @return the total billed, in minor units.
+     */
+    @Benchmark
+    public long billCalculator() {
+        total += BillCalculator.billAmount(nextUnits(), PRICE, MIN_BILL);
+        return total;
+    }
+
+    /**
+     * Calculates the same bill in binary floating point, and adds it to the total.
+     *
+     * @return the total billed.
+     */
+    @Benchmark
+    public double doubleArithmetic() {
+        doubleTotal += nextUnits() * 5.0 + 700.0;
+        return doubleTotal;
+    }
+
+    /**
+     * Calculates the same bill in decimal arithmetic, rounded half up to the minor unit, and adds it to the total.
+     *
+     * @return the total billed.
+     */
+    @Benchmark
+    public BigDecimal bigDecimalArithmetic() {
+        BigDecimal bill = BigDecimal.valueOf(nextUnits()).multiply(DECIMAL_PRICE).setScale(Money.SCALE, RoundingMode.HALF_UP);
+        decimalTotal = decimalTotal.add(bill.add(DECIMAL_MIN_BILL));
+        return decimalTotal;
+    }
+
+    private double nextUnits() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return units[next];
+    }
+}
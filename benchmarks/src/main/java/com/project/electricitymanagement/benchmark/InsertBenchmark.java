@@ -0,0 +1,159 @@
+package com.project.electricitymanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-row creates, replaying the statements Hibernate sends for each id strategy: with IDENTITY one insert per row
+ * followed by a read of the generated key, with the pooled-lo table generator one id block update per 50 rows and
+ * the inserts in JDBC batches of 50.
+ * Runs against an in-memory H2 database by default, where a round trip is almost free; pass
+ * {@code -p jdbcUrl=... -p user=... -p password=...} to measure against MySQL. The benchmark uses tables of its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InsertBenchmark {
+    private static final int BLOCK_SIZE = 50;
+
+    @Param({"jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    private String jdbcUrl;
+    @Param({"sa"})
+    private String user;
+    @Param({""})
+    private String password;
+    @Param({"50", "500"})
+    private int rows;
+
+    private Connection connection;
+
+    /**
+     * Opens the connection and creates the benchmark tables.
+     *
+     * @throws SQLException if the database can't be reached.
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists benchmark_meter"
+                    + " (id bigint auto_increment primary key, load_amount int not null, min_bill_amount double not null)");
+            statement.execute("create table if not exists benchmark_id_sequence (sequence_name varchar(64) primary key, next_val bigint not null)");
+            statement.execute("delete from benchmark_id_sequence");
+            statement.execute("insert into benchmark_id_sequence values ('meter', 1000000000)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    /**
+     * Empties the meter table between iterations so that every iteration inserts into a table of the same size.
+     *
+     * @throws SQLException if the rows can't be deleted.
+     */
+    @TearDown(Level.Iteration)
+    public void clear() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("delete from benchmark_meter");
+        }
+        connection.commit();
+    }
+
+    /**
+     * Drops the benchmark tables and closes the connection.
+     *
+     * @throws SQLException if the tables can't be dropped.
+     */
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table benchmark_meter");
+            statement.execute("drop table benchmark_id_sequence");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * Inserts the rows one statement at a time and reads back each generated key, as with IDENTITY.
+     *
+     * @return the sum of the generated ids.
+     * @throws SQLException if an insert fails.
+     */
+    @Benchmark
+    public long identity() throws SQLException {
+        long ids = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into benchmark_meter (load_amount, min_bill_amount) values (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                insert.setInt(1, i);
+                insert.setDouble(2, i * 10.0);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    ids += keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return ids;
+    }
+
+    /**
+     * Reserves an id block every {@value #BLOCK_SIZE} rows and inserts the rows in batches, as with the pooled-lo table generator.
+     *
+     * @return the sum of the allocated ids.
+     * @throws SQLException if an insert fails.
+     */
+    @Benchmark
+    public long pooledBatches() throws SQLException {
+        long ids = 0;
+        try (PreparedStatement select = connection.prepareStatement(
+                     "select next_val from benchmark_id_sequence where sequence_name = 'meter' for update");
+             PreparedStatement update = connection.prepareStatement(
+                     "update benchmark_id_sequence set next_val = ? where sequence_name = 'meter'");
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into benchmark_meter (id, load_amount, min_bill_amount) values (?, ?, ?)")) {
+            for (int start = 0; start < rows; start += BLOCK_SIZE) {
+                long first;
+                try (ResultSet next = select.executeQuery()) {
+                    next.next();
+                    first = next.getLong(1);
+                }
+                update.setLong(1, first + BLOCK_SIZE);
+                update.executeUpdate();
+                for (int i = start; i < Math.min(rows, start + BLOCK_SIZE); i++) {
+                    long id = first + i - start;
+                    insert.setLong(1, id);
+                    insert.setInt(2, i);
+                    insert.setDouble(3, i * 10.0);
+                    insert.addBatch();
+                    ids += id;
+                }
+                insert.executeBatch();
+            }
+        }
+        connection.commit();
+        return ids;
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.electricitymanagement.benchmark;
+
+import com.project.electricitymanagement.dto.CustomerDto;
+import com.project.electricitymanagement.dto.MeterDto;
+import com.project.electricitymanagement.entity.Customer;
+import com.project.electricitymanagement.entity.Meter;
+import com.project.electricitymanagement.mapper.CustomerMapper;
+import com.project.electricitymanagement.mapper.MeterMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO to entity mapping: the mappers used by the services against the reflective mapping they replaced,
+ * ModelMapper with the configuration the customer service had and {@code BeanUtils.copyProperties}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingBenchmark {
+    private ModelMapper modelMapper;
+    private CustomerDto customerDto;
+    private MeterDto meterDto;
+
+    /**
+     * Creates the mapper with the application configuration and the DTOs to map.
+     */
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        modelMapper.createTypeMap(CustomerDto.class, Customer.class)
+                .addMappings(mapper -> {
+                    mapper.map(CustomerDto::getMeterId, (dest, value) -> dest.getMeter().setId((Long) value));
+                    mapper.map(CustomerDto::getSupplierId, (dest, value) -> dest.getSupplier().setId((Long) value));
+                });
+        customerDto = BenchmarkData.customerDto();
+        meterDto = BenchmarkData.meterDto();
+    }
+
+    /**
+     * Maps a customer with ModelMapper.
+     *
+     * @return the customer.
+     */
+    @Benchmark
+    public Customer customerModelMapper() {
+        Customer customer = new Customer();
+        modelMapper.map(customerDto, customer);
+        return customer;
+    }
+
+    /**
+     * Maps a customer with BeanUtils; the meter and supplier ids are set by hand since their names don't match.
+     *
+     * @return the customer.
+     */
+    @Benchmark
+    public Customer customerBeanUtils() {
+        Customer customer = new Customer();
+        BeanUtils.copyProperties(customerDto, customer);
+        customer.getMeter().setId(customerDto.getMeterId());
+        customer.getSupplier().setId(customerDto.getSupplierId());
+        return customer;
+    }
+
+    /**
+     * Maps a customer with the customer mapper, as on the create customer path.
+     *
+     * @return the customer.
+     */
+    @Benchmark
+    public Customer customerMapper() {
+        return CustomerMapper.toEntity(customerDto);
+    }
+
+    /**
+     * Maps a meter with ModelMapper.
+     *
+     * @return the meter.
+     */
+    @Benchmark
+    public Meter meterModelMapper() {
+        return modelMapper.map(meterDto, Meter.class);
+    }
+
+    /**
+     * Maps a meter with BeanUtils.
+     *
+     * @return the meter.
+     */
+    @Benchmark
+    public Meter meterBeanUtils() {
+        Meter meter = new Meter();
+        BeanUtils.copyProperties(meterDto, meter);
+        return meter;
+    }
+
+    /**
+     * Maps a meter with the meter mapper, as on the create meter path.
+     *
+     * @return the meter.
+     */
+    @Benchmark
+    public Meter meterMapper() {
+        return MeterMapper.toEntity(meterDto);
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.electricitymanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.electricitymanagement.controller.NdjsonResponseWriter;
+import com.project.electricitymanagement.entity.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialisation of a list of customers, as a single JSON array like the list endpoint
+ * and through {@link NdjsonResponseWriter} like the streaming endpoint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+    /**
+     * Number of customers in the list.
+     */
+    @Param({"100", "10000"})
+    private int customerCount;
+
+    private ObjectMapper objectMapper;
+    private NdjsonResponseWriter ndjsonResponseWriter;
+    private List<Customer> customers;
+
+    /**
+     * Creates a mapper configured like the application one and the customers to write.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ndjsonResponseWriter = new NdjsonResponseWriter();
+        ReflectionTestUtils.setField(ndjsonResponseWriter, "objectMapper", objectMapper);
+        customers = BenchmarkData.customers(customerCount);
+    }
+
+    /**
+     * Writes the customers as one JSON array.
+     *
+     * @return the JSON document.
+     * @throws IOException never, the document is written in memory.
+     */
+    @Benchmark
+    public byte[] jsonArray() throws IOException {
+        return objectMapper.writeValueAsBytes(customers);
+    }
+
+    /**
+     * Writes the customers one per line to a stream that discards the bytes.
+     *
+     * @param blackhole consumes the written bytes.
+     * @throws IOException never, the bytes are discarded.
+     */
+    @Benchmark
+    public void ndjson(final Blackhole blackhole) throws IOException {
+        ndjsonResponseWriter.<Customer>write(customers::forEach).writeTo(new DiscardingOutputStream(blackhole));
+    }
+
+    /**
+     * Output stream that hands every byte to the blackhole instead of keeping it.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        private DiscardingOutputStream(final Blackhole sink) {
+            this.blackhole = sink;
+        }
+
+        @Override
+        public void write(final int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
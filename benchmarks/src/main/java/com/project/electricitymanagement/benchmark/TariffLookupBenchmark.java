@@ -0,0 +1,126 @@
+package com.project.electricitymanagement.benchmark;
+
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import com.project.electricitymanagement.entity.PricePerUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price lookup for a consumption: the sorted slab index used on the billing path
+ * against a linear scan of the slab rows, which is what the database does for the range query.
+ * The progressive charge is measured the same way: the prefix sums of the slab index against summing
+ * every slab below the consumption.
+ * Both sides work on the same primitive columns, with prices in minor units, so only the search differs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TariffLookupBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    /**
+     * Number of price slabs in the tariff.
+     */
+    @Param({"6", "64", "1024"})
+    private int slabCount;
+
+    private int[] lowers;
+    private int[] uppers;
+    private long[] prices;
+    private TariffSlabs slabs;
+    private double[] units;
+    private int next;
+
+    /**
+     * Builds the tariff and the consumptions to look up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        lowers = new int[slabCount];
+        uppers = new int[slabCount];
+        prices = new long[slabCount];
+        int i = 0;
+        for (PricePerUnit row : BenchmarkData.slabs(slabCount)) {
+            lowers[i] = row.getUnitRangeLower();
+            uppers[i] = row.getUnitRangeUpper();
+            prices[i] = Money.toPriceUnits(row.getPrice());
+            i++;
+        }
+        slabs = TariffSlabs.of(lowers, uppers, prices);
+        units = BenchmarkData.unitsConsumed(LOOKUPS, slabCount);
+    }
+
+    /**
+     * Looks up the price in the sorted slab index.
+     *
+     * @return the price per unit, in minor units.
+     */
+    @Benchmark
+    public long slabIndex() {
+        return slabs.priceFor(nextUnits());
+    }
+
+    /**
+     * Looks up the price by scanning every slab row.
+     *
+     * @return the price per unit, in minor units.
+     */
+    @Benchmark
+    public long linearScan() {
+        double unitsConsumed = nextUnits();
+        for (int i = 0; i < lowers.length; i++) {
+            if (unitsConsumed >= lowers[i] && unitsConsumed <= uppers[i]) {
+                return prices[i];
+            }
+        }
+        return TariffSlabs.NOT_FOUND;
+    }
+
+    /**
+     * Looks up the progressive charge in the sorted slab index with its prefix sums.
+     *
+     * @return the charge for the units consumed, in minor units.
+     */
+    @Benchmark
+    public long progressivePrefixSums() {
+        return slabs.progressiveChargeFor(nextUnits());
+    }
+
+    /**
+     * Computes the progressive charge by scanning every slab row.
+     *
+     * @return the charge for the units consumed, in minor units.
+     */
+    @Benchmark
+    public long progressiveLinearScan() {
+        double unitsConsumed = nextUnits();
+        double charge = 0;
+        for (int i = 0; i < lowers.length; i++) {
+            if (unitsConsumed >= lowers[i]) {
+                double bandStart = Math.max(lowers[i] - 1, 0);
+                charge += (Math.min(unitsConsumed, uppers[i]) - bandStart) * prices[i];
+            }
+        }
+        return Math.round(charge);
+    }
+
+    private double nextUnits() {
+        next = (next + 1) & (LOOKUPS - 1);
+        return units[next];
+    }
+}
@@ -0,0 +1,158 @@
+package com.project.electricitymanagement.batch;
+
+import com.project.electricitymanagement.billing.CustomerPage;
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffMode;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bill run over a plain JDBC connection, for running a billing cycle without starting the web application.
+ * The tariff and the minimum bill of every meter are read once; the customers are then read in pages in primary key order,
+ * billed with the billing core and written back with one batch update and one commit per page.
+ * A bill is only written if the readings and meter it was calculated from are still current and no newer bill was stored,
+ * so the batch can run while the application is serving requests.
+ */
+//The connection is handed over to the bill run, which commits on it page by page.
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class BillingBatch {
+    private static final String SELECT_VERSION = "select version from data_version where name = 'billing'";
+    private static final String SELECT_TARIFF = "select unit_range_lower, unit_range_upper, price from price_per_unit";
+    private static final String SELECT_METERS = "select id, min_bill_amount from meter";
+    private static final String SELECT_PAGE = "select " + CustomerPage.COLUMNS + " from customer where id > ? order by id limit ?";
+    private static final String RECORD_ALL_CUSTOMERS_CHANGED = "insert into customer_change (customer_id, instance_id) values (null, 'billing-batch')";
+
+    private final Connection connection;
+    private final TariffMode mode;
+    private final int pageSize;
+    private final boolean dryRun;
+
+    /**
+     * Creates a bill run.
+     *
+     * @param jdbcConnection   the connection to the application database, used by this bill run only.
+     * @param tariffMode       how the price per unit slabs are applied.
+     * @param customersPerPage number of customers read, billed and committed at a time.
+     * @param calculateOnly    true to calculate the bills without writing them.
+     */
+    public BillingBatch(final Connection jdbcConnection, final TariffMode tariffMode, final int customersPerPage, final boolean calculateOnly) {
+        this.connection = jdbcConnection;
+        this.mode = tariffMode;
+        this.pageSize = customersPerPage;
+        this.dryRun = calculateOnly;
+    }
+
+    /**
+     * Bills every customer.
+     *
+     * @return the counts and the total of the bill run.
+     * @throws SQLException if a query fails.
+     */
+    public BillingBatchSummary run() throws SQLException {
+        long startedAt = System.nanoTime();
+        connection.setAutoCommit(false);
+        long billVersion = readBillVersion();
+        TariffSlabs tariff = readTariff();
+        Map<Long, Long> minBillAmounts = readMinBillAmounts();
+        connection.commit();
+
+        long read = 0;
+        long billed = 0;
+        long totalBilled = 0;
+        try (PreparedStatement select = connection.prepareStatement(SELECT_PAGE);
+             PreparedStatement update = connection.prepareStatement(CustomerPage.UPDATE_BILL)) {
+            CustomerPage page = readPage(select, Long.MIN_VALUE);
+            while (page.size() > 0) {
+                int billable = page.bill(tariff, mode, minBillAmounts::get);
+                page.recordStored(dryRun ? null : writeBills(update, page, billable, billVersion));
+                read += page.size();
+                billed += page.billed();
+                totalBilled += page.billedAmount();
+                page = page.size() < pageSize ? new CustomerPage(0) : readPage(select, page.lastId());
+            }
+            if (!dryRun) {
+                //The running application instances drop the customers they cached with their previous bills.
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate(RECORD_ALL_CUSTOMERS_CHANGED);
+                }
+                connection.commit();
+            }
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        return new BillingBatchSummary(read, billed, read - billed, Money.toDecimal(totalBilled), elapsedMillis);
+    }
+
+    private long readBillVersion() throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(SELECT_VERSION)) {
+            if (!rs.next()) {
+                throw new IllegalStateException("The billing data version is missing, run the application migrations first");
+            }
+            return rs.getLong(1);
+        }
+    }
+
+    private TariffSlabs readTariff() throws SQLException {
+        List<int[]> ranges = new ArrayList<>();
+        List<Long> prices = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(SELECT_TARIFF)) {
+            while (rs.next()) {
+                ranges.add(new int[]{rs.getInt(1), rs.getInt(2)});
+                prices.add(Money.toPriceUnits(rs.getBigDecimal(3)));
+            }
+        }
+        int[] lowers = new int[ranges.size()];
+        int[] uppers = new int[ranges.size()];
+        long[] slabPrices = new long[ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            lowers[i] = ranges.get(i)[0];
+            uppers[i] = ranges.get(i)[1];
+            slabPrices[i] = prices.get(i);
+        }
+        return TariffSlabs.of(lowers, uppers, slabPrices);
+    }
+
+    private Map<Long, Long> readMinBillAmounts() throws SQLException {
+        Map<Long, Long> minBillAmounts = new HashMap<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(SELECT_METERS)) {
+            while (rs.next()) {
+                minBillAmounts.put(rs.getLong(1), Money.toMinorUnits(rs.getBigDecimal(2)));
+            }
+        }
+        return minBillAmounts;
+    }
+
+    private CustomerPage readPage(final PreparedStatement select, final long afterId) throws SQLException {
+        CustomerPage page = new CustomerPage(pageSize);
+        select.setLong(1, afterId);
+        select.setInt(2, pageSize);
+        try (ResultSet rs = select.executeQuery()) {
+            while (rs.next()) {
+                page.add(rs);
+            }
+        }
+        return page;
+    }
+
+    private int[] writeBills(final PreparedStatement update, final CustomerPage page, final int count, final long billVersion)
+            throws SQLException {
+        for (int i = 0; i < count; i++) {
+            page.setBill(update, i, billVersion);
+            update.addBatch();
+        }
+        int[] counts = update.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.electricitymanagement.batch;
+
+import com.project.electricitymanagement.billing.TariffMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line entry point of the headless bill run.
+ * <pre>
+ * java -jar billing-batch.jar --url=jdbc:mysql://localhost:3306/projectdb?rewriteBatchedStatements=true --user=root
+ *      [--tariff-mode=flat|progressive] [--page-size=1000] [--dry-run]
+ * </pre>
+ * The password is read from the {@code BILLING_DB_PASSWORD} environment variable, or from {@code --password}.
+ * The summary is printed on one line; the exit status is 0 on success, 1 if the bill run failed and 2 on invalid arguments.
+ */
+public final class BillingBatchRunner {
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    private static final int INVALID_ARGUMENTS = 2;
+    private static final String USAGE = "Usage: java -jar billing-batch.jar --url=<jdbc url> [--user=<user>] [--password=<password>]"
+            + " [--tariff-mode=flat|progressive] [--page-size=<customers>] [--dry-run]";
+
+    /**
+     * Private constructor to prevent the instantiation of the BillingBatchRunner class.
+     */
+    private BillingBatchRunner() {
+    }
+
+    /**
+     * Bills every customer of the given database.
+     *
+     * @param args the options, as {@code --name=value} or {@code --flag}.
+     */
+    public static void main(final String[] args) {
+        String url;
+        TariffMode mode;
+        int pageSize;
+        Map<String, String> options;
+        try {
+            options = parse(args);
+            url = options.get("url");
+            mode = TariffMode.valueOf(options.getOrDefault("tariff-mode", "flat").toUpperCase(Locale.ROOT));
+            pageSize = Integer.parseInt(options.getOrDefault("page-size", String.valueOf(DEFAULT_PAGE_SIZE)));
+            if (url == null || pageSize < 1) {
+                throw new IllegalArgumentException("--url is required and --page-size must be positive");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(INVALID_ARGUMENTS);
+            return;
+        }
+        String password = options.getOrDefault("password", System.getenv("BILLING_DB_PASSWORD"));
+        boolean dryRun = options.containsKey("dry-run");
+
+        try (Connection connection = DriverManager.getConnection(url, options.get("user"), password)) {
+            BillingBatchSummary summary = new BillingBatch(connection, mode, pageSize, dryRun).run();
+            System.out.printf("%s %d customers: %d billed, %d skipped, total %s in %d ms%n", dryRun ? "Calculated" : "Billed",
+                    summary.getCustomersRead(), summary.getCustomersBilled(), summary.getCustomersSkipped(), summary.getTotalBilled(),
+                    summary.getElapsedMillis());
+        } catch (SQLException | RuntimeException e) {
+            System.err.println("Bill run failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses {@code --name=value} options; an option without a value is stored with an empty value.
+     */
+    private static Map<String, String> parse(final String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                options.put(arg.substring(2), "");
+            } else {
+                options.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.electricitymanagement.batch;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of a {@link BillingBatch} run.
+ */
+public final class BillingBatchSummary {
+    private final long customersRead;
+    private final long customersBilled;
+    private final long customersSkipped;
+    private final BigDecimal totalBilled;
+    private final long elapsedMillis;
+
+    /**
+     * Creates the summary of a bill run.
+     *
+     * @param read     number of customers read.
+     * @param billed   number of customers whose bill was calculated and written.
+     * @param skipped  number of customers without a price or meter, or changed since they were read.
+     * @param total    sum of the bills written.
+     * @param duration wall clock time of the bill run, in milliseconds.
+     */
+    public BillingBatchSummary(final long read, final long billed, final long skipped, final BigDecimal total, final long duration) {
+        this.customersRead = read;
+        this.customersBilled = billed;
+        this.customersSkipped = skipped;
+        this.totalBilled = total;
+        this.elapsedMillis = duration;
+    }
+
+    /**
+     * @return the number of customers read.
+     */
+    public long getCustomersRead() {
+        return customersRead;
+    }
+
+    /**
+     * @return the number of customers billed.
+     */
+    public long getCustomersBilled() {
+        return customersBilled;
+    }
+
+    /**
+     * @return the number of customers that weren't billed.
+     */
+    public long getCustomersSkipped() {
+        return customersSkipped;
+    }
+
+    /**
+     * @return the sum of the bills, with two decimal places.
+     */
+    public BigDecimal getTotalBilled() {
+        return totalBilled;
+    }
+
+    /**
+     * @return the duration of the bill run, in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
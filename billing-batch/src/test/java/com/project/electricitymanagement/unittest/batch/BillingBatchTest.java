@@ -0,0 +1,116 @@
+package com.project.electricitymanagement.unittest.batch;
+
+import com.project.electricitymanagement.batch.BillingBatch;
+import com.project.electricitymanagement.batch.BillingBatchSummary;
+import com.project.electricitymanagement.billing.TariffMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the Billing Batch, against the billing tables in an in-memory H2 database.
+ */
+class BillingBatchTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:billing-batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        execute("create table data_version (name varchar(50) primary key, version bigint not null)",
+                "create table price_per_unit (id bigint primary key, unit_range_lower int not null, unit_range_upper int not null,"
+                        + " price decimal(15, 2) not null)",
+                "create table meter (id bigint primary key, min_bill_amount decimal(15, 2) not null)",
+                "create table customer (id bigint primary key, last_reading double, current_reading double, meter_id bigint,"
+                        + " bill_amount decimal(15, 2), bill_version bigint, units_consumed double generated always as (current_reading - last_reading))",
+                "create table customer_change (id bigint auto_increment primary key, customer_id bigint, instance_id varchar(64) not null)",
+                "insert into data_version values ('billing', 7)",
+                "insert into price_per_unit values (1, 0, 100, 3.00), (2, 101, 200, 5.00)",
+                "insert into meter values (1, 500.00), (2, 700.50)");
+        //Customers 1 to 25 consume 10 units on meter 1, customer 26 consumes 150 units on meter 2.
+        for (int id = 1; id <= 25; id++) {
+            execute("insert into customer (id, last_reading, current_reading, meter_id) values (" + id + ", 100, 110, 1)");
+        }
+        execute("insert into customer (id, last_reading, current_reading, meter_id) values (26, 0, 150, 2)",
+                //No price for 5000 units.
+                "insert into customer (id, last_reading, current_reading, meter_id) values (27, 0, 5000, 1)",
+                //A bill stored against a newer version isn't overwritten.
+                "insert into customer (id, last_reading, current_reading, meter_id, bill_amount, bill_version) values (28, 100, 110, 1, 1.00, 8)");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        execute("drop all objects");
+        connection.close();
+    }
+
+    @Test
+    void testRun_BillsEveryCustomer() throws SQLException {
+        BillingBatchSummary summary = new BillingBatch(connection, TariffMode.FLAT, 10, false).run();
+
+        assertThat(summary.getCustomersRead()).isEqualTo(28);
+        assertThat(summary.getCustomersBilled()).isEqualTo(26);
+        assertThat(summary.getCustomersSkipped()).isEqualTo(2);
+        //25 * (10 * 3.00 + 500.00) + 150 * 5.00 + 700.50
+        assertThat(summary.getTotalBilled()).isEqualByComparingTo("14700.50");
+        assertThat(queryBigDecimal("select bill_amount from customer where id = 1")).isEqualByComparingTo("530.00");
+        assertThat(queryBigDecimal("select bill_amount from customer where id = 26")).isEqualByComparingTo("1450.50");
+        assertThat(queryBigDecimal("select bill_amount from customer where id = 27")).isNull();
+        assertThat(queryBigDecimal("select bill_amount from customer where id = 28")).isEqualByComparingTo("1.00");
+        assertThat(queryBigDecimal("select count(*) from customer where bill_version = 7")).isEqualByComparingTo("26");
+        assertThat(queryBigDecimal("select count(*) from customer_change where customer_id is null")).isEqualByComparingTo("1");
+    }
+
+    @Test
+    void testRun_ProgressiveTariff() throws SQLException {
+        new BillingBatch(connection, TariffMode.PROGRESSIVE, 10, false).run();
+
+        //100 * 3.00 + 50 * 5.00 + 700.50
+        assertThat(queryBigDecimal("select bill_amount from customer where id = 26")).isEqualByComparingTo("1250.50");
+    }
+
+    @Test
+    void testRun_DryRunWritesNothing() throws SQLException {
+        BillingBatchSummary summary = new BillingBatch(connection, TariffMode.FLAT, 1000, true).run();
+
+        assertThat(summary.getCustomersBilled()).isEqualTo(27);
+        assertThat(queryBigDecimal("select count(*) from customer where bill_amount is not null")).isEqualByComparingTo("1");
+        assertThat(queryBigDecimal("select count(*) from customer_change")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void testRun_OverlappingSlabs_SkipsOnlySharedUnits() throws SQLException {
+        execute("insert into price_per_unit values (3, 150, 300, 6.00)");
+
+        BillingBatchSummary summary = new BillingBatch(connection, TariffMode.FLAT, 10, false).run();
+
+        //Customer 26 consumes 150 units, which both the second and the third slab contain.
+        assertThat(summary.getCustomersBilled()).isEqualTo(25);
+        assertThat(summary.getCustomersSkipped()).isEqualTo(3);
+        assertThat(queryBigDecimal("select bill_amount from customer where id = 1")).isEqualByComparingTo("530.00");
+        assertThat(queryBigDecimal("select bill_amount from customer where id = 26")).isNull();
+    }
+
+    private void execute(final String... sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String query : sql) {
+                statement.execute(query);
+            }
+        }
+    }
+
+    private BigDecimal queryBigDecimal(final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getBigDecimal(1);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.electricitymanagement.billing;
+
+/**
+ * Bill formula shared by the single customer path and the bulk billing jobs.
+ */
+public final class BillCalculator {
+
+    /**
+     * Private constructor to prevent the instantiation of the BillCalculator class.
+     */
+    private BillCalculator() {
+    }
+
+    /**
+     * Calculates the bill of a customer.
+     *
+     * @param unitsConsumed units consumed by the customer.
+     * @param pricePerUnit  price per unit of the slab the units consumed fall into, in price units.
+     * @param minBillAmount minimum bill amount of the customer's meter, in minor units.
+     * @return the total bill amount, in minor units.
+     */
+    public static long billAmount(final double unitsConsumed, final long pricePerUnit, final long minBillAmount) {
+        return billAmount(Money.charge(unitsConsumed, pricePerUnit), minBillAmount);
+    }
+
+    /**
+     * Calculates the bill of a customer from the charge of the units consumed, flat or progressive.
+     *
+     * @param unitsCharge   charge of the units consumed by the customer, in minor units.
+     * @param minBillAmount minimum bill amount of the customer's meter, in minor units.
+     * @return the total bill amount, in minor units.
+     * @throws ArithmeticException if the bill overflows.
+     */
+    public static long billAmount(final long unitsCharge, final long minBillAmount) {
+        return Math.addExact(unitsCharge, minBillAmount);
+    }
+}
@@ -0,0 +1,224 @@
+package com.project.electricitymanagement.billing;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.LongFunction;
+
+/**
+ * One page of customers billed by the bulk billing jobs: the bill run, the bill recompute and the billing batch.
+ * The columns are kept as primitive arrays. A job selects the {@link #COLUMNS} of a page of customers, {@linkplain #bill bills}
+ * them, writes the bills with {@link #UPDATE_BILL}, which only applies while the readings and meter they were calculated from
+ * are current and no newer bill was stored, and {@linkplain #recordStored records} the update counts, which tell the bills
+ * that were stored from the customers that were skipped.
+ * <p>
+ * The bills are stamped with the billing data version, which the job reads before the tariff and meters it bills with.
+ */
+public final class CustomerPage {
+    /**
+     * Customer columns read into a page, in the order {@link #add(ResultSet)} reads them.
+     */
+    public static final String COLUMNS = "id, last_reading, current_reading, meter_id, units_consumed";
+    /**
+     * Stores the bill of a customer, skipping the customers whose readings or meter changed since they were read, and bills
+     * stored against a newer version.
+     */
+    public static final String UPDATE_BILL = "update customer set bill_amount = ?, bill_version = ?"
+            + " where id = ? and last_reading = ? and current_reading = ? and meter_id = ? and (bill_version is null or bill_version <= ?)";
+
+    private final long[] ids;
+    private final double[] lastReadings;
+    private final double[] currentReadings;
+    private final long[] meterIds;
+    private final double[] unitsConsumed;
+    private int size;
+    /**
+     * Row of each billable customer, in row order.
+     */
+    private final int[] billableRows;
+    /**
+     * Bill of each billable customer, in minor units.
+     */
+    private final long[] bills;
+    private int billable;
+    private int billed;
+    private long billedAmount;
+
+    /**
+     * Creates an empty page.
+     *
+     * @param capacity the maximum number of customers on the page.
+     */
+    public CustomerPage(final int capacity) {
+        ids = new long[capacity];
+        lastReadings = new double[capacity];
+        currentReadings = new double[capacity];
+        meterIds = new long[capacity];
+        unitsConsumed = new double[capacity];
+        billableRows = new int[capacity];
+        bills = new long[capacity];
+    }
+
+    /**
+     * Adds a customer read from the database.
+     *
+     * @param id             the id of the customer.
+     * @param lastReading    the last meter reading.
+     * @param currentReading the current meter reading.
+     * @param meterId        the id of the customer's meter.
+     * @param units          the units consumed, as stored in the {@code units_consumed} column.
+     */
+    public void add(final long id, final double lastReading, final double currentReading, final long meterId, final double units) {
+        ids[size] = id;
+        lastReadings[size] = lastReading;
+        currentReadings[size] = currentReading;
+        meterIds[size] = meterId;
+        unitsConsumed[size] = units;
+        size++;
+    }
+
+    /**
+     * Adds the customer at the current row of a result set that selects the {@link #COLUMNS}.
+     *
+     * @param rs the result set.
+     * @throws SQLException if a column can't be read.
+     */
+    public void add(final ResultSet rs) throws SQLException {
+        add(rs.getLong(1), rs.getDouble(2), rs.getDouble(3), rs.getLong(4), rs.getDouble(5));
+    }
+
+    /**
+     * Returns the number of customers on the page.
+     *
+     * @return the number of customers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of the last customer on the page, where the next page starts in id order.
+     *
+     * @return the id of the last customer.
+     */
+    public long lastId() {
+        return ids[size - 1];
+    }
+
+    /**
+     * Returns the units consumed by the last customer on the page, where the next page starts in consumption order.
+     *
+     * @return the units consumed by the last customer.
+     */
+    public double lastUnitsConsumed() {
+        return unitsConsumed[size - 1];
+    }
+
+    /**
+     * Calculates the bill of every customer on the page. Customers whose consumption no slab contains, or whose charge
+     * overlapping slabs leave undefined, and customers whose meter is unknown are not billable.
+     *
+     * @param tariff         the price per unit slabs.
+     * @param mode           how the slabs are applied.
+     * @param minBillAmounts the minimum bill amount of a meter in minor units, or null if the meter is unknown.
+     * @return the number of billable customers.
+     */
+    public int bill(final TariffSlabs tariff, final TariffMode mode, final LongFunction<Long> minBillAmounts) {
+        billable = 0;
+        for (int i = 0; i < size; i++) {
+            long unitsCharge = tariff.billableChargeFor(unitsConsumed[i], mode);
+            Long minBillAmount = minBillAmounts.apply(meterIds[i]);
+            if (unitsCharge == TariffSlabs.NOT_FOUND || minBillAmount == null) {
+                continue;
+            }
+            billableRows[billable] = i;
+            bills[billable] = BillCalculator.billAmount(unitsCharge, minBillAmount);
+            billable++;
+        }
+        return billable;
+    }
+
+    /**
+     * Returns the number of billable customers, which the update writes in order.
+     *
+     * @return the number of billable customers.
+     */
+    public int billableCount() {
+        return billable;
+    }
+
+    /**
+     * Returns the bill of a billable customer.
+     *
+     * @param bill the index of the billable customer.
+     * @return the bill in minor units.
+     */
+    public long billAmount(final int bill) {
+        return bills[bill];
+    }
+
+    /**
+     * Sets the parameters of {@link #UPDATE_BILL} for a billable customer.
+     *
+     * @param update      the update statement.
+     * @param bill        the index of the billable customer.
+     * @param billVersion the billing data version the bill was calculated against.
+     * @throws SQLException if a parameter can't be set.
+     */
+    public void setBill(final PreparedStatement update, final int bill, final long billVersion) throws SQLException {
+        int row = billableRows[bill];
+        update.setBigDecimal(1, Money.toDecimal(bills[bill]));
+        update.setLong(2, billVersion);
+        update.setLong(3, ids[row]);
+        update.setDouble(4, lastReadings[row]);
+        update.setDouble(5, currentReadings[row]);
+        update.setLong(6, meterIds[row]);
+        update.setLong(7, billVersion);
+    }
+
+    /**
+     * Records which bills the update stored.
+     *
+     * @param counts the update count of each billable customer, or null if the bills were calculated without being written.
+     */
+    public void recordStored(final int[] counts) {
+        billed = 0;
+        billedAmount = 0;
+        for (int i = 0; i < billable; i++) {
+            //Drivers that rewrite batches report Statement.SUCCESS_NO_INFO instead of a row count, and drivers that go on
+            //after a failed row report it as Statement.EXECUTE_FAILED.
+            if (counts == null || counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                billed++;
+                billedAmount += bills[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of customers whose bill was stored.
+     *
+     * @return the number of billed customers.
+     */
+    public int billed() {
+        return billed;
+    }
+
+    /**
+     * Returns the number of customers that were not billable or whose bill was not stored.
+     *
+     * @return the number of skipped customers.
+     */
+    public int skipped() {
+        return size - billed;
+    }
+
+    /**
+     * Returns the total of the bills that were stored.
+     *
+     * @return the total in minor units.
+     */
+    public long billedAmount() {
+        return billedAmount;
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.electricitymanagement.billing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money used by the billing engine: amounts are held as a {@code long} count of minor units
+ * (hundredths, matching the {@code DECIMAL(15, 2)} columns), so that bills and their totals add up exactly.
+ * Prices per unit are quoted below the minor unit, so they are held as a {@code long} count of price units
+ * (ten-thousandths, matching the {@code DECIMAL(15, 4)} price column) and charges are worked out in price units.
+ * Rounding happens in two defined places only: amounts and prices read from the API or the database are rounded half up
+ * to their scale, and the charge of the units consumed is rounded half up to the minor unit once per bill. The units
+ * consumed are taken at their decimal value and charges are multiplied out exactly, so that the rounding of a charge
+ * such as 1.005 units at 1.0000 is never decided by the binary error of a {@code double} product.
+ */
+public final class Money {
+    /**
+     * Number of decimal places of an amount.
+     */
+    public static final int SCALE = 2;
+    /**
+     * Number of decimal places of a price per unit.
+     */
+    public static final int PRICE_SCALE = 4;
+    /**
+     * Private constructor to prevent the instantiation of the Money class.
+     */
+    private Money() {
+    }
+
+    /**
+     * Converts a decimal amount to minor units.
+     *
+     * @param amount the amount.
+     * @return the amount in minor units, rounded half up.
+     * @throws ArithmeticException if the amount doesn't fit in a long.
+     */
+    public static long toMinorUnits(final BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts minor units to a decimal amount.
+     *
+     * @param minorUnits the amount in minor units.
+     * @return the amount with {@link #SCALE} decimal places.
+     */
+    public static BigDecimal toDecimal(final long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Converts a decimal price per unit to price units.
+     *
+     * @param price the price of one unit.
+     * @return the price in price units, rounded half up.
+     * @throws ArithmeticException if the price doesn't fit in a long.
+     */
+    public static long toPriceUnits(final BigDecimal price) {
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts price units to a decimal price per unit.
+     *
+     * @param priceUnits the price in price units.
+     * @return the price with {@link #PRICE_SCALE} decimal places.
+     */
+    public static BigDecimal priceToDecimal(final long priceUnits) {
+        return BigDecimal.valueOf(priceUnits, PRICE_SCALE);
+    }
+
+    /**
+     * Charges a number of units at a price per unit.
+     *
+     * @param units        the units, possibly fractional.
+     * @param pricePerUnit the price of one unit, in price units.
+     * @return the charge in minor units, rounded half up.
+     */
+    public static long charge(final double units, final long pricePerUnit) {
+        return roundCharge(BigDecimal.valueOf(units).multiply(BigDecimal.valueOf(pricePerUnit)));
+    }
+
+    /**
+     * Rounds a charge worked out exactly in price units to minor units.
+     *
+     * @param charge the charge in price units.
+     * @return the charge in minor units, rounded half up.
+     * @throws ArithmeticException if the charge doesn't fit in a long.
+     */
+    public static long roundCharge(final BigDecimal charge) {
+        return charge.movePointLeft(PRICE_SCALE - SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.electricitymanagement.billing;
+
+/**
+ * How the units consumed are charged, selected per deployment with {@code billing.tariff.mode}.
+ */
+public enum TariffMode {
+    /**
+     * All the units are charged at the price of the slab the units consumed fall into.
+     */
+    FLAT,
+    /**
+     * Each band of units is charged at the price of its own slab.
+     */
+    PROGRESSIVE
+}
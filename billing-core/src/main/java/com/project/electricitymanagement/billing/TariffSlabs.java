@@ -0,0 +1,248 @@
+package com.project.electricitymanagement.billing;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Immutable, sorted view of the price per unit slabs that is searched with a binary search.
+ * The lookup follows the semantics of the SQL query it replaces: a slab matches when
+ * {@code unitRangeLower <= unitsConsumed <= unitRangeUpper}, and no price is found for units
+ * that fall outside every slab or into a gap between two slabs.
+ * <p>
+ * For progressive billing every slab is a band charged at its own price: the slab {@code 101-200} charges the units
+ * above 100 up to 200, and the first slab the units from 0 (or from just below its lower bound) up to its upper bound.
+ * Units between two slabs that leave a gap are not charged. The charge of all the bands below each slab is
+ * computed once, so a progressive charge is one binary search plus one exact multiply-add.
+ * <p>
+ * Prices are in price units and charges in minor units (see {@link Money}). The charges of the whole bands below each
+ * slab are kept exact in price units, and only the total charge is rounded to the minor unit.
+ * <p>
+ * Overlapping slabs only fail the lookups they make ambiguous, as the SQL query fails when it finds more than one slab:
+ * the units that two slabs contain have no single price, and the units from the first overlap up have no progressive bands.
+ * The highest upper bound of the slabs before each slab is kept, so the binary search hit tells whether an earlier slab
+ * also contains the units; only then are the earlier slabs scanned.
+ */
+public final class TariffSlabs {
+    /**
+     * Returned by {@link #priceFor(double)} and the charges when no slab contains the units consumed.
+     */
+    public static final long NOT_FOUND = Long.MIN_VALUE;
+    /**
+     * Returned by the lookups when several slabs contain the units consumed, or the bands below them overlap.
+     */
+    private static final long UNDEFINED = Long.MIN_VALUE + 1;
+    private static final int NO_SLAB = -1;
+    private static final int SEVERAL_SLABS = -2;
+
+    private final int[] lowerBounds;
+    private final int[] upperBounds;
+    private final long[] prices;
+    /**
+     * Units above which each band starts to charge.
+     */
+    private final int[] bandStarts;
+    /**
+     * Charge of all the bands below each slab, in price units.
+     */
+    private final long[] chargesBelow;
+    /**
+     * Highest upper bound of the slabs before each slab.
+     */
+    private final int[] maxUpperBefore;
+    /**
+     * Index of the first slab that overlaps an earlier one, or the number of slabs if none does.
+     */
+    private final int firstOverlap;
+
+    private TariffSlabs(final int[] lowers, final int[] uppers, final long[] slabPrices) {
+        this.lowerBounds = lowers;
+        this.upperBounds = uppers;
+        this.prices = slabPrices;
+        this.bandStarts = new int[lowers.length];
+        this.chargesBelow = new long[lowers.length];
+        this.maxUpperBefore = new int[lowers.length];
+        int overlap = lowers.length;
+        int maxUpper = Integer.MIN_VALUE;
+        long charge = 0;
+        for (int i = 0; i < lowers.length; i++) {
+            bandStarts[i] = Math.max(lowers[i] - 1, 0);
+            chargesBelow[i] = charge;
+            charge += (long) (uppers[i] - bandStarts[i]) * slabPrices[i];
+            maxUpperBefore[i] = maxUpper;
+            if (lowers[i] <= maxUpper && overlap == lowers.length) {
+                overlap = i;
+            }
+            maxUpper = Math.max(maxUpper, uppers[i]);
+        }
+        this.firstOverlap = overlap;
+    }
+
+    /**
+     * Builds the tariff from the slab columns. The three arrays are read index by index and are not retained.
+     * Slabs whose lower bound is greater than the upper bound can never match and are dropped.
+     *
+     * @param lowerBounds lower bound of every slab.
+     * @param upperBounds upper bound of every slab.
+     * @param prices      price per unit of every slab, in price units.
+     * @return the sorted tariff.
+     */
+    public static TariffSlabs of(final int[] lowerBounds, final int[] upperBounds, final long[] prices) {
+        if (lowerBounds.length != upperBounds.length || lowerBounds.length != prices.length) {
+            throw new IllegalArgumentException("Slab columns must have the same length");
+        }
+        Integer[] order = new Integer[lowerBounds.length];
+        int size = 0;
+        for (int i = 0; i < lowerBounds.length; i++) {
+            if (lowerBounds[i] <= upperBounds[i]) {
+                order[size++] = i;
+            }
+        }
+        Arrays.sort(order, 0, size, Comparator.comparingInt(i -> lowerBounds[i]));
+
+        int[] lowers = new int[size];
+        int[] uppers = new int[size];
+        long[] slabPrices = new long[size];
+        for (int i = 0; i < size; i++) {
+            lowers[i] = lowerBounds[order[i]];
+            uppers[i] = upperBounds[order[i]];
+            slabPrices[i] = prices[order[i]];
+        }
+        return new TariffSlabs(lowers, uppers, slabPrices);
+    }
+
+    /**
+     * Finds the price per unit of the slab that contains the units consumed.
+     *
+     * @param unitsConsumed units consumed by the customer.
+     * @return the price per unit in price units, or {@link #NOT_FOUND} if no slab contains the units consumed.
+     * @throws IllegalStateException if several slabs contain the units consumed, in which case a single price is not defined.
+     */
+    public long priceFor(final double unitsConsumed) {
+        return definedOrThrow(price(unitsConsumed), unitsConsumed);
+    }
+
+    /**
+     * Calculates the progressive charge of the units consumed, each band of units at the price of its slab.
+     *
+     * @param unitsConsumed units consumed by the customer.
+     * @return the charge in minor units, or {@link #NOT_FOUND} if no slab contains the units consumed.
+     * @throws IllegalStateException if slabs starting at or below the units consumed overlap, in which case the bands are not defined.
+     */
+    public long progressiveChargeFor(final double unitsConsumed) {
+        return definedOrThrow(progressiveCharge(unitsConsumed), unitsConsumed);
+    }
+
+    /**
+     * Calculates the charge of the units consumed in the given mode.
+     *
+     * @param unitsConsumed units consumed by the customer.
+     * @param mode          how the units are charged.
+     * @return the charge in minor units, or {@link #NOT_FOUND} if no slab contains the units consumed.
+     * @throws IllegalStateException if overlapping slabs leave the charge of the units consumed undefined.
+     */
+    public long chargeFor(final double unitsConsumed, final TariffMode mode) {
+        return definedOrThrow(charge(unitsConsumed, mode), unitsConsumed);
+    }
+
+    /**
+     * Calculates the charge of the units consumed in the given mode for a bulk billing job, which skips the customers
+     * whose charge overlapping slabs leave undefined like those no slab contains, instead of failing.
+     *
+     * @param unitsConsumed units consumed by the customer.
+     * @param mode          how the units are charged.
+     * @return the charge in minor units, or {@link #NOT_FOUND} if no slab contains the units consumed or the charge is undefined.
+     */
+    public long billableChargeFor(final double unitsConsumed, final TariffMode mode) {
+        long charge = charge(unitsConsumed, mode);
+        return charge == UNDEFINED ? NOT_FOUND : charge;
+    }
+
+    private long charge(final double unitsConsumed, final TariffMode mode) {
+        if (mode == TariffMode.PROGRESSIVE) {
+            return progressiveCharge(unitsConsumed);
+        }
+        long price = price(unitsConsumed);
+        return price == NOT_FOUND || price == UNDEFINED ? price : Money.charge(unitsConsumed, price);
+    }
+
+    private long price(final double unitsConsumed) {
+        int slab = slabOf(unitsConsumed);
+        if (slab == SEVERAL_SLABS) {
+            return UNDEFINED;
+        }
+        return slab == NO_SLAB ? NOT_FOUND : prices[slab];
+    }
+
+    private long progressiveCharge(final double unitsConsumed) {
+        int slab = slabOf(unitsConsumed);
+        if (slab == NO_SLAB) {
+            return NOT_FOUND;
+        }
+        //The bands are only defined while the slabs up to the units don't overlap.
+        if (slab == SEVERAL_SLABS || firstOverlap < lowerBounds.length && lowerBounds[firstOverlap] <= unitsConsumed) {
+            return UNDEFINED;
+        }
+        BigDecimal bandUnits = BigDecimal.valueOf(unitsConsumed).subtract(BigDecimal.valueOf(bandStarts[slab]));
+        return Money.roundCharge(bandUnits.multiply(BigDecimal.valueOf(prices[slab])).add(BigDecimal.valueOf(chargesBelow[slab])));
+    }
+
+    private static long definedOrThrow(final long result, final double unitsConsumed) {
+        if (result == UNDEFINED) {
+            throw new IllegalStateException(String.format("Price per unit slabs overlap at %s units", unitsConsumed));
+        }
+        return result;
+    }
+
+    /**
+     * Finds the slab that contains the units consumed with a binary search on the lower bounds.
+     *
+     * @return the index of the slab, {@link #NO_SLAB} if no slab contains the units consumed, or {@link #SEVERAL_SLABS}.
+     */
+    private int slabOf(final double unitsConsumed) {
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (lowerBounds[mid] <= unitsConsumed) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (candidate < 0) {
+            return NO_SLAB;
+        }
+        int slab = unitsConsumed <= upperBounds[candidate] ? candidate : NO_SLAB;
+        //Every earlier slab starts at or below the units, so it contains them if it ends at or above them.
+        for (int i = candidate - 1; i >= 0 && maxUpperBefore[i + 1] >= unitsConsumed; i--) {
+            if (upperBounds[i] >= unitsConsumed) {
+                if (slab != NO_SLAB) {
+                    return SEVERAL_SLABS;
+                }
+                slab = i;
+            }
+        }
+        return slab;
+    }
+
+    /**
+     * Tells whether two slabs share at least one unit, in which case some lookups fail.
+     *
+     * @return true if the slabs overlap.
+     */
+    public boolean isOverlapping() {
+        return firstOverlap < lowerBounds.length;
+    }
+
+    /**
+     * Returns the number of slabs in the tariff.
+     *
+     * @return the number of slabs.
+     */
+    public int size() {
+        return lowerBounds.length;
+    }
+}
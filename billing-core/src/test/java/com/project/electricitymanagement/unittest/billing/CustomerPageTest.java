@@ -0,0 +1,67 @@
+package com.project.electricitymanagement.unittest.billing;
+
+import com.project.electricitymanagement.billing.CustomerPage;
+import com.project.electricitymanagement.billing.TariffMode;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import org.junit.jupiter.api.Test;
+import java.sql.Statement;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test class for Customer Page.
+ */
+class CustomerPageTest {
+
+    private static final TariffSlabs TARIFF = TariffSlabs.of(new int[]{0, 101}, new int[]{100, 200}, new long[]{30000, 50000});
+    private static final Map<Long, Long> MIN_BILL_AMOUNTS = Map.of(1L, 50000L, 2L, 70050L);
+
+    @Test
+    void testBill_SkipsCustomersWithoutPriceOrMeter() {
+        CustomerPage page = new CustomerPage(4);
+        page.add(1, 100, 110, 1, 10);
+        page.add(2, 0, 5000, 1, 5000);
+        page.add(3, 0, 150, 2, 150);
+        page.add(4, 0, 10, 9, 10);
+
+        assertEquals(2, page.bill(TARIFF, TariffMode.FLAT, MIN_BILL_AMOUNTS::get));
+        assertEquals(53000, page.billAmount(0));
+        assertEquals(145050, page.billAmount(1));
+        assertEquals(4, page.lastId());
+        assertEquals(10, page.lastUnitsConsumed());
+    }
+
+    @Test
+    void testRecordStored_CountsOnlyStoredBills() {
+        CustomerPage page = new CustomerPage(3);
+        page.add(1, 100, 110, 1, 10);
+        page.add(2, 0, 150, 2, 150);
+        page.add(3, 0, 20, 1, 20);
+        page.bill(TARIFF, TariffMode.FLAT, MIN_BILL_AMOUNTS::get);
+
+        page.recordStored(new int[]{1, 0, Statement.SUCCESS_NO_INFO});
+
+        assertEquals(2, page.billed());
+        assertEquals(1, page.skipped());
+        assertEquals(53000 + 56000, page.billedAmount());
+
+        page.recordStored(new int[]{Statement.EXECUTE_FAILED, 1, 1});
+
+        assertEquals(2, page.billed());
+        assertEquals(145050 + 56000, page.billedAmount());
+    }
+
+    @Test
+    void testRecordStored_DryRun_CountsEveryBillableCustomer() {
+        CustomerPage page = new CustomerPage(2);
+        page.add(1, 100, 110, 1, 10);
+        page.add(2, 0, 5000, 1, 5000);
+        page.bill(TARIFF, TariffMode.FLAT, MIN_BILL_AMOUNTS::get);
+
+        page.recordStored(null);
+
+        assertEquals(1, page.billed());
+        assertEquals(1, page.skipped());
+        assertEquals(53000, page.billedAmount());
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.electricitymanagement.unittest.billing;
+
+import com.project.electricitymanagement.billing.Money;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for Money.
+ */
+class MoneyTest {
+
+    @Test
+    void testToMinorUnits_RoundsHalfUp() {
+        assertEquals(70000, Money.toMinorUnits(new BigDecimal("700")));
+        assertEquals(1235, Money.toMinorUnits(new BigDecimal("12.345")));
+        assertEquals(1234, Money.toMinorUnits(new BigDecimal("12.3449")));
+        assertEquals(-1235, Money.toMinorUnits(new BigDecimal("-12.345")));
+    }
+
+    @Test
+    void testToMinorUnits_Overflow() {
+        assertThrows(ArithmeticException.class, () -> Money.toMinorUnits(new BigDecimal("1E20")));
+    }
+
+    @Test
+    void testToDecimal_HasTwoPlaces() {
+        assertEquals(new BigDecimal("700.00"), Money.toDecimal(70000));
+        assertEquals(new BigDecimal("0.05"), Money.toDecimal(5));
+    }
+
+    @Test
+    void testToPriceUnits_KeepsFourPlaces() {
+        assertEquals(1347, Money.toPriceUnits(new BigDecimal("0.1347")));
+        assertEquals(50000, Money.toPriceUnits(new BigDecimal("5")));
+        assertEquals(1348, Money.toPriceUnits(new BigDecimal("0.13475")));
+        assertEquals(new BigDecimal("0.1347"), Money.priceToDecimal(1347));
+    }
+
+    @Test
+    void testCharge_RoundsOnce() {
+        assertEquals(2500, Money.charge(5, 50000));
+        //10.5 units at 0.15 cost 1.575.
+        assertEquals(158, Money.charge(10.5, 1500));
+    }
+
+    @Test
+    void testCharge_HalfCentBoundary_RoundsUp() {
+        //1.005 * 10000 is 10049.999999999998 as a double, which would round down to 1.00.
+        assertEquals(101, Money.charge(1.005, Money.toPriceUnits(new BigDecimal("1.0000"))));
+        assertEquals(101, Money.roundCharge(new BigDecimal("10050")));
+        assertEquals(100, Money.roundCharge(new BigDecimal("10049.999")));
+    }
+
+    @Test
+    void testCharge_SubCentPrice() {
+        //150 units at 0.1347 cost 20.205, 1000 units 134.70; a price rounded to 0.13 would bill 19.50 and 130.00.
+        assertEquals(2021, Money.charge(150, Money.toPriceUnits(new BigDecimal("0.1347"))));
+        assertEquals(13470, Money.charge(1000, Money.toPriceUnits(new BigDecimal("0.1347"))));
+    }
+
+    @Test
+    void testSum_IsExact() {
+        long minorUnitsTotal = 0;
+        double doubleTotal = 0;
+        for (int i = 0; i < 10; i++) {
+            minorUnitsTotal += Money.toMinorUnits(new BigDecimal("0.10"));
+            doubleTotal += 0.10;
+        }
+
+        assertEquals(new BigDecimal("1.00"), Money.toDecimal(minorUnitsTotal));
+        assertNotEquals(1.0, doubleTotal);
+    }
+
+    @Test
+    void testSum_MatchesDecimalArithmetic() {
+        Random random = new Random(42);
+        long minorUnitsTotal = 0;
+        BigDecimal decimalTotal = BigDecimal.ZERO;
+        for (int i = 0; i < 100_000; i++) {
+            long bill = random.nextInt(1_000_000);
+            minorUnitsTotal += bill;
+            decimalTotal = decimalTotal.add(Money.toDecimal(bill));
+        }
+
+        assertEquals(decimalTotal, Money.toDecimal(minorUnitsTotal));
+    }
+}
@@ -0,0 +1,338 @@
+package com.project.electricitymanagement.unittest.billing;
+
+import com.project.electricitymanagement.billing.Money;
+import com.project.electricitymanagement.billing.TariffMode;
+import com.project.electricitymanagement.billing.TariffSlabs;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for Tariff Slabs.
+ * The property tests check the binary search and prefix sums against a reference that loops over every slab in exact
+ * decimal arithmetic and rounds half up once, on random tariffs with gaps, unsorted and invalid slabs, and random
+ * consumptions. Each tariff is generated from its own seed, which is reported on failure so that the case can be replayed.
+ */
+class TariffSlabsTest {
+
+    private static final int TARIFFS = 500;
+    private static final int CONSUMPTIONS = 50;
+
+    @Test
+    void testProgressiveChargeFor_SeededTariff() {
+        TariffSlabs slabs = TariffSlabs.of(new int[]{201, 0, 101}, new int[]{300, 100, 200}, new long[]{60000, 30000, 50000});
+
+        assertEquals(0, slabs.progressiveChargeFor(0));
+        assertEquals(100 * 300, slabs.progressiveChargeFor(100));
+        assertEquals(100 * 300 + 500, slabs.progressiveChargeFor(101));
+        assertEquals(100 * 300 + 100 * 500 + 50 * 600 + 300, slabs.progressiveChargeFor(250.5));
+        assertEquals(TariffSlabs.NOT_FOUND, slabs.progressiveChargeFor(100.5));
+        assertEquals(TariffSlabs.NOT_FOUND, slabs.progressiveChargeFor(301));
+    }
+
+    @Test
+    void testProgressiveChargeFor_UnitsInGapAreNotCharged() {
+        TariffSlabs slabs = TariffSlabs.of(new int[]{0, 151}, new int[]{100, 200}, new long[]{30000, 50000});
+
+        assertEquals(TariffSlabs.NOT_FOUND, slabs.progressiveChargeFor(120));
+        assertEquals(100 * 300 + 10 * 500, slabs.progressiveChargeFor(160));
+    }
+
+    @Test
+    void testChargeFor_RoundsHalfUpOnce() {
+        TariffSlabs slabs = TariffSlabs.of(new int[]{0, 101}, new int[]{100, 200}, new long[]{33300, 75500});
+
+        //150.5 units at 7.55 cost 1136.275.
+        assertEquals(113628, slabs.chargeFor(150.5, TariffMode.FLAT));
+        //Only the total of the bands is rounded: 333.00 + 381.275.
+        assertEquals(71428, slabs.chargeFor(150.5, TariffMode.PROGRESSIVE));
+    }
+
+    @Test
+    void testChargeFor_HalfCentBoundary_RoundsUp() {
+        TariffSlabs slabs = TariffSlabs.of(new int[]{0, 3}, new int[]{2, 10}, new long[]{10000, 10000});
+
+        //1.005 units at 1.0000 cost exactly 1.005.
+        assertEquals(101, slabs.chargeFor(1.005, TariffMode.FLAT));
+        //2.00 for the first band plus 1.005 units above 2, where 3.005 - 2 is 1.0049999999999999 as a double.
+        assertEquals(301, slabs.chargeFor(3.005, TariffMode.PROGRESSIVE));
+    }
+
+    @Test
+    void testChargeFor_SubCentPrices() {
+        TariffSlabs slabs = TariffSlabs.of(new int[]{0, 101}, new int[]{100, 200}, new long[]{1347, 2105});
+
+        assertEquals(1347, slabs.priceFor(50));
+        //150 units at 0.2105 cost 31.575.
+        assertEquals(3158, slabs.chargeFor(150, TariffMode.FLAT));
+        //100 units at 0.1347 and 50 at 0.2105 cost 13.47 + 10.525.
+        assertEquals(2400, slabs.chargeFor(150, TariffMode.PROGRESSIVE));
+        //99 units at 0.1347 cost 13.3353.
+        assertEquals(1334, slabs.chargeFor(99, TariffMode.FLAT));
+    }
+
+    @Test
+    void testChargeFor_OverlappingSlabs_OnlySharedUnitsFail() {
+        TariffSlabs slabs = TariffSlabs.of(new int[]{0, 100, 300}, new int[]{100, 200, 400}, new long[]{30000, 50000, 60000});
+
+        assertTrue(slabs.isOverlapping());
+        assertEquals(50 * 300, slabs.chargeFor(50, TariffMode.FLAT));
+        assertEquals(50 * 300, slabs.chargeFor(50, TariffMode.PROGRESSIVE));
+        assertEquals(150 * 500, slabs.chargeFor(150, TariffMode.FLAT));
+        assertEquals(TariffSlabs.NOT_FOUND, slabs.chargeFor(250, TariffMode.FLAT));
+        assertThrows(IllegalStateException.class, () -> slabs.priceFor(100));
+        assertThrows(IllegalStateException.class, () -> slabs.chargeFor(100, TariffMode.FLAT));
+        //The band of the second slab starts inside the first one.
+        assertThrows(IllegalStateException.class, () -> slabs.chargeFor(150, TariffMode.PROGRESSIVE));
+        assertEquals(TariffSlabs.NOT_FOUND, slabs.billableChargeFor(100, TariffMode.FLAT));
+        assertEquals(TariffSlabs.NOT_FOUND, slabs.billableChargeFor(150, TariffMode.PROGRESSIVE));
+    }
+
+    @Test
+    void testPriceFor_SlabInsideAnother() {
+        TariffSlabs slabs = TariffSlabs.of(new int[]{0, 20, 201}, new int[]{200, 30, 300}, new long[]{30000, 50000, 60000});
+
+        assertEquals(30000, slabs.priceFor(10));
+        assertEquals(30000, slabs.priceFor(150));
+        assertEquals(60000, slabs.priceFor(250));
+        assertThrows(IllegalStateException.class, () -> slabs.priceFor(25));
+    }
+
+    @Test
+    void testChargeFor_OverlappingSlabs_MatchesReference() {
+        for (long seed = 1; seed <= TARIFFS; seed++) {
+            Random random = new Random(seed);
+            Tariff tariff = Tariff.overlapping(random);
+            TariffSlabs slabs = TariffSlabs.of(tariff.lowers, tariff.uppers, tariff.prices);
+            for (int i = 0; i < CONSUMPTIONS; i++) {
+                double units = tariff.randomUnits(random);
+                String message = "seed " + seed + ", units " + units;
+                if (tariff.containingSlabs(units) > 1) {
+                    assertThrows(IllegalStateException.class, () -> slabs.chargeFor(units, TariffMode.FLAT), message);
+                } else {
+                    assertEquals(tariff.referenceFlatCharge(units), slabs.chargeFor(units, TariffMode.FLAT), message);
+                }
+                if (tariff.containingSlabs(units) > 0 && tariff.overlapsFrom(units)) {
+                    assertThrows(IllegalStateException.class, () -> slabs.chargeFor(units, TariffMode.PROGRESSIVE), message);
+                } else {
+                    assertEquals(tariff.referenceProgressiveCharge(units), slabs.chargeFor(units, TariffMode.PROGRESSIVE), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testChargeFor_MatchesReference() {
+        for (long seed = 1; seed <= TARIFFS; seed++) {
+            Random random = new Random(seed);
+            Tariff tariff = Tariff.random(random);
+            TariffSlabs slabs = TariffSlabs.of(tariff.lowers, tariff.uppers, tariff.prices);
+            for (int i = 0; i < CONSUMPTIONS; i++) {
+                double units = tariff.randomUnits(random);
+                String message = "seed " + seed + ", units " + units;
+                assertEquals(tariff.referenceProgressiveCharge(units), slabs.chargeFor(units, TariffMode.PROGRESSIVE), message);
+                assertEquals(tariff.referenceFlatCharge(units), slabs.chargeFor(units, TariffMode.FLAT), message);
+            }
+        }
+    }
+
+    @Test
+    void testProgressiveChargeFor_IsMonotonic() {
+        for (long seed = 1; seed <= TARIFFS; seed++) {
+            Random random = new Random(seed);
+            Tariff tariff = Tariff.random(random);
+            TariffSlabs slabs = TariffSlabs.of(tariff.lowers, tariff.uppers, tariff.prices);
+            long previousCharge = 0;
+            for (double units = 0; units <= tariff.maxUpper(); units += 0.5) {
+                long charge = slabs.progressiveChargeFor(units);
+                if (charge != TariffSlabs.NOT_FOUND) {
+                    assertTrue(charge >= previousCharge, "seed " + seed + ", units " + units);
+                    previousCharge = charge;
+                }
+            }
+        }
+    }
+
+    @Test
+    void testProgressiveChargeFor_SinglePriceEqualsFlat() {
+        for (long seed = 1; seed <= TARIFFS; seed++) {
+            Random random = new Random(seed);
+            Tariff tariff = Tariff.contiguous(random, 1 + random.nextInt(10));
+            Arrays.fill(tariff.prices, tariff.prices[0]);
+            TariffSlabs slabs = TariffSlabs.of(tariff.lowers, tariff.uppers, tariff.prices);
+            for (int i = 0; i < CONSUMPTIONS; i++) {
+                double units = random.nextInt(tariff.maxUpper() + 1);
+                assertEquals(slabs.chargeFor(units, TariffMode.FLAT), slabs.chargeFor(units, TariffMode.PROGRESSIVE),
+                        "seed " + seed + ", units " + units);
+            }
+        }
+    }
+
+    /**
+     * Slab columns of a generated tariff, with the reference charges computed by looping over every slab.
+     */
+    private static final class Tariff {
+        private final int[] lowers;
+        private final int[] uppers;
+        private final long[] prices;
+
+        private Tariff(final int[] lowerBounds, final int[] upperBounds, final long[] slabPrices) {
+            this.lowers = lowerBounds;
+            this.uppers = upperBounds;
+            this.prices = slabPrices;
+        }
+
+        /**
+         * Generates consecutive slabs, starting at 0 or 1, with random widths and gaps, in random order,
+         * plus an invalid slab whose lower bound is above its upper bound now and then.
+         */
+        private static Tariff random(final Random random) {
+            int count = 1 + random.nextInt(12);
+            List<int[]> ranges = new ArrayList<>();
+            int lower = random.nextInt(2);
+            for (int i = 0; i < count; i++) {
+                int upper = lower + random.nextInt(200);
+                ranges.add(new int[]{lower, upper});
+                lower = upper + 1 + (random.nextInt(4) == 0 ? random.nextInt(50) : 0);
+            }
+            if (random.nextInt(5) == 0) {
+                ranges.add(new int[]{lower + 10, lower});
+            }
+            Collections.shuffle(ranges, random);
+            int[] lowers = new int[ranges.size()];
+            int[] uppers = new int[ranges.size()];
+            long[] prices = new long[ranges.size()];
+            for (int i = 0; i < ranges.size(); i++) {
+                lowers[i] = ranges.get(i)[0];
+                uppers[i] = ranges.get(i)[1];
+                prices[i] = random.nextInt(200_000);
+            }
+            return new Tariff(lowers, uppers, prices);
+        }
+
+        /**
+         * Generates slabs with random bounds, which overlap more often than not, in random order.
+         */
+        private static Tariff overlapping(final Random random) {
+            int count = 1 + random.nextInt(8);
+            int[] lowers = new int[count];
+            int[] uppers = new int[count];
+            long[] prices = new long[count];
+            for (int i = 0; i < count; i++) {
+                lowers[i] = random.nextInt(500);
+                uppers[i] = lowers[i] + random.nextInt(150);
+                prices[i] = random.nextInt(200_000);
+            }
+            return new Tariff(lowers, uppers, prices);
+        }
+
+        /**
+         * Generates sorted slabs from 0 without gaps.
+         */
+        private static Tariff contiguous(final Random random, final int count) {
+            int[] lowers = new int[count];
+            int[] uppers = new int[count];
+            long[] prices = new long[count];
+            int lower = 0;
+            for (int i = 0; i < count; i++) {
+                lowers[i] = lower;
+                uppers[i] = lower + random.nextInt(200);
+                prices[i] = 100 + random.nextInt(100_000);
+                lower = uppers[i] + 1;
+            }
+            return new Tariff(lowers, uppers, prices);
+        }
+
+        private int maxUpper() {
+            int max = 0;
+            for (int upper : uppers) {
+                max = Math.max(max, upper);
+            }
+            return max;
+        }
+
+        /**
+         * Picks whole, fractional or out of range consumptions, including slab bounds.
+         */
+        private double randomUnits(final Random random) {
+            int slab = random.nextInt(lowers.length);
+            return switch (random.nextInt(4)) {
+                case 0 -> lowers[slab];
+                case 1 -> uppers[slab];
+                case 2 -> random.nextInt(maxUpper() + 20) - 5;
+                default -> random.nextDouble() * (maxUpper() + 20);
+            };
+        }
+
+        private int containingSlab(final double units) {
+            for (int i = 0; i < lowers.length; i++) {
+                if (lowers[i] <= units && units <= uppers[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int containingSlabs(final double units) {
+            int count = 0;
+            for (int i = 0; i < lowers.length; i++) {
+                if (lowers[i] <= units && units <= uppers[i]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Tells whether two valid slabs that start at or below the units share a unit, so the bands up to the units are not defined.
+         */
+        private boolean overlapsFrom(final double units) {
+            for (int i = 0; i < lowers.length; i++) {
+                for (int j = i + 1; j < lowers.length; j++) {
+                    boolean valid = lowers[i] <= uppers[i] && lowers[j] <= uppers[j];
+                    boolean started = lowers[i] <= units && lowers[j] <= units;
+                    if (valid && started && lowers[i] <= uppers[j] && lowers[j] <= uppers[i]) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private long referenceFlatCharge(final double units) {
+            int slab = containingSlab(units);
+            return slab < 0 ? TariffSlabs.NOT_FOUND : round(BigDecimal.valueOf(units).multiply(BigDecimal.valueOf(prices[slab])));
+        }
+
+        private long referenceProgressiveCharge(final double units) {
+            if (containingSlab(units) < 0) {
+                return TariffSlabs.NOT_FOUND;
+            }
+            BigDecimal exactUnits = BigDecimal.valueOf(units);
+            BigDecimal charge = BigDecimal.ZERO;
+            for (int i = 0; i < lowers.length; i++) {
+                if (lowers[i] <= uppers[i] && lowers[i] <= units) {
+                    BigDecimal bandStart = BigDecimal.valueOf(Math.max(lowers[i] - 1, 0));
+                    BigDecimal bandEnd = exactUnits.min(BigDecimal.valueOf(uppers[i]));
+                    charge = charge.add(bandEnd.subtract(bandStart).multiply(BigDecimal.valueOf(prices[i])));
+                }
+            }
+            return round(charge);
+        }
+
+        /**
+         * Rounds a charge in price units half up to minor units.
+         */
+        private static long round(final BigDecimal charge) {
+            return charge.movePointLeft(Money.PRICE_SCALE - Money.SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+    }
+}
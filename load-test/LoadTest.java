@@ -0,0 +1,144 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing the thread modes of the application.
+ * Each client repeatedly sends a GET for one of the given paths, picked at random, and waits for the response.
+ * A summary with the throughput and latency percentiles is printed as one JSON object.
+ *
+ * <p>Run with: {@code java load-test/LoadTest.java [baseUrl] [clients] [seconds] [path...]}
+ * Paths may contain {@code {id}}, which is replaced by a random id between 1 and 100.
+ */
+public final class LoadTest {
+    private static final int MAX_ID = 100;
+    private static final int WARMUP_SECONDS = 5;
+
+    private LoadTest() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args base url, number of clients, duration in seconds and the paths to request.
+     * @throws InterruptedException if interrupted while waiting for the clients.
+     */
+    public static void main(final String[] args) throws InterruptedException {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        List<String> paths = args.length > 3 ? Arrays.asList(args).subList(3, args.length)
+                : List.of("/api/customers/{id}", "/api/customers/{id}/bill", "/api/meters/{id}", "/api/suppliers/{id}",
+                        "/api/customers/page?size=50");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        run(client, baseUrl, paths, clients, WARMUP_SECONDS, null);
+        Stats stats = new Stats();
+        long started = System.nanoTime();
+        run(client, baseUrl, paths, clients, seconds, stats);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        System.out.println(stats.toJson(baseUrl, clients, elapsedSeconds));
+        System.exit(0);
+    }
+
+    private static void run(final HttpClient client, final String baseUrl, final List<String> paths, final int clients,
+            final int seconds, final Stats stats) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            pool.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    String path = paths.get(ThreadLocalRandom.current().nextInt(paths.size()))
+                            .replace("{id}", Integer.toString(ThreadLocalRandom.current().nextInt(1, MAX_ID + 1)));
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        status = -1;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (stats != null) {
+                        stats.record(System.nanoTime() - start, status);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Latencies and outcomes of the measured requests.
+     */
+    private static final class Stats {
+        private final List<long[]> latencies = new ArrayList<>();
+        private final AtomicLong ok = new AtomicLong();
+        private final AtomicLong notFound = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final ThreadLocal<long[]> buffer = new ThreadLocal<>();
+        private final ThreadLocal<int[]> size = new ThreadLocal<>();
+
+        private void record(final long nanos, final int status) {
+            long[] current = buffer.get();
+            int[] count = size.get();
+            if (current == null || count[0] == current.length) {
+                current = new long[1 << 14];
+                count = new int[1];
+                buffer.set(current);
+                size.set(count);
+                synchronized (latencies) {
+                    latencies.add(current);
+                }
+            }
+            current[count[0]++] = nanos;
+            if (status >= 200 && status < 300) {
+                ok.incrementAndGet();
+            } else if (status == 404) {
+                notFound.incrementAndGet();
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+
+        private String toJson(final String baseUrl, final int clients, final double elapsedSeconds) {
+            long[] all;
+            synchronized (latencies) {
+                all = latencies.stream().flatMapToLong(Arrays::stream).filter(nanos -> nanos > 0).sorted().toArray();
+            }
+            long requests = ok.get() + notFound.get() + errors.get();
+            return String.format(Locale.ROOT,
+                    "{\"baseUrl\": \"%s\", \"clients\": %d, \"seconds\": %.1f, \"requests\": %d, \"requestsPerSecond\": %.1f,"
+                            + " \"ok\": %d, \"notFound\": %d, \"errors\": %d,"
+                            + " \"latencyMillis\": {\"p50\": %.2f, \"p95\": %.2f, \"p99\": %.2f, \"max\": %.2f}}",
+                    baseUrl, clients, elapsedSeconds, requests, requests / elapsedSeconds, ok.get(), notFound.get(), errors.get(),
+                    percentile(all, 0.50), percentile(all, 0.95), percentile(all, 0.99), percentile(all, 1.0));
+        }
+
+        private static double percentile(final long[] sorted, final double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
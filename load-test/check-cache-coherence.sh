@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Starts two instances of the application against the same database, changes a meter through the first one and measures
+# how long the second one keeps serving the old meter from its caches.
+#
+# Requires the dev MySQL database (see application-dev.properties).
+# Usage: load-test/check-cache-coherence.sh [meter id]
+set -euo pipefail
+
+METER_ID=${1:-1}
+PORT_A=${PORT_A:-8081}
+PORT_B=${PORT_B:-8082}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+OUT="$ROOT/target/load-test"
+mkdir -p "$OUT"
+
+cd "$ROOT"
+./mvnw -q -DskipTests -pl app -am package
+JAR=$(ls app/target/electricitymanagement-*.jar | grep -v plain | head -n 1)
+
+PIDS=()
+trap 'kill "${PIDS[@]}" 2>/dev/null || true' EXIT
+for port in "$PORT_A" "$PORT_B"; do
+    java -jar "$JAR" --server.port="$port" --spring.profiles.active=dev > "$OUT/coherence-$port.log" 2>&1 &
+    PIDS+=($!)
+done
+for port in "$PORT_A" "$PORT_B"; do
+    until curl -sf "http://localhost:$port/actuator/health" > /dev/null; do
+        sleep 1
+    done
+done
+
+min_bill() {
+    curl -sf "http://localhost:$1/api/meters/$METER_ID" | grep -o '"minBillAmount":[0-9.]*' | cut -d: -f2
+}
+meter() {
+    curl -sf "http://localhost:$1/api/meters/$METER_ID" | grep -o '"loadAmount":[0-9]*' | cut -d: -f2
+}
+
+LOAD=$(meter "$PORT_B")
+ORIGINAL=$(min_bill "$PORT_B")
+CHANGED=$(awk -v amount="$ORIGINAL" 'BEGIN { printf "%.2f", amount + 1 }')
+echo "Meter $METER_ID is cached by instance B with a minimum bill of $ORIGINAL"
+
+curl -sf -X PUT -H 'Content-Type: application/json' -d "{\"loadAmount\":$LOAD,\"minBillAmount\":$CHANGED}" \
+    "http://localhost:$PORT_A/api/meters/$METER_ID" > /dev/null
+STARTED=$(date +%s%N)
+until [ "$(min_bill "$PORT_B")" = "$CHANGED" ]; do
+    sleep 0.05
+done
+echo "Instance B served the new minimum bill of $CHANGED after $((($(date +%s%N) - STARTED) / 1000000)) ms"
+
+curl -sf -X PUT -H 'Content-Type: application/json' -d "{\"loadAmount\":$LOAD,\"minBillAmount\":$ORIGINAL}" \
+    "http://localhost:$PORT_A/api/meters/$METER_ID" > /dev/null
@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Runs the same load against the application started with the Tomcat platform thread pool and with virtual threads,
+# and writes one JSON summary per mode to target/load-test/.
+#
+# Requires the dev MySQL database (see application-dev.properties) and a JDK 21 on the PATH.
+# Usage: load-test/compare-thread-modes.sh [clients] [seconds]
+set -euo pipefail
+
+CLIENTS=${1:-400}
+SECONDS_PER_RUN=${2:-30}
+PORT=${PORT:-8080}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+OUT="$ROOT/target/load-test"
+mkdir -p "$OUT"
+
+cd "$ROOT"
+./mvnw -q -Pjava21 -DskipTests -pl app -am package
+JAR=$(ls app/target/electricitymanagement-*.jar | grep -v plain | head -n 1)
+
+run_mode() {
+    local mode=$1 profiles=$2
+    echo "Starting application in $mode mode"
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+        > "$OUT/$mode-app.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' RETURN
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "Application failed to start, see $OUT/$mode-app.log"; return 1; }
+        sleep 1
+    done
+    java "$ROOT/load-test/LoadTest.java" "http://localhost:$PORT" "$CLIENTS" "$SECONDS_PER_RUN" | tee "$OUT/$mode.json"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform-threads dev
+run_mode virtual-threads dev,virtual-threads
+
+# Pinned carrier threads are reported by -Djdk.tracePinnedThreads in the application log.
+if grep -q "onPinned\|<== monitors" "$OUT/virtual-threads-app.log"; then
+    echo "Virtual threads were pinned, see $OUT/virtual-threads-app.log"
+fi
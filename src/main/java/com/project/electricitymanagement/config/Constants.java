@@ -1,20 +0,0 @@
-package com.project.electricitymanagement.config;
-
-/**
- * Application constants.
- */
-public final class Constants {
-
-    public static final String CUSTOMER = "Customer";
-    public static final String METER = "Meter";
-    public static final String ID = "id";
-    public static final String SUPPLIER = "Supplier";
-    public static final String PRICE_PER_UNIT = "PricePerUnit";
-
-    /**
-     * Private constructor to prevent the instantiation of the Constant class.
-     */
-
-    private Constants() {
-    }
-}